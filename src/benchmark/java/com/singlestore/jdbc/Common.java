@@ -61,6 +61,8 @@ public class Common {
     protected Connection connectionBinaryNoPipeline;
     protected Connection connectionBinaryNoCache;
 
+    protected Connection connectionTextNio;
+
     @Param({"singlestore", "mariadb", "mysql"})
     String driver;
 
@@ -127,6 +129,15 @@ public class Common {
         connectionBinaryNoPipeline =
             ((java.sql.Driver) Class.forName(className).getDeclaredConstructor().newInstance())
                 .connect(jdbcUrlBinaryNoCacheNoPipeline, new Properties());
+
+        String jdbcUrlTextNio =
+            String.format(
+                jdbcBase,
+                driver, host, port, database, username, password, false, true,
+                "&useNioChannel=true" + other);
+        connectionTextNio =
+            ((java.sql.Driver) Class.forName(className).getDeclaredConstructor().newInstance())
+                .connect(jdbcUrlTextNio, new Properties());
       } catch (SQLException e) {
         throw new RuntimeException(e);
       }
@@ -139,6 +150,7 @@ public class Common {
       connectionTextRewrite.close();
       connectionBinaryNoCache.close();
       connectionBinaryNoPipeline.close();
+      connectionTextNio.close();
     }
 
     public static class SetupData {
@@ -0,0 +1,129 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2021-2023 SingleStore, Inc.
+
+package com.singlestore.jdbc;
+
+import com.singlestore.jdbc.client.ColumnDecoder;
+import com.singlestore.jdbc.client.DataType;
+import com.singlestore.jdbc.client.impl.StandardReadableByteBuf;
+import com.singlestore.jdbc.client.result.rowdecoder.DecodePlan;
+import com.singlestore.jdbc.client.util.MutableInt;
+import com.singlestore.jdbc.util.constants.ColumnFlags;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Decoding of text protocol rows mixing many column types, without server: each of 1000 synthetic
+ * rows has 12 columns (TINYINT, SMALLINT, MEDIUMINT, INT, BIGINT, unsigned INT, unsigned BIGINT,
+ * FLOAT, DOUBLE, DECIMAL, VARCHAR, YEAR), all read with getLong / getDouble / getString
+ * equivalents. "columnDecoder" calls the ColumnDecoder interface like before decode plans,
+ * "decodePlan" uses the result decode plan.
+ */
+@State(Scope.Thread)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class Decode_mixed_rows {
+
+  private static final int ROWS = 1000;
+
+  private final ColumnDecoder[] columns = {
+    ColumnDecoder.create("c0", DataType.TINYINT, 0),
+    ColumnDecoder.create("c1", DataType.SMALLINT, 0),
+    ColumnDecoder.create("c2", DataType.MEDIUMINT, 0),
+    ColumnDecoder.create("c3", DataType.INT, 0),
+    ColumnDecoder.create("c4", DataType.BIGINT, 0),
+    ColumnDecoder.create("c5", DataType.INT, ColumnFlags.UNSIGNED),
+    ColumnDecoder.create("c6", DataType.BIGINT, ColumnFlags.UNSIGNED),
+    ColumnDecoder.create("c7", DataType.FLOAT, 0),
+    ColumnDecoder.create("c8", DataType.DOUBLE, 0),
+    ColumnDecoder.create("c9", DataType.DECIMAL, 0),
+    ColumnDecoder.create("c10", DataType.VARCHAR, 0),
+    ColumnDecoder.create("c11", DataType.YEAR, 0)
+  };
+  private final DecodePlan plan = new DecodePlan(columns, false);
+  private final MutableInt length = new MutableInt();
+  private byte[][] rows;
+  private StandardReadableByteBuf buf;
+
+  @Setup
+  public void setup() {
+    Random random = new Random(0);
+    rows = new byte[ROWS][];
+    for (int i = 0; i < ROWS; i++) {
+      String[] values = {
+        String.valueOf(random.nextInt(256) - 128),
+        String.valueOf(random.nextInt(65536) - 32768),
+        String.valueOf(random.nextInt(1 << 24) - (1 << 23)),
+        String.valueOf(random.nextInt()),
+        String.valueOf(random.nextLong()),
+        String.valueOf(random.nextInt() & 0xffffffffL),
+        String.valueOf(random.nextLong() & Long.MAX_VALUE),
+        String.valueOf(random.nextInt(100_000) / 100.0f),
+        String.valueOf(random.nextInt(10_000_000) / 1000.0),
+        String.format("%d.%04d", random.nextInt(1_000_000), random.nextInt(10000)),
+        "value" + random.nextInt(1000),
+        String.valueOf(1901 + random.nextInt(254))
+      };
+      StringBuilder sb = new StringBuilder();
+      for (String val : values) {
+        sb.append((char) val.length()).append(val);
+      }
+      rows[i] = sb.toString().getBytes(StandardCharsets.US_ASCII);
+    }
+    buf = new StandardReadableByteBuf(null, 0);
+  }
+
+  @Benchmark
+  public void columnDecoder(Blackhole bh) throws SQLException {
+    for (byte[] row : rows) {
+      buf.buf(row, row.length, 0);
+      for (int i = 0; i < 7; i++) {
+        length.set(buf.readLength());
+        bh.consume(columns[i].decodeLongText(buf, length));
+      }
+      for (int i = 7; i < 10; i++) {
+        length.set(buf.readLength());
+        bh.consume(columns[i].decodeDoubleText(buf, length));
+      }
+      length.set(buf.readLength());
+      bh.consume(columns[10].decodeStringText(buf, length, null));
+      length.set(buf.readLength());
+      bh.consume(columns[11].decodeIntText(buf, length));
+    }
+  }
+
+  @Benchmark
+  public void decodePlan(Blackhole bh) throws SQLException {
+    for (byte[] row : rows) {
+      buf.buf(row, row.length, 0);
+      for (int i = 0; i < 7; i++) {
+        length.set(buf.readLength());
+        bh.consume(plan.decodeLong(i, buf, length));
+      }
+      for (int i = 7; i < 10; i++) {
+        length.set(buf.readLength());
+        bh.consume(plan.decodeDouble(i, buf, length));
+      }
+      length.set(buf.readLength());
+      bh.consume(plan.decodeString(10, buf, length));
+      length.set(buf.readLength());
+      bh.consume(plan.decodeInt(11, buf, length));
+    }
+  }
+}
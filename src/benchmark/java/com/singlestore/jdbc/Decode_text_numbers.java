@@ -0,0 +1,89 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2021-2023 SingleStore, Inc.
+
+package com.singlestore.jdbc;
+
+import com.singlestore.jdbc.client.ColumnDecoder;
+import com.singlestore.jdbc.client.DataType;
+import com.singlestore.jdbc.client.impl.StandardReadableByteBuf;
+import com.singlestore.jdbc.client.util.MutableInt;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Decoding of numeric values from text protocol rows, without server: 1000 synthetic rows of
+ * (DOUBLE, FLOAT, DECIMAL(18,4)) are decoded with column decoders.
+ */
+@State(Scope.Thread)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class Decode_text_numbers {
+
+  private static final int ROWS = 1000;
+
+  private final ColumnDecoder doubleColumn = ColumnDecoder.create("d", DataType.DOUBLE, 0);
+  private final ColumnDecoder floatColumn = ColumnDecoder.create("f", DataType.FLOAT, 0);
+  private final ColumnDecoder decimalColumn = ColumnDecoder.create("n", DataType.DECIMAL, 0);
+  private final MutableInt length = new MutableInt();
+  private byte[][] rows;
+  private StandardReadableByteBuf buf;
+
+  @Setup
+  public void setup() {
+    Random random = new Random(0);
+    rows = new byte[ROWS][];
+    for (int i = 0; i < ROWS; i++) {
+      String d = String.valueOf(random.nextInt(10_000_000) / 1000.0);
+      String f = String.valueOf(random.nextInt(100_000) / 100.0f);
+      String n = String.format("%d.%04d", random.nextInt(1_000_000) - 500_000, random.nextInt(10000));
+      StringBuilder sb = new StringBuilder();
+      for (String val : new String[] {d, f, n}) {
+        sb.append((char) val.length()).append(val);
+      }
+      rows[i] = sb.toString().getBytes(StandardCharsets.US_ASCII);
+    }
+    buf = new StandardReadableByteBuf(null, 0);
+  }
+
+  @Benchmark
+  public void defaultObjects(Blackhole bh) throws SQLException {
+    for (byte[] row : rows) {
+      buf.buf(row, row.length, 0);
+      length.set(buf.readLength());
+      bh.consume(doubleColumn.getDefaultText(null, buf, length));
+      length.set(buf.readLength());
+      bh.consume(floatColumn.getDefaultText(null, buf, length));
+      length.set(buf.readLength());
+      bh.consume(decimalColumn.getDefaultText(null, buf, length));
+    }
+  }
+
+  @Benchmark
+  public void primitives(Blackhole bh) throws SQLException {
+    for (byte[] row : rows) {
+      buf.buf(row, row.length, 0);
+      length.set(buf.readLength());
+      bh.consume(doubleColumn.decodeDoubleText(buf, length));
+      length.set(buf.readLength());
+      bh.consume(floatColumn.decodeFloatText(buf, length));
+      length.set(buf.readLength());
+      bh.consume(decimalColumn.decodeLongText(buf, length));
+    }
+  }
+}
@@ -0,0 +1,90 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2021-2023 SingleStore, Inc.
+
+package com.singlestore.jdbc;
+
+import com.singlestore.jdbc.pool.ConnectionBag;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Pool borrow / return under contention, without server: 64 threads borrow a connection, simulate
+ * some work, and return it. Connections are in-process stand-ins, so only the pool container is
+ * measured. "deque" is the previous LinkedBlockingDeque idle list (pollFirst, contains check then
+ * addFirst on return), "bag" the pool ConnectionBag.
+ */
+@State(Scope.Benchmark)
+@Warmup(iterations = 10, time = 1)
+@Measurement(iterations = 10, time = 1)
+@Fork(value = 5)
+@Threads(64)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class Pool_contention {
+
+  @Param({"8", "32"})
+  int poolSize;
+
+  private ConnectionBag<StandIn> bag;
+  private LinkedBlockingDeque<StandIn> deque;
+
+  @Setup
+  public void setup() {
+    bag = new ConnectionBag<>();
+    deque = new LinkedBlockingDeque<>();
+    for (int i = 0; i < poolSize; i++) {
+      bag.add(new StandIn());
+      deque.addFirst(new StandIn());
+    }
+  }
+
+  @Benchmark
+  public void bag(Blackhole blackhole) throws InterruptedException {
+    StandIn con = bag.borrow(1, TimeUnit.SECONDS);
+    Blackhole.consumeCPU(100);
+    blackhole.consume(con);
+    bag.requite(con);
+  }
+
+  @Benchmark
+  public void deque(Blackhole blackhole) throws InterruptedException {
+    StandIn con = deque.pollFirst(1, TimeUnit.SECONDS);
+    Blackhole.consumeCPU(100);
+    blackhole.consume(con);
+    if (!deque.contains(con)) deque.addFirst(con);
+  }
+
+  /** stand-in for a pooled connection */
+  private static final class StandIn implements ConnectionBag.Entry {
+    private final AtomicInteger state = new AtomicInteger();
+
+    @Override
+    public int getState() {
+      return state.get();
+    }
+
+    @Override
+    public void setState(int state) {
+      this.state.set(state);
+    }
+
+    @Override
+    public boolean compareAndSetState(int expect, int update) {
+      return state.compareAndSet(expect, update);
+    }
+  }
+}
@@ -27,6 +27,11 @@ public class Select_10000_Rows extends Common {
     return run(state.connectionBinary);
   }
 
+  @Benchmark
+  public String[] textNio(MyState state) throws Throwable {
+    return run(state.connectionTextNio);
+  }
+
   private String[] run(Connection con) throws Throwable {
     try (PreparedStatement st = con.prepareStatement(sql)) {
 
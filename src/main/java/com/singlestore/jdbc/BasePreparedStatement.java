@@ -6,30 +6,32 @@
 package com.singlestore.jdbc;
 
 import com.singlestore.jdbc.client.ColumnDecoder;
+import com.singlestore.jdbc.client.Context;
 import com.singlestore.jdbc.client.util.Parameters;
-import com.singlestore.jdbc.codec.NonNullParameter;
+import com.singlestore.jdbc.codec.BooleanParameter;
+import com.singlestore.jdbc.codec.ByteParameter;
+import com.singlestore.jdbc.codec.DoubleParameter;
+import com.singlestore.jdbc.codec.FloatParameter;
+import com.singlestore.jdbc.codec.IntParameter;
+import com.singlestore.jdbc.codec.LongParameter;
 import com.singlestore.jdbc.codec.Parameter;
 import com.singlestore.jdbc.codec.ParameterWithCal;
+import com.singlestore.jdbc.codec.ShortParameter;
 import com.singlestore.jdbc.export.ExceptionFactory;
 import com.singlestore.jdbc.export.Prepare;
 import com.singlestore.jdbc.plugin.Codec;
 import com.singlestore.jdbc.plugin.codec.BigDecimalCodec;
 import com.singlestore.jdbc.plugin.codec.BlobCodec;
-import com.singlestore.jdbc.plugin.codec.BooleanCodec;
 import com.singlestore.jdbc.plugin.codec.ByteArrayCodec;
-import com.singlestore.jdbc.plugin.codec.ByteCodec;
 import com.singlestore.jdbc.plugin.codec.ClobCodec;
 import com.singlestore.jdbc.plugin.codec.DateCodec;
-import com.singlestore.jdbc.plugin.codec.DoubleCodec;
-import com.singlestore.jdbc.plugin.codec.FloatCodec;
-import com.singlestore.jdbc.plugin.codec.IntCodec;
-import com.singlestore.jdbc.plugin.codec.LongCodec;
 import com.singlestore.jdbc.plugin.codec.ReaderCodec;
-import com.singlestore.jdbc.plugin.codec.ShortCodec;
 import com.singlestore.jdbc.plugin.codec.StreamCodec;
 import com.singlestore.jdbc.plugin.codec.StringCodec;
 import com.singlestore.jdbc.plugin.codec.TimeCodec;
 import com.singlestore.jdbc.plugin.codec.TimestampCodec;
+import com.singlestore.jdbc.pool.Pool;
+import com.singlestore.jdbc.util.EncodedBatchParameters;
 import com.singlestore.jdbc.util.ParameterList;
 import java.io.InputStream;
 import java.io.Reader;
@@ -72,6 +74,12 @@ public abstract class BasePreparedStatement extends Statement implements Prepare
   /** PREPARE command result */
   protected Prepare prepareResult = null;
 
+  /** key in connection statement cache, null if statement must not be cached when closed */
+  StatementCache.Key cacheKey;
+
+  /** statement is executing a chunk of a parallel batch, see {@link ParallelBatch} */
+  boolean parallelChunk;
+
   /**
    * Constructor
    *
@@ -93,8 +101,95 @@ public abstract class BasePreparedStatement extends Statement implements Prepare
       int defaultFetchSize) {
     super(con, lock, autoGeneratedKeys, resultSetType, resultSetConcurrency, defaultFetchSize);
     this.sql = sql;
+    this.poolable = true;
+  }
+
+  /**
+   * Release PREPARE result when statement is really closed.
+   *
+   * @throws SQLException if releasing fails
+   */
+  protected abstract void releasePrepareResult() throws SQLException;
+
+  /**
+   * Execute batch spread over connections of the internal pool this connection comes from, if
+   * option parallelBatchConnections permits it.
+   *
+   * @return update counts, or null if batch must be executed on this connection only
+   * @throws SQLException if any chunk of batch fails
+   */
+  protected long[] executeParallelBatch() throws SQLException {
+    if (parallelChunk
+        || autoGeneratedKeys == java.sql.Statement.RETURN_GENERATED_KEYS
+        || localInfileInputStream != null) return null;
+    int chunks =
+        ParallelBatch.chunks(
+            con.getContext().getConf().parallelBatchConnections(), batchParameters.size());
+    if (chunks < 2 || !con.getAutoCommit()) return null;
+    Pool pool = con.pool();
+    if (pool == null) return null;
+    try {
+      return ParallelBatch.execute(this, pool, chunks);
+    } finally {
+      batchParameters.clear();
+    }
+  }
+
+  /**
+   * Execute batch spread over pooled connections, see {@link #executeParallelBatch()}.
+   *
+   * @return update counts, or null if batch must be executed on this connection only
+   * @throws SQLException if any chunk of batch fails
+   */
+  protected int[] executeParallelBatchInt() throws SQLException {
+    long[] largeUpdates = executeParallelBatch();
+    if (largeUpdates == null) return null;
+    int[] updates = new int[largeUpdates.length];
+    for (int i = 0; i < updates.length; i++) {
+      updates[i] = (int) largeUpdates[i];
+    }
+    return updates;
+  }
+
+  /**
+   * Return statement to connection statement cache instead of closing it, if statement cache is
+   * enabled and statement is poolable. Statement stays closed, keeping its PREPARE result for a
+   * next statement with same SQL, see {@link #reuse()}.
+   *
+   * @return true if statement has been cached
+   * @throws SQLException if closing current results fails
+   */
+  protected boolean returnToCache() throws SQLException {
+    if (closed || !poolable || cacheKey == null) return false;
+    try {
+      closeForReuse();
+    } catch (SQLException e) {
+      cacheKey = null;
+      close();
+      throw e;
+    }
+    if (!con.cacheStatement(this)) return false;
+    con.fireStatementClosed(this);
+    return true;
+  }
+
+  @Override
+  protected void closeForReuse() throws SQLException {
+    super.closeForReuse();
+    parameters = new ParameterList();
+    batchParameters = null;
   }
 
+  /**
+   * Create a new statement from this closed statement taken from connection statement cache. New
+   * statement takes over parsed SQL and PREPARE result, while this statement stays closed: handles
+   * still referencing it cannot use the new one.
+   *
+   * @return new statement
+   * @throws SQLException if PREPARE result cannot be transferred
+   */
+  abstract BasePreparedStatement reuse() throws SQLException;
+
   @Override
   public String toString() {
     StringBuilder sb = new StringBuilder("sql:'" + sql + "'");
@@ -317,7 +412,7 @@ public abstract class BasePreparedStatement extends Statement implements Prepare
   @Override
   public void setBoolean(int parameterIndex, boolean x) throws SQLException {
     checkIndex(parameterIndex);
-    parameters.set(parameterIndex - 1, new NonNullParameter<>(BooleanCodec.INSTANCE, x));
+    parameters.set(parameterIndex - 1, x ? BooleanParameter.TRUE : BooleanParameter.FALSE);
   }
 
   /**
@@ -333,7 +428,7 @@ public abstract class BasePreparedStatement extends Statement implements Prepare
   @Override
   public void setByte(int parameterIndex, byte x) throws SQLException {
     checkIndex(parameterIndex);
-    parameters.set(parameterIndex - 1, new NonNullParameter<>(ByteCodec.INSTANCE, x));
+    parameters.set(parameterIndex - 1, new ByteParameter(x));
   }
 
   /**
@@ -349,7 +444,7 @@ public abstract class BasePreparedStatement extends Statement implements Prepare
   @Override
   public void setShort(int parameterIndex, short x) throws SQLException {
     checkIndex(parameterIndex);
-    parameters.set(parameterIndex - 1, new NonNullParameter<>(ShortCodec.INSTANCE, x));
+    parameters.set(parameterIndex - 1, new ShortParameter(x));
   }
 
   /**
@@ -365,7 +460,7 @@ public abstract class BasePreparedStatement extends Statement implements Prepare
   @Override
   public void setInt(int parameterIndex, int x) throws SQLException {
     checkIndex(parameterIndex);
-    parameters.set(parameterIndex - 1, new NonNullParameter<>(IntCodec.INSTANCE, x));
+    parameters.set(parameterIndex - 1, new IntParameter(x));
   }
 
   /**
@@ -381,7 +476,7 @@ public abstract class BasePreparedStatement extends Statement implements Prepare
   @Override
   public void setLong(int parameterIndex, long x) throws SQLException {
     checkIndex(parameterIndex);
-    parameters.set(parameterIndex - 1, new NonNullParameter<>(LongCodec.INSTANCE, x));
+    parameters.set(parameterIndex - 1, new LongParameter(x));
   }
 
   /**
@@ -397,7 +492,7 @@ public abstract class BasePreparedStatement extends Statement implements Prepare
   @Override
   public void setFloat(int parameterIndex, float x) throws SQLException {
     checkIndex(parameterIndex);
-    parameters.set(parameterIndex - 1, new NonNullParameter<>(FloatCodec.INSTANCE, x));
+    parameters.set(parameterIndex - 1, new FloatParameter(x));
   }
 
   /**
@@ -413,7 +508,7 @@ public abstract class BasePreparedStatement extends Statement implements Prepare
   @Override
   public void setDouble(int parameterIndex, double x) throws SQLException {
     checkIndex(parameterIndex);
-    parameters.set(parameterIndex - 1, new NonNullParameter<>(DoubleCodec.INSTANCE, x));
+    parameters.set(parameterIndex - 1, new DoubleParameter(x));
   }
 
   /**
@@ -616,6 +711,21 @@ public abstract class BasePreparedStatement extends Statement implements Prepare
     super.clearBatch();
   }
 
+  /**
+   * Create batch parameters list, encoding parameters when added if {@link
+   * Configuration#preEncodeBatch()} is set.
+   *
+   * @param binary parameters are sent in binary format
+   * @return batch parameters list
+   */
+  protected List<Parameters> newBatchParameters(boolean binary) {
+    Context context = con.getContext();
+    if (context.getConf().preEncodeBatch()) {
+      return new EncodedBatchParameters(context, binary);
+    }
+    return new ArrayList<>();
+  }
+
   /**
    * Sets the value of the designated parameter with the given object.
    *
@@ -1271,12 +1381,11 @@ public abstract class BasePreparedStatement extends Statement implements Prepare
       }
     }
 
-    for (Codec<?> codec : con.getContext().getConf().codecs()) {
-      if (codec.canEncode(obj)) {
-        Parameter p = new Parameter(codec, obj, scaleOrLength);
-        parameters.set(parameterIndex - 1, p);
-        return;
-      }
+    Codec<?> codec = con.getContext().getConf().codecDispatcher().encoder(obj);
+    if (codec != null) {
+      Parameter p = new Parameter(codec, obj, scaleOrLength);
+      parameters.set(parameterIndex - 1, p);
+      return;
     }
 
     throw new SQLException(String.format("Type %s not supported type", obj.getClass().getName()));
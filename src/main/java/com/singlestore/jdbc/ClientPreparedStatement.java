@@ -52,14 +52,35 @@ public class ClientPreparedStatement extends BasePreparedStatement {
       int resultSetType,
       int resultSetConcurrency,
       int defaultFetchSize) {
+    this(
+        sql,
+        ClientParser.parameterParts(sql),
+        con,
+        lock,
+        autoGeneratedKeys,
+        resultSetType,
+        resultSetConcurrency,
+        defaultFetchSize);
+  }
+
+  private ClientPreparedStatement(
+      String sql,
+      ClientParser parser,
+      Connection con,
+      ReentrantLock lock,
+      int autoGeneratedKeys,
+      int resultSetType,
+      int resultSetConcurrency,
+      int defaultFetchSize) {
     super(sql, con, lock, autoGeneratedKeys, resultSetType, resultSetConcurrency, defaultFetchSize);
-    parser = ClientParser.parameterParts(sql);
+    this.parser = parser;
     parameters = new ParameterList(parser.getParamCount());
   }
 
   private void executeInternal() throws SQLException {
     checkNotClosed();
     validParameters();
+    con.countExecution(sql);
     lock.lock();
     try {
       QueryWithParametersPacket query =
@@ -87,6 +108,7 @@ public class ClientPreparedStatement extends BasePreparedStatement {
 
   private void executeInternalPreparedBatch() throws SQLException {
     checkNotClosed();
+    con.countExecution(sql);
     Configuration conf = con.getContext().getConf();
     if (conf.rewriteBatchedStatements()
         && parser.isRewriteBatchedApplicable()
@@ -318,7 +340,7 @@ public class ClientPreparedStatement extends BasePreparedStatement {
   @Override
   public void addBatch() throws SQLException {
     validParameters();
-    if (batchParameters == null) batchParameters = new ArrayList<>();
+    if (batchParameters == null) batchParameters = newBatchParameters(false);
     batchParameters.add(parameters);
     parameters = parameters.clone();
   }
@@ -336,7 +358,7 @@ public class ClientPreparedStatement extends BasePreparedStatement {
   public void clearBatch() throws SQLException {
     checkNotClosed();
     if (batchParameters == null) {
-      batchParameters = new ArrayList<>();
+      batchParameters = newBatchParameters(false);
     } else {
       batchParameters.clear();
     }
@@ -434,6 +456,8 @@ public class ClientPreparedStatement extends BasePreparedStatement {
   public int[] executeBatch() throws SQLException {
     checkNotClosed();
     if (batchParameters == null || batchParameters.isEmpty()) return new int[0];
+    int[] parallelUpdates = executeParallelBatchInt();
+    if (parallelUpdates != null) return parallelUpdates;
     lock.lock();
     try {
       executeInternalPreparedBatch();
@@ -461,6 +485,8 @@ public class ClientPreparedStatement extends BasePreparedStatement {
   public long[] executeLargeBatch() throws SQLException {
     checkNotClosed();
     if (batchParameters == null || batchParameters.isEmpty()) return new long[0];
+    long[] parallelUpdates = executeParallelBatch();
+    if (parallelUpdates != null) return parallelUpdates;
     lock.lock();
     try {
       executeInternalPreparedBatch();
@@ -483,6 +509,14 @@ public class ClientPreparedStatement extends BasePreparedStatement {
 
   @Override
   public void close() throws SQLException {
+    if (returnToCache()) return;
+    releasePrepareResult();
+    con.fireStatementClosed(this);
+    super.close();
+  }
+
+  @Override
+  protected void releasePrepareResult() throws SQLException {
     if (prepareResult != null) {
       lock.lock();
       try {
@@ -491,8 +525,23 @@ public class ClientPreparedStatement extends BasePreparedStatement {
         lock.unlock();
       }
     }
-    con.fireStatementClosed(this);
-    super.close();
+  }
+
+  @Override
+  BasePreparedStatement reuse() {
+    ClientPreparedStatement stmt =
+        new ClientPreparedStatement(
+            sql,
+            parser,
+            con,
+            lock,
+            autoGeneratedKeys,
+            resultSetType,
+            resultSetConcurrency,
+            con.getContext().getConf().defaultFetchSize());
+    stmt.prepareResult = prepareResult;
+    prepareResult = null;
+    return stmt;
   }
 
   @Override
@@ -5,6 +5,7 @@
 
 package com.singlestore.jdbc;
 
+import com.singlestore.jdbc.client.util.CodecDispatcher;
 import com.singlestore.jdbc.export.HaMode;
 import com.singlestore.jdbc.export.SslMode;
 import com.singlestore.jdbc.plugin.Codec;
@@ -94,6 +95,7 @@ public class Configuration {
   private String localSocketAddress = null;
   private int socketTimeout = 0;
   private boolean useReadAheadInput = false;
+  private boolean useNioChannel = false;
   private String tlsSocketType = null;
 
   // SSL
@@ -115,10 +117,15 @@ public class Configuration {
   private boolean useCompression = false;
   private boolean useAffectedRows = false;
   private boolean disablePipeline = false;
+  private boolean pipelinePrepare = false;
+  private int pipelineWindowSize = 131072;
 
   // prepare
   private boolean cachePrepStmts = true;
+  private boolean prepStmtCacheFrequencyAdmission = false;
   private int prepStmtCacheSize = 250;
+  private int prepareThreshold = 0;
+  private int statementCacheSize = 0;
   private boolean useServerPrepStmts = false;
 
   // authentication
@@ -149,12 +156,20 @@ public class Configuration {
   private int maxIdleTime = 600_000;
   private boolean registerJmxPool = true;
   private int poolValidMinDelay = 1000;
+  private int poolCreateConcurrency = 1;
+  private boolean poolAsyncReset = false;
+  private int poolKeepAliveInterval = 0;
+  private boolean poolAdaptiveSizing = false;
   private boolean useResetConnection = false;
 
   private Codec<?>[] codecs = null;
+  private CodecDispatcher codecDispatcher = null;
 
   private boolean useMysqlVersion = false;
   private boolean rewriteBatchedStatements = false;
+  private boolean binaryBatchRewrite = false;
+  private int parallelBatchConnections = 0;
+  private boolean preEncodeBatch = false;
   private String consoleLogLevel = null;
   private String consoleLogFilepath = null;
   private boolean printStackTrace = false;
@@ -192,6 +207,7 @@ public class Configuration {
       String localSocketAddress,
       int socketTimeout,
       boolean useReadAheadInput,
+      boolean useNioChannel,
       String tlsSocketType,
       SslMode sslMode,
       String serverSslCert,
@@ -209,8 +225,13 @@ public class Configuration {
       boolean useCompression,
       boolean useAffectedRows,
       boolean disablePipeline,
+      boolean pipelinePrepare,
+      int pipelineWindowSize,
       boolean cachePrepStmts,
+      boolean prepStmtCacheFrequencyAdmission,
       int prepStmtCacheSize,
+      int prepareThreshold,
+      int statementCacheSize,
       boolean useServerPrepStmts,
       CredentialPlugin credentialType,
       String sessionVariables,
@@ -233,9 +254,16 @@ public class Configuration {
       int maxIdleTime,
       boolean registerJmxPool,
       int poolValidMinDelay,
+      int poolCreateConcurrency,
+      boolean poolAsyncReset,
+      int poolKeepAliveInterval,
+      boolean poolAdaptiveSizing,
       boolean useResetConnection,
       boolean useMysqlVersion,
       boolean rewriteBatchedStatements,
+      boolean binaryBatchRewrite,
+      int parallelBatchConnections,
+      boolean preEncodeBatch,
       String consoleLogLevel,
       String consoleLogFilepath,
       boolean printStackTrace,
@@ -267,6 +295,7 @@ public class Configuration {
     this.localSocketAddress = localSocketAddress;
     this.socketTimeout = socketTimeout;
     this.useReadAheadInput = useReadAheadInput;
+    this.useNioChannel = useNioChannel;
     this.tlsSocketType = tlsSocketType;
     this.sslMode = sslMode;
     this.serverSslCert = serverSslCert;
@@ -284,8 +313,13 @@ public class Configuration {
     this.useCompression = useCompression;
     this.useAffectedRows = useAffectedRows;
     this.disablePipeline = disablePipeline;
+    this.pipelinePrepare = pipelinePrepare;
+    this.pipelineWindowSize = pipelineWindowSize;
     this.cachePrepStmts = cachePrepStmts;
+    this.prepStmtCacheFrequencyAdmission = prepStmtCacheFrequencyAdmission;
     this.prepStmtCacheSize = prepStmtCacheSize;
+    this.prepareThreshold = prepareThreshold;
+    this.statementCacheSize = statementCacheSize;
     this.useServerPrepStmts = useServerPrepStmts;
     this.credentialType = credentialType;
     this.sessionVariables = sessionVariables;
@@ -308,9 +342,16 @@ public class Configuration {
     this.maxIdleTime = maxIdleTime;
     this.registerJmxPool = registerJmxPool;
     this.poolValidMinDelay = poolValidMinDelay;
+    this.poolCreateConcurrency = poolCreateConcurrency;
+    this.poolAsyncReset = poolAsyncReset;
+    this.poolKeepAliveInterval = poolKeepAliveInterval;
+    this.poolAdaptiveSizing = poolAdaptiveSizing;
     this.useResetConnection = useResetConnection;
     this.useMysqlVersion = useMysqlVersion;
     this.rewriteBatchedStatements = rewriteBatchedStatements;
+    this.binaryBatchRewrite = binaryBatchRewrite;
+    this.parallelBatchConnections = parallelBatchConnections;
+    this.preEncodeBatch = preEncodeBatch;
     this.consoleLogLevel = consoleLogLevel;
     this.consoleLogFilepath = consoleLogFilepath;
     this.printStackTrace = printStackTrace;
@@ -351,8 +392,12 @@ public class Configuration {
       Boolean yearIsDateType,
       Boolean dumpQueriesOnException,
       Integer prepStmtCacheSize,
+      Integer prepareThreshold,
+      Integer statementCacheSize,
       Boolean useAffectedRows,
       Boolean disablePipeline,
+      Boolean pipelinePrepare,
+      Integer pipelineWindowSize,
       Boolean useServerPrepStmts,
       String connectionAttributes,
       Boolean autocommit,
@@ -373,6 +418,10 @@ public class Configuration {
       Integer maxIdleTime,
       Boolean registerJmxPool,
       Integer poolValidMinDelay,
+      Integer poolCreateConcurrency,
+      Boolean poolAsyncReset,
+      Integer poolKeepAliveInterval,
+      Boolean poolAdaptiveSizing,
       Boolean useResetConnection,
       String serverSslCert,
       String trustStore,
@@ -383,7 +432,9 @@ public class Configuration {
       String keyPassword,
       String keyStoreType,
       Boolean useReadAheadInput,
+      Boolean useNioChannel,
       Boolean cachePrepStmts,
+      Boolean prepStmtCacheFrequencyAdmission,
       Boolean transactionReplay,
       Integer transactionReplaySize,
       String geometryDefaultType,
@@ -391,6 +442,9 @@ public class Configuration {
       Properties nonMappedOptions,
       Boolean useMysqlVersion,
       Boolean rewriteBatchedStatements,
+      Boolean binaryBatchRewrite,
+      Integer parallelBatchConnections,
+      Boolean preEncodeBatch,
       String consoleLogLevel,
       String consoleLogFilepath,
       Boolean printStackTrace,
@@ -451,8 +505,12 @@ public class Configuration {
     if (yearIsDateType != null) this.yearIsDateType = yearIsDateType;
     if (dumpQueriesOnException != null) this.dumpQueriesOnException = dumpQueriesOnException;
     if (prepStmtCacheSize != null) this.prepStmtCacheSize = prepStmtCacheSize;
+    if (prepareThreshold != null) this.prepareThreshold = prepareThreshold;
+    if (statementCacheSize != null) this.statementCacheSize = statementCacheSize;
     if (useAffectedRows != null) this.useAffectedRows = useAffectedRows;
     if (disablePipeline != null) this.disablePipeline = disablePipeline;
+    if (pipelinePrepare != null) this.pipelinePrepare = pipelinePrepare;
+    if (pipelineWindowSize != null) this.pipelineWindowSize = pipelineWindowSize;
     if (useServerPrepStmts != null) this.useServerPrepStmts = useServerPrepStmts;
     this.connectionAttributes = connectionAttributes;
     if (autocommit != null) this.autocommit = autocommit;
@@ -486,9 +544,16 @@ public class Configuration {
     }
     if (registerJmxPool != null) this.registerJmxPool = registerJmxPool;
     if (poolValidMinDelay != null) this.poolValidMinDelay = poolValidMinDelay;
+    if (poolCreateConcurrency != null) this.poolCreateConcurrency = poolCreateConcurrency;
+    if (poolAsyncReset != null) this.poolAsyncReset = poolAsyncReset;
+    if (poolKeepAliveInterval != null) this.poolKeepAliveInterval = poolKeepAliveInterval;
+    if (poolAdaptiveSizing != null) this.poolAdaptiveSizing = poolAdaptiveSizing;
     if (useResetConnection != null) this.useResetConnection = useResetConnection;
     if (useReadAheadInput != null) this.useReadAheadInput = useReadAheadInput;
+    if (useNioChannel != null) this.useNioChannel = useNioChannel;
     if (cachePrepStmts != null) this.cachePrepStmts = cachePrepStmts;
+    if (prepStmtCacheFrequencyAdmission != null)
+      this.prepStmtCacheFrequencyAdmission = prepStmtCacheFrequencyAdmission;
     if (transactionReplay != null) this.transactionReplay = transactionReplay;
     if (transactionReplaySize != null) this.transactionReplaySize = transactionReplaySize;
     if (geometryDefaultType != null) this.geometryDefaultType = geometryDefaultType;
@@ -503,6 +568,9 @@ public class Configuration {
     if (keyStoreType != null) this.keyStoreType = keyStoreType;
     if (useMysqlVersion != null) this.useMysqlVersion = useMysqlVersion;
     if (rewriteBatchedStatements != null) this.rewriteBatchedStatements = rewriteBatchedStatements;
+    if (binaryBatchRewrite != null) this.binaryBatchRewrite = binaryBatchRewrite;
+    if (parallelBatchConnections != null) this.parallelBatchConnections = parallelBatchConnections;
+    if (preEncodeBatch != null) this.preEncodeBatch = preEncodeBatch;
 
     // *************************************************************
     // host primary check
@@ -791,7 +859,8 @@ public class Configuration {
     StringBuilder sbDefaultOpts = new StringBuilder();
     StringBuilder sbDifferentOpts = new StringBuilder();
     try {
-      List<String> propertyToSkip = Arrays.asList("initialUrl", "logger", "codecs", "$jacocoData");
+      List<String> propertyToSkip =
+          Arrays.asList("initialUrl", "logger", "codecs", "codecDispatcher", "$jacocoData");
       Field[] fields = Configuration.class.getDeclaredFields();
       Arrays.sort(fields, Comparator.comparing(Field::getName));
 
@@ -896,6 +965,7 @@ public class Configuration {
         this.localSocketAddress,
         this.socketTimeout,
         this.useReadAheadInput,
+        this.useNioChannel,
         this.tlsSocketType,
         this.sslMode,
         this.serverSslCert,
@@ -913,8 +983,13 @@ public class Configuration {
         this.useCompression,
         this.useAffectedRows,
         this.disablePipeline,
+        this.pipelinePrepare,
+        this.pipelineWindowSize,
         this.cachePrepStmts,
+        this.prepStmtCacheFrequencyAdmission,
         this.prepStmtCacheSize,
+        this.prepareThreshold,
+        this.statementCacheSize,
         this.useServerPrepStmts,
         this.credentialType,
         this.sessionVariables,
@@ -937,9 +1012,16 @@ public class Configuration {
         this.maxIdleTime,
         this.registerJmxPool,
         this.poolValidMinDelay,
+        this.poolCreateConcurrency,
+        this.poolAsyncReset,
+        this.poolKeepAliveInterval,
+        this.poolAdaptiveSizing,
         this.useResetConnection,
         this.useMysqlVersion,
         this.rewriteBatchedStatements,
+        this.binaryBatchRewrite,
+        this.parallelBatchConnections,
+        this.preEncodeBatch,
         this.consoleLogLevel,
         this.consoleLogFilepath,
         this.printStackTrace,
@@ -1318,6 +1400,35 @@ public class Configuration {
     return prepStmtCacheSize;
   }
 
+  /**
+   * Number of client side executions of a SQL before prepareStatement uses server side prepare, if
+   * useServerPrepStmts is not set. 0 disables this switch.
+   *
+   * @return prepare threshold
+   */
+  public int prepareThreshold() {
+    return prepareThreshold;
+  }
+
+  /**
+   * Must prepare cache admit new entries in full cache according to access frequency.
+   *
+   * @return use frequency admission
+   */
+  public boolean prepStmtCacheFrequencyAdmission() {
+    return prepStmtCacheFrequencyAdmission;
+  }
+
+  /**
+   * Per connection cache size of closed prepared statement objects, reused by next prepareStatement
+   * with same SQL and options. 0 disables statement pooling.
+   *
+   * @return statement cache size
+   */
+  public int statementCacheSize() {
+    return statementCacheSize;
+  }
+
   /**
    * Use affected row
    *
@@ -1331,6 +1442,26 @@ public class Configuration {
     return disablePipeline;
   }
 
+  /**
+   * Must COM_STMT_PREPARE be pipelined with first COM_STMT_EXECUTE, executions using statement id
+   * -1 (last prepared statement).
+   *
+   * @return pipeline prepare
+   */
+  public boolean pipelinePrepare() {
+    return pipelinePrepare;
+  }
+
+  /**
+   * Maximum size in bytes of pipelined commands sent without their results having been read. 0
+   * means no limit.
+   *
+   * @return pipeline window size
+   */
+  public int pipelineWindowSize() {
+    return pipelineWindowSize;
+  }
+
   /**
    * Use server prepared statement. IF false, using client prepared statement.
    *
@@ -1441,6 +1572,22 @@ public class Configuration {
     return poolValidMinDelay;
   }
 
+  public int poolCreateConcurrency() {
+    return poolCreateConcurrency;
+  }
+
+  public boolean poolAsyncReset() {
+    return poolAsyncReset;
+  }
+
+  public int poolKeepAliveInterval() {
+    return poolKeepAliveInterval;
+  }
+
+  public boolean poolAdaptiveSizing() {
+    return poolAdaptiveSizing;
+  }
+
   public boolean useResetConnection() {
     return useResetConnection;
   }
@@ -1449,6 +1596,15 @@ public class Configuration {
     return useReadAheadInput;
   }
 
+  /**
+   * Use NIO socket channel transport
+   *
+   * @return use NIO socket channel transport
+   */
+  public boolean useNioChannel() {
+    return useNioChannel;
+  }
+
   public boolean cachePrepStmts() {
     return cachePrepStmts;
   }
@@ -1478,6 +1634,15 @@ public class Configuration {
     return codecs;
   }
 
+  /**
+   * Codec lookup, caching codec selection.
+   *
+   * @return codec dispatcher
+   */
+  public CodecDispatcher codecDispatcher() {
+    return codecDispatcher;
+  }
+
   public boolean useMysqlVersion() {
     return useMysqlVersion;
   }
@@ -1486,6 +1651,35 @@ public class Configuration {
     return rewriteBatchedStatements;
   }
 
+  /**
+   * Must server prepared INSERT batches be sent using multi-row prepared templates
+   *
+   * @return use binary batch rewrite
+   */
+  public boolean binaryBatchRewrite() {
+    return binaryBatchRewrite;
+  }
+
+  /**
+   * Maximum number of pooled connections a prepared statement batch is spread over, when connection
+   * comes from an internal pool and is in auto-commit mode. 0 disables parallel batch.
+   *
+   * @return parallel batch connections
+   */
+  public int parallelBatchConnections() {
+    return parallelBatchConnections;
+  }
+
+  /**
+   * Must batch parameters be encoded when added to batch, instead of being kept until batch
+   * execution.
+   *
+   * @return pre-encode batch parameters
+   */
+  public boolean preEncodeBatch() {
+    return preEncodeBatch;
+  }
+
   public String getConsoleLogLevel() {
     return consoleLogLevel;
   }
@@ -1658,6 +1852,7 @@ public class Configuration {
     List<Codec<?>> result = new ArrayList<>();
     loader.iterator().forEachRemaining(result::add);
     codecs = result.toArray(new Codec<?>[0]);
+    codecDispatcher = new CodecDispatcher(codecs);
   }
 
   @Override
@@ -1701,6 +1896,7 @@ public class Configuration {
     private String localSocketAddress;
     private Integer socketTimeout;
     private Boolean useReadAheadInput;
+    private Boolean useNioChannel;
     private String tlsSocketType;
 
     // SSL
@@ -1722,10 +1918,15 @@ public class Configuration {
     private Boolean useCompression;
     private Boolean useAffectedRows;
     private Boolean disablePipeline;
+    private Boolean pipelinePrepare;
+    private Integer pipelineWindowSize;
 
     // prepare
     private Boolean cachePrepStmts;
+    private Boolean prepStmtCacheFrequencyAdmission;
     private Integer prepStmtCacheSize;
+    private Integer prepareThreshold;
+    private Integer statementCacheSize;
     private Boolean useServerPrepStmts;
 
     // authentication
@@ -1757,11 +1958,18 @@ public class Configuration {
     private Integer maxIdleTime;
     private Boolean registerJmxPool;
     private Integer poolValidMinDelay;
+    private Integer poolCreateConcurrency;
+    private Boolean poolAsyncReset;
+    private Integer poolKeepAliveInterval;
+    private Boolean poolAdaptiveSizing;
     private Boolean useResetConnection;
 
     private Boolean useMysqlVersion;
 
     private Boolean rewriteBatchedStatements;
+    private Boolean binaryBatchRewrite;
+    private Integer parallelBatchConnections;
+    private Boolean preEncodeBatch;
     private String consoleLogLevel;
     private String consoleLogFilepath;
     private Boolean printStackTrace;
@@ -2125,6 +2333,45 @@ public class Configuration {
       return this;
     }
 
+    /**
+     * Set number of client side executions of a SQL on a connection before prepareStatement uses
+     * server side prepare for this SQL. Only used when useServerPrepStmts is not set. 0 (default)
+     * disables this switch.
+     *
+     * @param prepareThreshold number of executions before server side prepare
+     * @return this {@link Builder}
+     */
+    public Builder prepareThreshold(Integer prepareThreshold) {
+      this.prepareThreshold = prepareThreshold;
+      return this;
+    }
+
+    /**
+     * Prepare cache admission policy. When enabled, a full prepare cache only admits a new PREPARE
+     * result if its SQL is more frequently prepared than the least recently used cached entry,
+     * keeping frequently used statements prepared when many one-off commands are executed.
+     *
+     * @param prepStmtCacheFrequencyAdmission use frequency admission
+     * @return this {@link Builder}
+     */
+    public Builder prepStmtCacheFrequencyAdmission(Boolean prepStmtCacheFrequencyAdmission) {
+      this.prepStmtCacheFrequencyAdmission = prepStmtCacheFrequencyAdmission;
+      return this;
+    }
+
+    /**
+     * Set per connection prepared statement object cache size. Closed poolable prepared statements
+     * are kept and reused by next prepareStatement with same SQL and options. 0 (default) disables
+     * statement pooling.
+     *
+     * @param statementCacheSize statement cache size
+     * @return this {@link Builder}
+     */
+    public Builder statementCacheSize(Integer statementCacheSize) {
+      this.statementCacheSize = statementCacheSize;
+      return this;
+    }
+
     public Builder useAffectedRows(Boolean useAffectedRows) {
       this.useAffectedRows = useAffectedRows;
       return this;
@@ -2135,6 +2382,31 @@ public class Configuration {
       return this;
     }
 
+    /**
+     * Send COM_STMT_PREPARE together with the first COM_STMT_EXECUTE, saving a round trip on
+     * prepare cache miss. Server must support statement id -1 (last prepared statement).
+     *
+     * @param pipelinePrepare pipeline prepare with first execution
+     * @return this {@link Builder}
+     */
+    public Builder pipelinePrepare(Boolean pipelinePrepare) {
+      this.pipelinePrepare = pipelinePrepare;
+      return this;
+    }
+
+    /**
+     * Maximum size in bytes of pipelined commands sent without their results having been read.
+     * Results of oldest commands are read while remaining commands are sent, so big batches don't
+     * block on full socket buffers. 0 means no limit.
+     *
+     * @param pipelineWindowSize pipeline window size in bytes
+     * @return this {@link Builder}
+     */
+    public Builder pipelineWindowSize(Integer pipelineWindowSize) {
+      this.pipelineWindowSize = pipelineWindowSize;
+      return this;
+    }
+
     public Builder useServerPrepStmts(Boolean useServerPrepStmts) {
       this.useServerPrepStmts = useServerPrepStmts;
       return this;
@@ -2262,6 +2534,26 @@ public class Configuration {
       return this;
     }
 
+    public Builder poolCreateConcurrency(Integer poolCreateConcurrency) {
+      this.poolCreateConcurrency = poolCreateConcurrency;
+      return this;
+    }
+
+    public Builder poolAsyncReset(Boolean poolAsyncReset) {
+      this.poolAsyncReset = poolAsyncReset;
+      return this;
+    }
+
+    public Builder poolKeepAliveInterval(Integer poolKeepAliveInterval) {
+      this.poolKeepAliveInterval = poolKeepAliveInterval;
+      return this;
+    }
+
+    public Builder poolAdaptiveSizing(Boolean poolAdaptiveSizing) {
+      this.poolAdaptiveSizing = poolAdaptiveSizing;
+      return this;
+    }
+
     public Builder useResetConnection(Boolean useResetConnection) {
       this.useResetConnection = useResetConnection;
       return this;
@@ -2278,6 +2570,18 @@ public class Configuration {
       return this;
     }
 
+    /**
+     * Use a socket channel with direct buffers in place of socket streams. Only used for TCP
+     * connections without SSL.
+     *
+     * @param useNioChannel use NIO socket channel transport
+     * @return this {@link Builder}
+     */
+    public Builder useNioChannel(Boolean useNioChannel) {
+      this.useNioChannel = useNioChannel;
+      return this;
+    }
+
     /**
      * Cache server prepare result
      *
@@ -2321,6 +2625,46 @@ public class Configuration {
       return this;
     }
 
+    /**
+     * Server prepared INSERT batches are sent using multi-row templates: INSERT is prepared with
+     * 1024, 128 and 16 rows of placeholders, batch rows being sent in binary format in the largest
+     * templates that fit.
+     *
+     * @param binaryBatchRewrite use binary batch rewrite
+     * @return this {@link Builder}
+     */
+    public Builder binaryBatchRewrite(Boolean binaryBatchRewrite) {
+      this.binaryBatchRewrite = binaryBatchRewrite;
+      return this;
+    }
+
+    /**
+     * Set maximum number of connections of the internal pool a prepared statement batch is spread
+     * over. Rows are split in chunks, executed concurrently each on its own pooled connection, and
+     * update counts are merged in batch order. Only used for connections coming from an internal
+     * pool (option pool), in auto-commit mode: chunks are committed independently. 0 (default)
+     * disables parallel batch.
+     *
+     * @param parallelBatchConnections maximum number of connections used by a batch
+     * @return this {@link Builder}
+     */
+    public Builder parallelBatchConnections(Integer parallelBatchConnections) {
+      this.parallelBatchConnections = parallelBatchConnections;
+      return this;
+    }
+
+    /**
+     * Encode PreparedStatement parameters in a compact byte buffer when calling addBatch, instead
+     * of keeping parameter objects until executeBatch. Reduces memory used by big batches.
+     *
+     * @param preEncodeBatch pre-encode batch parameters
+     * @return this {@link Builder}
+     */
+    public Builder preEncodeBatch(Boolean preEncodeBatch) {
+      this.preEncodeBatch = preEncodeBatch;
+      return this;
+    }
+
     public Builder consoleLogLevel(String consoleLogLevel) {
       this.consoleLogLevel = consoleLogLevel;
       return this;
@@ -2381,8 +2725,12 @@ public class Configuration {
               this.yearIsDateType,
               this.dumpQueriesOnException,
               this.prepStmtCacheSize,
+              this.prepareThreshold,
+              this.statementCacheSize,
               this.useAffectedRows,
               this.disablePipeline,
+              this.pipelinePrepare,
+              this.pipelineWindowSize,
               this.useServerPrepStmts,
               this.connectionAttributes,
               this.autocommit,
@@ -2403,6 +2751,10 @@ public class Configuration {
               this.maxIdleTime,
               this.registerJmxPool,
               this.poolValidMinDelay,
+              this.poolCreateConcurrency,
+              this.poolAsyncReset,
+              this.poolKeepAliveInterval,
+              this.poolAdaptiveSizing,
               this.useResetConnection,
               this.serverSslCert,
               this.trustStore,
@@ -2413,7 +2765,9 @@ public class Configuration {
               this.keyPassword,
               this.keyStoreType,
               this.useReadAheadInput,
+              this.useNioChannel,
               this.cachePrepStmts,
+              this.prepStmtCacheFrequencyAdmission,
               this.transactionReplay,
               this.transactionReplaySize,
               this.geometryDefaultType,
@@ -2421,6 +2775,9 @@ public class Configuration {
               this._nonMappedOptions,
               this.useMysqlVersion,
               this.rewriteBatchedStatements,
+              this.binaryBatchRewrite,
+              this.parallelBatchConnections,
+              this.preEncodeBatch,
               this.consoleLogLevel,
               this.consoleLogFilepath,
               this.printStackTrace,
@@ -9,10 +9,13 @@ import com.singlestore.jdbc.client.Client;
 import com.singlestore.jdbc.client.Context;
 import com.singlestore.jdbc.client.impl.StandardClient;
 import com.singlestore.jdbc.export.ExceptionFactory;
+import com.singlestore.jdbc.message.ClientMessage;
 import com.singlestore.jdbc.message.client.ChangeDbPacket;
 import com.singlestore.jdbc.message.client.PingPacket;
 import com.singlestore.jdbc.message.client.QueryPacket;
 import com.singlestore.jdbc.message.client.ResetPacket;
+import com.singlestore.jdbc.pool.InternalPoolConnection;
+import com.singlestore.jdbc.pool.Pool;
 import com.singlestore.jdbc.util.NativeSql;
 import com.singlestore.jdbc.util.constants.Capabilities;
 import com.singlestore.jdbc.util.constants.ConnectionState;
@@ -32,7 +35,9 @@ import java.sql.SQLWarning;
 import java.sql.SQLXML;
 import java.sql.Savepoint;
 import java.sql.Struct;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Properties;
 import java.util.concurrent.Executor;
@@ -57,10 +62,13 @@ public class Connection implements java.sql.Connection {
   private final Properties clientInfo = new Properties();
   private Boolean tableNameCaseSensitivity;
   private boolean readOnly;
+  private Boolean useComReset;
   private final boolean canCachePrepStmts;
   private final int defaultFetchSize;
   private SingleStorePoolConnection poolConnection;
   private final boolean forceTransactionEnd;
+  private final StatementCache statementCache;
+  private final ExecutionCounter executionCounter;
 
   @SuppressWarnings({"this-escape"})
   public Connection(Configuration conf, ReentrantLock lock, Client client) {
@@ -73,6 +81,12 @@ public class Connection implements java.sql.Connection {
     Context context = this.client.getContext();
     this.canCachePrepStmts = context.getConf().cachePrepStmts();
     this.defaultFetchSize = context.getConf().defaultFetchSize();
+    this.statementCache =
+        conf.statementCacheSize() > 0 ? new StatementCache(conf.statementCacheSize()) : null;
+    this.executionCounter =
+        conf.prepareThreshold() > 0 && !conf.useServerPrepStmts()
+            ? new ExecutionCounter(conf.prepareThreshold(), Math.max(conf.prepStmtCacheSize(), 1))
+            : null;
   }
 
   public void setPoolConnection(SingleStorePoolConnection poolConnection) {
@@ -142,6 +156,36 @@ public class Connection implements java.sql.Connection {
       boolean useBinary)
       throws SQLException {
     checkNotClosed();
+    if (executionCounter != null && !useBinary && !sql.startsWith("/*client prepare*/")) {
+      useBinary = executionCounter.reached(NativeSql.parse(sql, client.getContext()));
+    }
+    if (statementCache == null) {
+      return createPreparedStatement(
+          sql, autoGeneratedKeys, resultSetType, resultSetConcurrency, useBinary);
+    }
+    StatementCache.Key key =
+        new StatementCache.Key(
+            sql, autoGeneratedKeys, resultSetType, resultSetConcurrency, useBinary);
+    BasePreparedStatement stmt = statementCache.take(key);
+    if (stmt != null) {
+      stmt = stmt.reuse();
+      stmt.cacheKey = key;
+      return stmt;
+    }
+    stmt =
+        createPreparedStatement(
+            sql, autoGeneratedKeys, resultSetType, resultSetConcurrency, useBinary);
+    stmt.cacheKey = key;
+    return stmt;
+  }
+
+  BasePreparedStatement createPreparedStatement(
+      String sql,
+      int autoGeneratedKeys,
+      int resultSetType,
+      int resultSetConcurrency,
+      boolean useBinary)
+      throws SQLException {
     if (useBinary && !sql.startsWith("/*client prepare*/")) {
       try {
         return new ServerPreparedStatement(
@@ -227,9 +271,40 @@ public class Connection implements java.sql.Connection {
       poolConnection.fireConnectionClosed(new ConnectionEvent(poolConnection));
       return;
     }
+    if (statementCache != null) statementCache.releaseAll();
     client.close();
   }
 
+  /**
+   * Count a client side prepared statement execution, for option prepareThreshold.
+   *
+   * @param sql sql
+   */
+  void countExecution(String sql) {
+    if (executionCounter != null) executionCounter.increment(sql);
+  }
+
+  /**
+   * Keep closed prepared statement for reuse by next prepareStatement with same SQL and options.
+   *
+   * @param stmt closed prepared statement
+   * @return true if statement is cached, false if it must be really closed
+   */
+  boolean cacheStatement(BasePreparedStatement stmt) {
+    return statementCache != null && !client.isClosed() && statementCache.offer(stmt);
+  }
+
+  /**
+   * Internal pool this connection comes from.
+   *
+   * @return pool, or null if connection does not come from an internal pool
+   */
+  Pool pool() {
+    return poolConnection instanceof InternalPoolConnection
+        ? ((InternalPoolConnection) poolConnection).getPool()
+        : null;
+  }
+
   @Override
   public boolean isClosed() {
     return client.isClosed();
@@ -685,32 +760,64 @@ public class Connection implements java.sql.Connection {
    * @throws SQLException if resetting operation failed
    */
   public void reset() throws SQLException {
-    boolean useComReset =
-        conf.useResetConnection()
-            && getMetaData().getSingleStoreVersion().versionGreaterOrEqual(7, 5, 2);
-
-    if (useComReset) {
-      client.execute(ResetPacket.INSTANCE, true);
+    if (useComReset == null) {
+      useComReset =
+          conf.useResetConnection()
+              && getMetaData().getSingleStoreVersion().versionGreaterOrEqual(7, 5, 2);
     }
 
+    // reset commands are sent together, then all results are read
+    List<ClientMessage> messages = new ArrayList<>(4);
+    if (useComReset) messages.add(ResetPacket.INSTANCE);
+
     // in transaction => rollback
     if (forceTransactionEnd
         || (client.getContext().getServerStatus() & ServerStatus.IN_TRANSACTION) > 0) {
-      client.execute(new QueryPacket("ROLLBACK"), true);
+      messages.add(new QueryPacket("ROLLBACK"));
     }
 
     int stateFlag = getContext().getStateFlag();
+    String catalog = null;
+    if (stateFlag != 0) {
+      if ((stateFlag & ConnectionState.STATE_AUTOCOMMIT) != 0) {
+        boolean autoCommit = conf.autocommit() == null ? true : conf.autocommit();
+        messages.add(new QueryPacket("set autocommit=" + (autoCommit ? "true" : "false")));
+      }
+      if ((stateFlag & ConnectionState.STATE_DATABASE) != 0
+          && conf.database() != null
+          && !(client.getContext().hasClientCapability(Capabilities.CLIENT_SESSION_TRACK)
+              && conf.database().equals(client.getContext().getDatabase()))) {
+        catalog = conf.database();
+        messages.add(new ChangeDbPacket(catalog));
+      }
+    }
+
+    if (!messages.isEmpty()) {
+      lock.lock();
+      try {
+        client.executePipeline(
+            messages.toArray(new ClientMessage[0]),
+            null,
+            0,
+            0L,
+            ResultSet.CONCUR_READ_ONLY,
+            ResultSet.TYPE_FORWARD_ONLY,
+            false,
+            true);
+      } catch (SQLException sqle) {
+        throw exceptionFactory.create("error resetting connection", "08000", sqle);
+      } finally {
+        lock.unlock();
+      }
+      if (useComReset && statementCache != null) statementCache.resetPrepareResults();
+      if (catalog != null) client.getContext().setDatabase(catalog);
+    }
+
     if (stateFlag != 0) {
       try {
         if ((stateFlag & ConnectionState.STATE_NETWORK_TIMEOUT) != 0) {
           setNetworkTimeout(null, conf.socketTimeout());
         }
-        if ((stateFlag & ConnectionState.STATE_AUTOCOMMIT) != 0) {
-          setAutoCommit(conf.autocommit() == null ? true : conf.autocommit());
-        }
-        if ((stateFlag & ConnectionState.STATE_DATABASE) != 0) {
-          setCatalog(conf.database());
-        }
         if ((stateFlag & ConnectionState.STATE_READ_ONLY) != 0) {
           setReadOnly(false); // default to master connection
         }
@@ -0,0 +1,62 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2021-2023 SingleStore, Inc.
+
+package com.singlestore.jdbc;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Per connection number of client side prepared statement executions by SQL, for option
+ * prepareThreshold: once SQL has been executed threshold times, following prepareStatement use
+ * server side prepare. Counts are kept for the most recently executed SQL only.
+ */
+final class ExecutionCounter {
+
+  private final int threshold;
+  private final LinkedHashMap<String, int[]> counts;
+
+  /**
+   * Constructor
+   *
+   * @param threshold number of executions before using server side prepare
+   * @param maxSize maximum number of SQL whose executions are counted
+   */
+  ExecutionCounter(int threshold, int maxSize) {
+    this.threshold = threshold;
+    this.counts =
+        new LinkedHashMap<String, int[]>(16, .75f, true) {
+          private static final long serialVersionUID = 1L;
+
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<String, int[]> eldest) {
+            return size() > maxSize;
+          }
+        };
+  }
+
+  /**
+   * Count a client side execution
+   *
+   * @param sql sql
+   */
+  synchronized void increment(String sql) {
+    int[] count = counts.get(sql);
+    if (count == null) {
+      counts.put(sql, new int[] {1});
+    } else if (count[0] < threshold) {
+      count[0]++;
+    }
+  }
+
+  /**
+   * Has SQL been executed enough times to use server side prepare
+   *
+   * @param sql sql
+   * @return true if threshold is reached
+   */
+  synchronized boolean reached(String sql) {
+    int[] count = counts.get(sql);
+    return count != null && count[0] >= threshold;
+  }
+}
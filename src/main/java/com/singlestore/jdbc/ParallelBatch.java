@@ -0,0 +1,226 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2021-2023 SingleStore, Inc.
+
+package com.singlestore.jdbc;
+
+import com.singlestore.jdbc.client.util.Parameters;
+import com.singlestore.jdbc.pool.InternalPoolConnection;
+import com.singlestore.jdbc.pool.Pool;
+import com.singlestore.jdbc.pool.PoolThreadFactory;
+import java.sql.BatchUpdateException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Prepared statement batch spread over connections of an internal pool, for option
+ * parallelBatchConnections.
+ *
+ * <p>Batch rows are split in contiguous chunks. First chunk is executed by the statement on its own
+ * connection, in caller thread, while each other chunk is executed on an idle connection borrowed
+ * from the pool. Connections are borrowed without waiting: batch is split in fewer chunks when pool
+ * has not enough idle connections, and is executed on statement connection only when none is idle.
+ * Borrowed connections use the statement connection database and read-only state; other session
+ * state (session variables) is the pool one. Update counts are merged in batch order. Chunks are
+ * independent: when one fails, others are still executed, and the resulting BatchUpdateException
+ * reports {@link java.sql.Statement#EXECUTE_FAILED} for rows of failed chunks without update count.
+ */
+final class ParallelBatch {
+
+  /** minimum number of rows for each chunk */
+  static final int MIN_CHUNK_ROWS = 256;
+
+  private static final ExecutorService EXECUTOR =
+      Executors.newCachedThreadPool(new PoolThreadFactory("SingleStore-parallel-batch"));
+
+  private ParallelBatch() {}
+
+  /**
+   * Number of chunks a batch is split in.
+   *
+   * @param connections maximum number of connections (option parallelBatchConnections)
+   * @param rows batch size
+   * @return number of chunks, less than 2 if batch must not be split
+   */
+  static int chunks(int connections, int rows) {
+    return Math.min(connections, rows / MIN_CHUNK_ROWS);
+  }
+
+  /**
+   * Execute statement batch.
+   *
+   * @param stmt prepared statement
+   * @param pool pool statement connection comes from
+   * @param chunks number of chunks
+   * @return update counts, in batch order
+   * @throws SQLException if any chunk fails
+   */
+  static long[] execute(BasePreparedStatement stmt, Pool pool, int chunks) throws SQLException {
+    List<Connection> connections = new ArrayList<>(chunks - 1);
+    while (connections.size() < chunks - 1) {
+      InternalPoolConnection item = pool.getIdlePoolConnection();
+      if (item == null) break;
+      connections.add(item.getConnection());
+    }
+    chunks = connections.size() + 1;
+
+    List<Parameters> rows = stmt.batchParameters;
+    int[] bounds = new int[chunks + 1];
+    for (int i = 0; i <= chunks; i++) {
+      bounds[i] = (int) ((long) rows.size() * i / chunks);
+    }
+
+    List<Future<long[]>> futures = new ArrayList<>(chunks - 1);
+    try {
+      String catalog = stmt.con.getCatalog();
+      boolean readOnly = stmt.con.isReadOnly();
+      boolean binary = stmt instanceof ServerPreparedStatement;
+      int queryTimeout = stmt.getQueryTimeout();
+      for (int i = 1; i < chunks; i++) {
+        Connection con = connections.get(i - 1);
+        List<Parameters> chunk = new ArrayList<>(rows.subList(bounds[i], bounds[i + 1]));
+        futures.add(
+            EXECUTOR.submit(
+                () ->
+                    executeChunk(
+                        con,
+                        catalog,
+                        readOnly,
+                        stmt.getClass(),
+                        stmt.sql,
+                        binary,
+                        queryTimeout,
+                        chunk)));
+      }
+    } catch (SQLException | RuntimeException e) {
+      // connections not handed to a chunk go back to pool
+      for (int i = futures.size(); i < connections.size(); i++) {
+        connections.get(i).close();
+      }
+      waitFor(futures);
+      throw e;
+    }
+
+    long[] updates = new long[rows.size()];
+    SQLException error = null;
+    stmt.batchParameters = new ArrayList<>(rows.subList(0, bounds[1]));
+    stmt.parallelChunk = true;
+    try {
+      System.arraycopy(stmt.executeLargeBatch(), 0, updates, 0, bounds[1]);
+    } catch (SQLException e) {
+      error = failed(e, updates, 0, bounds[1]);
+    } finally {
+      stmt.parallelChunk = false;
+      stmt.batchParameters = rows;
+    }
+
+    // chunks may reference batch rows until done: wait for all of them, even if interrupted
+    boolean interrupted = false;
+    for (int i = 1; i < chunks; i++) {
+      Future<long[]> future = futures.get(i - 1);
+      while (true) {
+        try {
+          System.arraycopy(future.get(), 0, updates, bounds[i], bounds[i + 1] - bounds[i]);
+          break;
+        } catch (InterruptedException e) {
+          interrupted = true;
+        } catch (ExecutionException e) {
+          SQLException cause =
+              e.getCause() instanceof SQLException
+                  ? (SQLException) e.getCause()
+                  : new SQLException(e.getCause());
+          SQLException chunkError = failed(cause, updates, bounds[i], bounds[i + 1]);
+          if (error == null) error = chunkError;
+          break;
+        }
+      }
+    }
+    if (interrupted) Thread.currentThread().interrupt();
+
+    if (error != null) {
+      throw new BatchUpdateException(
+          error.getMessage(), error.getSQLState(), error.getErrorCode(), updates, error);
+    }
+    return updates;
+  }
+
+  private static void waitFor(List<Future<long[]>> futures) {
+    boolean interrupted = false;
+    for (Future<long[]> future : futures) {
+      while (true) {
+        try {
+          future.get();
+          break;
+        } catch (InterruptedException e) {
+          interrupted = true;
+        } catch (ExecutionException e) {
+          break;
+        }
+      }
+    }
+    if (interrupted) Thread.currentThread().interrupt();
+  }
+
+  private static long[] executeChunk(
+      Connection pooledCon,
+      String catalog,
+      boolean readOnly,
+      Class<?> statementClass,
+      String sql,
+      boolean binary,
+      int queryTimeout,
+      List<Parameters> chunk)
+      throws SQLException {
+    try (Connection con = pooledCon) {
+      // pool connection reset restores pool session state when connection is returned
+      con.setCatalog(catalog);
+      if (con.isReadOnly() != readOnly) con.setReadOnly(readOnly);
+      BasePreparedStatement stmt =
+          con.createPreparedStatement(
+              sql,
+              java.sql.Statement.NO_GENERATED_KEYS,
+              ResultSet.TYPE_FORWARD_ONLY,
+              ResultSet.CONCUR_READ_ONLY,
+              binary);
+      try {
+        // batch rows may be already encoded for text or binary protocol
+        if (stmt.getClass() != statementClass) {
+          throw new SQLException(
+              "Parallel batch: statement cannot be prepared the same way on pooled connection");
+        }
+        stmt.setQueryTimeout(queryTimeout);
+        stmt.parallelChunk = true;
+        stmt.batchParameters = chunk;
+        return stmt.executeLargeBatch();
+      } finally {
+        stmt.close();
+      }
+    }
+  }
+
+  /**
+   * Record update counts of a failed chunk.
+   *
+   * @param e chunk error
+   * @param updates batch update counts
+   * @param from first row of chunk
+   * @param to row following chunk
+   * @return chunk error
+   */
+  private static SQLException failed(SQLException e, long[] updates, int from, int to) {
+    Arrays.fill(updates, from, to, java.sql.Statement.EXECUTE_FAILED);
+    if (e instanceof BatchUpdateException) {
+      long[] chunkUpdates = ((BatchUpdateException) e).getLargeUpdateCounts();
+      if (chunkUpdates != null) {
+        System.arraycopy(chunkUpdates, 0, updates, from, Math.min(chunkUpdates.length, to - from));
+      }
+    }
+    return e;
+  }
+}
@@ -9,15 +9,22 @@ import static com.singlestore.jdbc.util.constants.Capabilities.LOCAL_FILES;
 
 import com.singlestore.jdbc.client.ColumnDecoder;
 import com.singlestore.jdbc.client.Completion;
+import com.singlestore.jdbc.client.DataType;
 import com.singlestore.jdbc.client.result.CompleteResult;
 import com.singlestore.jdbc.client.result.Result;
 import com.singlestore.jdbc.client.util.Parameters;
 import com.singlestore.jdbc.export.ExceptionFactory;
+import com.singlestore.jdbc.export.Prepare;
 import com.singlestore.jdbc.message.ClientMessage;
 import com.singlestore.jdbc.message.client.ExecutePacket;
 import com.singlestore.jdbc.message.client.PreparePacket;
+import com.singlestore.jdbc.message.server.CachedPrepareResultPacket;
 import com.singlestore.jdbc.message.server.OkPacket;
+import com.singlestore.jdbc.message.server.PrepareResultPacket;
 import com.singlestore.jdbc.util.ParameterList;
+import com.singlestore.jdbc.util.RewriteClientParser;
+import java.io.IOException;
+import java.sql.BatchUpdateException;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
@@ -34,6 +41,11 @@ public class ServerPreparedStatement extends BasePreparedStatement {
       Pattern.compile(
           "^(\\s*\\/\\*([^\\*]|\\*[^\\/])*\\*\\/)*\\s*(SELECT|UPDATE|INSERT|DELETE|REPLACE|DO|CALL)",
           Pattern.CASE_INSENSITIVE);
+  /** row number of multi-row INSERT templates used for batch rewrite, by decreasing size */
+  private static final int[] TEMPLATE_ROWS = {1024, 128, 16};
+  /** maximum number of placeholders of a server prepared statement */
+  private static final int MAX_PLACEHOLDERS = 65535;
+
   private final boolean canCachePrepStmts;
   /**
    * Server prepare statement constructor
@@ -68,6 +80,32 @@ public class ServerPreparedStatement extends BasePreparedStatement {
     parameters = new ParameterList();
   }
 
+  private ServerPreparedStatement(ServerPreparedStatement cached) {
+    super(
+        cached.sql,
+        cached.con,
+        cached.lock,
+        cached.autoGeneratedKeys,
+        cached.resultSetType,
+        cached.resultSetConcurrency,
+        cached.con.getContext().getConf().defaultFetchSize());
+    this.canCachePrepStmts = cached.canCachePrepStmts;
+    parameters = new ParameterList();
+  }
+
+  @Override
+  BasePreparedStatement reuse() throws SQLException {
+    ServerPreparedStatement stmt = new ServerPreparedStatement(this);
+    stmt.prepareResult = prepareResult;
+    if (prepareResult instanceof CachedPrepareResultPacket) {
+      // PREPARE result use is transferred to new statement
+      ((CachedPrepareResultPacket) prepareResult).incrementUse(stmt);
+      prepareResult.decrementUse(con.getClient(), this);
+    }
+    prepareResult = null;
+    return stmt;
+  }
+
   /**
    * Execute command with parameters
    *
@@ -95,6 +133,10 @@ public class ServerPreparedStatement extends BasePreparedStatement {
     if (prepareResult == null) {
       if (canCachePrepStmts) prepareResult = con.getContext().getPrepareCache().get(cmd, this);
       if (prepareResult == null) {
+        if (canPipelinePrepare(parameters)) {
+          executePrepareAndExecute(cmd);
+          return;
+        }
         con.getClient().execute(new PreparePacket(cmd), this, true);
       }
     }
@@ -116,6 +158,59 @@ public class ServerPreparedStatement extends BasePreparedStatement {
                 false);
   }
 
+  /**
+   * Can COM_STMT_PREPARE be sent with following COM_STMT_EXECUTE without waiting for statement id:
+   * executions then use statement id -1, meaning the last prepared statement.
+   *
+   * @param parameters parameters of first execution
+   * @return true if prepare can be pipelined
+   */
+  private boolean canPipelinePrepare(Parameters parameters) {
+    if (!con.getContext().getConf().pipelinePrepare()
+        || con.getContext().getConf().disablePipeline()) {
+      return false;
+    }
+    // long data packets need statement id
+    for (int i = 0; i < parameters.size(); i++) {
+      com.singlestore.jdbc.client.util.Parameter p = parameters.get(i);
+      if (p != null && !p.isNull() && p.canEncodeLongData()) return false;
+    }
+    return true;
+  }
+
+  /**
+   * Send COM_STMT_PREPARE and COM_STMT_EXECUTE in one pipeline, then read both answers.
+   *
+   * @param cmd command
+   * @throws SQLException if prepare or execution fails. A prepare error is reported rather than the
+   *     resulting execution error.
+   */
+  private void executePrepareAndExecute(String cmd) throws SQLException {
+    ExecutePacket execute = new ExecutePacket(null, parameters, cmd, this, localInfileInputStream);
+    try {
+      List<Completion> res =
+          con.getClient()
+              .executePipeline(
+                  new ClientMessage[] {new PreparePacket(cmd), execute},
+                  this,
+                  fetchSize,
+                  maxRows,
+                  resultSetConcurrency,
+                  resultSetType,
+                  closeOnCompletion,
+                  false);
+      res.remove(0);
+      results = res;
+      if (prepareResult instanceof PrepareResultPacket) {
+        execute.setPrepareResult((PrepareResultPacket) prepareResult);
+      }
+    } catch (BatchUpdateException bue) {
+      // prepare result has been released
+      prepareResult = null;
+      throw bue.getCause() instanceof SQLException ? (SQLException) bue.getCause() : bue;
+    }
+  }
+
   private void executeInternalPreparedBatch() throws SQLException {
     checkNotClosed();
     String cmd = escapeTimeout(sql);
@@ -128,11 +223,190 @@ public class ServerPreparedStatement extends BasePreparedStatement {
     }
     if (possibleLoadLocal) {
       executeBatchStandard(cmd);
-    } else {
+    } else if (!executeBatchRewrite(cmd)) {
       executeBatchPipeline(cmd);
     }
   }
 
+  /**
+   * Execute batch of a rewritable INSERT using multi-row templates (option binaryBatchRewrite): the
+   * INSERT is prepared with 1024, 128 and 16 rows of placeholders, and rows are sent in binary
+   * format by executing the largest templates that fit, remaining rows using this statement. All
+   * executions are pipelined.
+   *
+   * @param cmd command
+   * @return false if batch cannot be rewritten
+   * @throws SQLException if any error occurs
+   */
+  private boolean executeBatchRewrite(String cmd) throws SQLException {
+    int rows = batchParameters.size();
+    if (!con.getContext().getConf().binaryBatchRewrite()
+        || rows < TEMPLATE_ROWS[TEMPLATE_ROWS.length - 1]
+        || autoGeneratedKeys == Statement.RETURN_GENERATED_KEYS) {
+      return false;
+    }
+    RewriteClientParser parser = RewriteClientParser.rewritableParts(cmd);
+    int paramCount = parser.getParamCount();
+    if (!parser.isQueryMultiValuesRewritable() || paramCount == 0) return false;
+    long maxLength =
+        con.getContext().getConf().maxAllowedPacket() != null
+            ? con.getContext().getConf().maxAllowedPacket()
+            : 16 * 1024 * 1024;
+    long[] rowLength = new long[rows];
+    try {
+      for (int i = 0; i < rows; i++) {
+        Parameters row = batchParameters.get(i);
+        if (row.size() < paramCount) return false;
+        for (int j = 0; j < paramCount; j++) {
+          com.singlestore.jdbc.client.util.Parameter p = row.get(j);
+          if (p == null || (!p.isNull() && p.canEncodeLongData())) return false;
+          long length = binaryLength(p);
+          if (length < 0) return false;
+          rowLength[i] += length + 2;
+        }
+      }
+    } catch (IOException e) {
+      return false;
+    }
+
+    PrepareResultPacket[] templates = new PrepareResultPacket[TEMPLATE_ROWS.length];
+    try {
+      List<ClientMessage> packets = new ArrayList<>();
+      int index = 0;
+      while (index < rows) {
+        int template = chooseTemplate(rows - index, paramCount, rowLength, index, maxLength);
+        if (template < 0) {
+          // remaining rows executed one by one
+          if (prepareResult == null && canCachePrepStmts) {
+            prepareResult = con.getContext().getPrepareCache().get(cmd, this);
+          }
+          if (prepareResult == null) {
+            con.getClient().execute(new PreparePacket(cmd), this, false);
+          }
+          for (; index < rows; index++) {
+            packets.add(
+                new ExecutePacket(prepareResult, batchParameters.get(index), cmd, this, null));
+          }
+          break;
+        }
+        int templateRows = TEMPLATE_ROWS[template];
+        String templateSql = parser.multiRowSql(templateRows);
+        if (templates[template] == null) templates[template] = prepareTemplate(templateSql);
+        ParameterList params = new ParameterList(templateRows * paramCount);
+        for (int i = 0; i < templateRows; i++) {
+          Parameters row = batchParameters.get(index++);
+          for (int j = 0; j < paramCount; j++) {
+            params.set(i * paramCount + j, row.get(j));
+          }
+        }
+        packets.add(new ExecutePacket(templates[template], params, templateSql, this, null));
+      }
+      results =
+          con.getClient()
+              .executePipeline(
+                  packets.toArray(new ClientMessage[0]),
+                  this,
+                  0,
+                  maxRows,
+                  ResultSet.CONCUR_READ_ONLY,
+                  ResultSet.TYPE_FORWARD_ONLY,
+                  closeOnCompletion,
+                  false);
+      return true;
+    } catch (BatchUpdateException bue) {
+      results = null;
+      throw bue;
+    } catch (SQLException sqle) {
+      results = null;
+      throw exceptionFactory().createBatchUpdate(new ArrayList<>(), rows, sqle);
+    } finally {
+      for (PrepareResultPacket template : templates) {
+        if (template != null) template.decrementUse(con.getClient(), this);
+      }
+    }
+  }
+
+  /**
+   * Approximate length of a parameter value in COM_STMT_EXECUTE packet.
+   *
+   * @param p parameter
+   * @return length in bytes, or -1 if unknown
+   */
+  private static long binaryLength(com.singlestore.jdbc.client.util.Parameter p)
+      throws IOException, SQLException {
+    if (p.isNull()) return 0;
+    int type = p.getBinaryEncodeType();
+    DataType dataType = type >= 0 && type < 256 ? DataType.of(type) : null;
+    if (dataType != null) {
+      switch (dataType) {
+        case TINYINT:
+          return 1;
+        case SMALLINT:
+        case YEAR:
+          return 2;
+        case INT:
+        case MEDIUMINT:
+        case FLOAT:
+          return 4;
+        case BIGINT:
+        case DOUBLE:
+          return 8;
+        case DATE:
+        case NEWDATE:
+          return 5;
+        case TIMESTAMP:
+        case DATETIME:
+          return 12;
+        case TIME:
+          return 13;
+        default:
+          break;
+      }
+    }
+    // length-encoded value: text length is an upper bound of binary length
+    int length = p.getApproximateTextProtocolLength();
+    return length < 0 ? -1 : length + 9;
+  }
+
+  /**
+   * Largest template that can be filled with the next rows, within parameter and packet limits.
+   *
+   * @return template index, or -1 if none
+   */
+  private static int chooseTemplate(
+      int remaining, int paramCount, long[] rowLength, int index, long maxLength) {
+    for (int t = 0; t < TEMPLATE_ROWS.length; t++) {
+      int templateRows = TEMPLATE_ROWS[t];
+      if (templateRows > remaining || templateRows * paramCount > MAX_PLACEHOLDERS) continue;
+      long length = 16;
+      for (int i = index; i < index + templateRows; i++) length += rowLength[i];
+      if (length < maxLength) return t;
+    }
+    return -1;
+  }
+
+  /**
+   * Get multi-row template PREPARE result from prepare cache, or prepare it. Result is marked as
+   * used by this statement until batch end.
+   *
+   * @param templateSql template command
+   * @return prepare result
+   * @throws SQLException if prepare fails
+   */
+  private PrepareResultPacket prepareTemplate(String templateSql) throws SQLException {
+    if (canCachePrepStmts) {
+      Prepare cached = con.getContext().getPrepareCache().get(templateSql, this);
+      if (cached != null) return (PrepareResultPacket) cached;
+    }
+    PrepareResultPacket template =
+        (PrepareResultPacket)
+            con.getClient().execute(new PreparePacket(templateSql, true), false).get(0);
+    if (template instanceof CachedPrepareResultPacket) {
+      ((CachedPrepareResultPacket) template).incrementUse(this);
+    }
+    return template;
+  }
+
   /**
    * Send COM_STMT_PREPARE, read statementId + Send pipeline X * COM_STMT_EXECUTE, then read for the
    * all answers
@@ -144,43 +418,46 @@ public class ServerPreparedStatement extends BasePreparedStatement {
     if (prepareResult == null && canCachePrepStmts) {
       prepareResult = con.getContext().getPrepareCache().get(cmd, this);
     }
-    int maxCmd = 250;
-    List<Completion> res = new ArrayList<>();
+    // PREPARE is sent in the same pipeline than executions if possible
+    boolean pipelinePrepare = prepareResult == null;
+    for (int i = 0; pipelinePrepare && i < batchParameters.size(); i++) {
+      pipelinePrepare = canPipelinePrepare(batchParameters.get(i));
+    }
     try {
-      int index = 0;
-      if (prepareResult == null) {
+      if (prepareResult == null && !pipelinePrepare) {
         con.getClient().execute(new PreparePacket(cmd), this, false);
       }
-      while (index < batchParameters.size()) {
-        res.addAll(executeBunch(cmd, index, maxCmd));
-        index += maxCmd;
+      // whole batch is sent in one pipeline, client reading results of oldest commands when
+      // pipelineWindowSize is reached
+      int offset = pipelinePrepare ? 1 : 0;
+      ClientMessage[] packets = new ClientMessage[batchParameters.size() + offset];
+      if (pipelinePrepare) packets[0] = new PreparePacket(cmd);
+      for (int i = 0; i < batchParameters.size(); i++) {
+        packets[i + offset] =
+            new ExecutePacket(
+                prepareResult, batchParameters.get(i), cmd, this, localInfileInputStream);
       }
-      results = res;
-
-    } catch (SQLException bue) {
+      results =
+          con.getClient()
+              .executePipeline(
+                  packets,
+                  this,
+                  0,
+                  maxRows,
+                  ResultSet.CONCUR_READ_ONLY,
+                  ResultSet.TYPE_FORWARD_ONLY,
+                  closeOnCompletion,
+                  false);
+      if (pipelinePrepare) results.remove(0);
+
+    } catch (BatchUpdateException bue) {
       results = null;
-      throw exceptionFactory().createBatchUpdate(res, batchParameters.size(), bue);
-    }
-  }
-
-  private List<Completion> executeBunch(String cmd, int index, int maxCmd) throws SQLException {
-    int maxCmdToSend = Math.min(batchParameters.size() - index, maxCmd);
-    ClientMessage[] packets = new ClientMessage[maxCmdToSend];
-    for (int i = index; i < index + maxCmdToSend; i++) {
-      packets[i - index] =
-          new ExecutePacket(
-              prepareResult, batchParameters.get(i), cmd, this, localInfileInputStream);
+      if (pipelinePrepare) prepareResult = null;
+      throw bue;
+    } catch (SQLException sqle) {
+      results = null;
+      throw exceptionFactory().createBatchUpdate(new ArrayList<>(), batchParameters.size(), sqle);
     }
-    return con.getClient()
-        .executePipeline(
-            packets,
-            this,
-            0,
-            maxRows,
-            ResultSet.CONCUR_READ_ONLY,
-            ResultSet.TYPE_FORWARD_ONLY,
-            closeOnCompletion,
-            false);
   }
 
   /**
@@ -363,7 +640,7 @@ public class ServerPreparedStatement extends BasePreparedStatement {
   @Override
   public void addBatch() throws SQLException {
     validParameters();
-    if (batchParameters == null) batchParameters = new ArrayList<>();
+    if (batchParameters == null) batchParameters = newBatchParameters(true);
     batchParameters.add(parameters);
     parameters = parameters.clone();
   }
@@ -381,7 +658,7 @@ public class ServerPreparedStatement extends BasePreparedStatement {
   public void clearBatch() throws SQLException {
     checkNotClosed();
     if (batchParameters == null) {
-      batchParameters = new ArrayList<>();
+      batchParameters = newBatchParameters(true);
     } else {
       batchParameters.clear();
     }
@@ -476,6 +753,8 @@ public class ServerPreparedStatement extends BasePreparedStatement {
   public int[] executeBatch() throws SQLException {
     checkNotClosed();
     if (batchParameters == null || batchParameters.isEmpty()) return new int[0];
+    int[] parallelUpdates = executeParallelBatchInt();
+    if (parallelUpdates != null) return parallelUpdates;
     lock.lock();
     try {
       executeInternalPreparedBatch();
@@ -514,6 +793,8 @@ public class ServerPreparedStatement extends BasePreparedStatement {
   public long[] executeLargeBatch() throws SQLException {
     checkNotClosed();
     if (batchParameters == null || batchParameters.isEmpty()) return new long[0];
+    long[] parallelUpdates = executeParallelBatch();
+    if (parallelUpdates != null) return parallelUpdates;
     lock.lock();
     try {
       executeInternalPreparedBatch();
@@ -546,12 +827,18 @@ public class ServerPreparedStatement extends BasePreparedStatement {
 
   @Override
   public void close() throws SQLException {
+    if (returnToCache()) return;
+    releasePrepareResult();
+    con.fireStatementClosed(this);
+    super.close();
+  }
+
+  @Override
+  protected void releasePrepareResult() throws SQLException {
     if (prepareResult != null) {
       prepareResult.decrementUse(con.getClient(), this);
       prepareResult = null;
     }
-    con.fireStatementClosed(this);
-    super.close();
   }
 
   /**
@@ -84,6 +84,8 @@ public class Statement implements java.sql.Statement {
   protected boolean closed;
   /** escape processing */
   protected boolean escape;
+  /** statement pooling hint */
+  protected boolean poolable;
   /** last execution results */
   protected List<Completion> results;
   /** current results */
@@ -216,6 +218,35 @@ public class Statement implements java.sql.Statement {
     }
   }
 
+  /**
+   * Close statement results and reset statement settings to their initial value, for statement kept
+   * in connection statement cache.
+   *
+   * @throws SQLException if fetching remaining streaming results fails
+   */
+  protected void closeForReuse() throws SQLException {
+    closed = true;
+    if (currResult instanceof Result) {
+      ((Result) currResult).closeFromStmtClose(lock);
+    }
+    if (results != null) {
+      for (Completion completion : results) {
+        if (completion instanceof Result) {
+          ((Result) completion).closeFromStmtClose(lock);
+        }
+      }
+    }
+    results = null;
+    currResult = null;
+    batchQueries = null;
+    queryTimeout = 0;
+    maxRows = 0;
+    fetchSize = con.getContext().getConf().defaultFetchSize();
+    closeOnCompletion = false;
+    escape = false;
+    localInfileInputStream = null;
+  }
+
   /**
    * Abort current command result if streaming. result-set will be incomplete and closed, but ensure
    * connection state
@@ -1252,7 +1283,7 @@ public class Statement implements java.sql.Statement {
   @Override
   public boolean isPoolable() throws SQLException {
     checkNotClosed();
-    return false;
+    return poolable;
   }
 
   /**
@@ -1276,6 +1307,7 @@ public class Statement implements java.sql.Statement {
   @Override
   public void setPoolable(boolean poolable) throws SQLException {
     checkNotClosed();
+    this.poolable = poolable;
   }
 
   /**
@@ -0,0 +1,129 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2021-2023 SingleStore, Inc.
+
+package com.singlestore.jdbc;
+
+import java.sql.SQLException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Per connection LRU cache of closed prepared statements.
+ *
+ * <p>A poolable prepared statement created by {@link Connection#prepareInternal} is not released
+ * when closed, but kept here. Next prepareStatement with the same SQL and options returns a new
+ * statement taking over its parsed SQL and server PREPARE result, the closed statement staying
+ * closed. A single idle statement is kept for a key; statements evicted from cache are really
+ * closed.
+ */
+final class StatementCache extends LinkedHashMap<StatementCache.Key, BasePreparedStatement> {
+
+  private static final long serialVersionUID = 2853428537458914617L;
+  private final int maxSize;
+
+  /**
+   * Constructor
+   *
+   * @param maxSize maximum number of idle statements
+   */
+  StatementCache(int maxSize) {
+    super(16, .75f, true);
+    this.maxSize = maxSize;
+  }
+
+  @Override
+  protected boolean removeEldestEntry(Map.Entry<Key, BasePreparedStatement> eldest) {
+    if (size() > maxSize) {
+      release(eldest.getValue());
+      return true;
+    }
+    return false;
+  }
+
+  /**
+   * Take an idle statement from cache.
+   *
+   * @param key statement key
+   * @return idle statement, removed from cache, or null if none
+   */
+  synchronized BasePreparedStatement take(Key key) {
+    return remove(key);
+  }
+
+  /**
+   * Keep a closed statement for reuse.
+   *
+   * @param stmt closed statement
+   * @return true if cached, false if an idle statement with same key is already cached
+   */
+  synchronized boolean offer(BasePreparedStatement stmt) {
+    if (containsKey(stmt.cacheKey)) return false;
+    put(stmt.cacheKey, stmt);
+    return true;
+  }
+
+  /** Connection has been reset: server side prepared statements must be prepared again. */
+  synchronized void resetPrepareResults() {
+    for (BasePreparedStatement stmt : values()) {
+      if (stmt instanceof ServerPreparedStatement) {
+        ((ServerPreparedStatement) stmt).reset();
+      }
+    }
+  }
+
+  /** Release all idle statements */
+  synchronized void releaseAll() {
+    for (BasePreparedStatement stmt : values()) {
+      release(stmt);
+    }
+    clear();
+  }
+
+  private static void release(BasePreparedStatement stmt) {
+    try {
+      stmt.releasePrepareResult();
+    } catch (SQLException e) {
+      // eat
+    }
+  }
+
+  /** Statement cache key: SQL and prepareStatement options */
+  static final class Key {
+    private final String sql;
+    private final int autoGeneratedKeys;
+    private final int resultSetType;
+    private final int resultSetConcurrency;
+    private final boolean useBinary;
+
+    Key(
+        String sql,
+        int autoGeneratedKeys,
+        int resultSetType,
+        int resultSetConcurrency,
+        boolean useBinary) {
+      this.sql = sql;
+      this.autoGeneratedKeys = autoGeneratedKeys;
+      this.resultSetType = resultSetType;
+      this.resultSetConcurrency = resultSetConcurrency;
+      this.useBinary = useBinary;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if (!(o instanceof Key)) return false;
+      Key key = (Key) o;
+      return autoGeneratedKeys == key.autoGeneratedKeys
+          && resultSetType == key.resultSetType
+          && resultSetConcurrency == key.resultSetConcurrency
+          && useBinary == key.useBinary
+          && sql.equals(key.sql);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(sql, autoGeneratedKeys, resultSetType, resultSetConcurrency, useBinary);
+    }
+  }
+}
@@ -6,6 +6,7 @@
 package com.singlestore.jdbc.client;
 
 import com.singlestore.jdbc.SingleStoreBlob;
+import java.math.BigDecimal;
 
 /** Packet buffer interface */
 public interface ReadableByteBuf {
@@ -129,6 +130,43 @@ public interface ReadableByteBuf {
    */
   long atoull(int length);
 
+  /**
+   * Fast decimal text parsing to long, discarding fractional part.
+   *
+   * @param length data length
+   * @return long value
+   * @throws NumberFormatException if data is not a number
+   * @throws ArithmeticException if value is out of long range
+   */
+  long atollTruncated(int length);
+
+  /**
+   * Fast decimal text parsing to double
+   *
+   * @param length data length
+   * @return double value
+   * @throws NumberFormatException if data is not a number
+   */
+  double atod(int length);
+
+  /**
+   * Fast decimal text parsing to float
+   *
+   * @param length data length
+   * @return float value
+   * @throws NumberFormatException if data is not a number
+   */
+  float atof(int length);
+
+  /**
+   * Fast decimal text parsing to BigDecimal
+   *
+   * @param length data length
+   * @return BigDecimal value
+   * @throws NumberFormatException if data is not a number
+   */
+  BigDecimal readDecimal(int length);
+
   /** @return encoded length */
   Integer readLength();
 
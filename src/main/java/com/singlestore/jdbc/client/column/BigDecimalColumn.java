@@ -12,7 +12,6 @@ import com.singlestore.jdbc.client.ReadableByteBuf;
 import com.singlestore.jdbc.client.util.MutableInt;
 import com.singlestore.jdbc.message.server.ColumnDefinitionPacket;
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.sql.Date;
 import java.sql.SQLDataException;
 import java.sql.Time;
@@ -101,13 +100,13 @@ public class BigDecimalColumn extends ColumnDefinitionPacket implements ColumnDe
   @Override
   public Object getDefaultText(final Configuration conf, ReadableByteBuf buf, MutableInt length)
       throws SQLDataException {
-    return new BigDecimal(buf.readAscii(length.get()));
+    return buf.readDecimal(length.get());
   }
 
   @Override
   public Object getDefaultBinary(final Configuration conf, ReadableByteBuf buf, MutableInt length)
       throws SQLDataException {
-    return new BigDecimal(buf.readAscii(length.get()));
+    return buf.readDecimal(length.get());
   }
 
   @Override
@@ -123,13 +122,17 @@ public class BigDecimalColumn extends ColumnDefinitionPacket implements ColumnDe
 
   @Override
   public byte decodeByteText(ReadableByteBuf buf, MutableInt length) throws SQLDataException {
-    String str = buf.readString(length.get());
+    int initialPos = buf.pos();
     try {
-      return new BigDecimal(str).setScale(0, RoundingMode.DOWN).byteValueExact();
+      long result = buf.atollTruncated(length.get());
+      if ((byte) result == result) return (byte) result;
     } catch (NumberFormatException | ArithmeticException nfe) {
-      throw new SQLDataException(
-          String.format("value '%s' (%s) cannot be decoded as Byte", str, dataType));
+      // error thrown below
     }
+    buf.pos(initialPos);
+    String str = buf.readString(length.get());
+    throw new SQLDataException(
+        String.format("value '%s' (%s) cannot be decoded as Byte", str, dataType));
   }
 
   @Override
@@ -152,10 +155,12 @@ public class BigDecimalColumn extends ColumnDefinitionPacket implements ColumnDe
   @Override
   public short decodeShortText(ReadableByteBuf buf, MutableInt length) throws SQLDataException {
     long result;
-    String str = buf.readString(length.get());
+    int initialPos = buf.pos();
     try {
-      result = new BigDecimal(str).setScale(0, RoundingMode.DOWN).longValueExact();
+      result = buf.atollTruncated(length.get());
     } catch (NumberFormatException | ArithmeticException nfe) {
+      buf.pos(initialPos);
+      String str = buf.readString(length.get());
       throw new SQLDataException(String.format("value '%s' cannot be decoded as Short", str));
     }
     if ((short) result != result || (result < 0 && !isSigned())) {
@@ -172,10 +177,12 @@ public class BigDecimalColumn extends ColumnDefinitionPacket implements ColumnDe
   @Override
   public int decodeIntText(ReadableByteBuf buf, MutableInt length) throws SQLDataException {
     long result;
-    String str = buf.readString(length.get());
+    int initialPos = buf.pos();
     try {
-      result = new BigDecimal(str).setScale(0, RoundingMode.DOWN).longValueExact();
+      result = buf.atollTruncated(length.get());
     } catch (NumberFormatException | ArithmeticException nfe) {
+      buf.pos(initialPos);
+      String str = buf.readString(length.get());
       throw new SQLDataException(String.format("value '%s' cannot be decoded as Integer", str));
     }
     int res = (int) result;
@@ -192,42 +199,46 @@ public class BigDecimalColumn extends ColumnDefinitionPacket implements ColumnDe
 
   @Override
   public long decodeLongText(ReadableByteBuf buf, MutableInt length) throws SQLDataException {
-    String str2 = buf.readAscii(length.get());
+    int initialPos = buf.pos();
     try {
-      return new BigDecimal(str2).setScale(0, RoundingMode.DOWN).longValueExact();
+      return buf.atollTruncated(length.get());
     } catch (NumberFormatException | ArithmeticException nfe) {
+      buf.pos(initialPos);
+      String str2 = buf.readAscii(length.get());
       throw new SQLDataException(String.format("value '%s' cannot be decoded as Long", str2));
     }
   }
 
   @Override
   public long decodeLongBinary(ReadableByteBuf buf, MutableInt length) throws SQLDataException {
-    String str = buf.readString(length.get());
+    int initialPos = buf.pos();
     try {
-      return new BigDecimal(str).setScale(0, RoundingMode.DOWN).longValueExact();
+      return buf.atollTruncated(length.get());
     } catch (NumberFormatException | ArithmeticException nfe) {
+      buf.pos(initialPos);
+      String str = buf.readString(length.get());
       throw new SQLDataException(String.format("value '%s' cannot be decoded as Long", str));
     }
   }
 
   @Override
   public float decodeFloatText(ReadableByteBuf buf, MutableInt length) throws SQLDataException {
-    return Float.valueOf(buf.readAscii(length.get()));
+    return buf.atof(length.get());
   }
 
   @Override
   public float decodeFloatBinary(ReadableByteBuf buf, MutableInt length) throws SQLDataException {
-    return new BigDecimal(buf.readAscii(length.get())).floatValue();
+    return buf.atof(length.get());
   }
 
   @Override
   public double decodeDoubleText(ReadableByteBuf buf, MutableInt length) throws SQLDataException {
-    return Double.valueOf(buf.readAscii(length.get()));
+    return buf.atod(length.get());
   }
 
   @Override
   public double decodeDoubleBinary(ReadableByteBuf buf, MutableInt length) throws SQLDataException {
-    return new BigDecimal(buf.readAscii(length.get())).doubleValue();
+    return buf.atod(length.get());
   }
 
   @Override
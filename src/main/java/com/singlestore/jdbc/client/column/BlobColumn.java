@@ -10,8 +10,6 @@ import com.singlestore.jdbc.client.ColumnDecoder;
 import com.singlestore.jdbc.client.DataType;
 import com.singlestore.jdbc.client.ReadableByteBuf;
 import com.singlestore.jdbc.client.util.MutableInt;
-import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.sql.Blob;
 import java.sql.Date;
 import java.sql.SQLDataException;
@@ -137,10 +135,12 @@ public class BlobColumn extends StringColumn implements ColumnDecoder {
     long result;
     if (!isBinary()) {
       // TEXT column
-      String str2 = buf.readString(length.get());
+      int initialPos = buf.pos();
       try {
-        result = new BigDecimal(str2).setScale(0, RoundingMode.DOWN).longValue();
-      } catch (NumberFormatException nfe) {
+        result = buf.atollTruncated(length.get());
+      } catch (NumberFormatException | ArithmeticException nfe) {
+        buf.pos(initialPos);
+        String str2 = buf.readString(length.get());
         throw new SQLDataException(
             String.format("value '%s' (%s) cannot be decoded as Byte", str2, dataType));
       }
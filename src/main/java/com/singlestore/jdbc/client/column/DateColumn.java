@@ -11,6 +11,7 @@ import com.singlestore.jdbc.Configuration;
 import com.singlestore.jdbc.client.ColumnDecoder;
 import com.singlestore.jdbc.client.DataType;
 import com.singlestore.jdbc.client.ReadableByteBuf;
+import com.singlestore.jdbc.client.util.DateTimeConverter;
 import com.singlestore.jdbc.client.util.MutableInt;
 import com.singlestore.jdbc.message.server.ColumnDefinitionPacket;
 import java.sql.Date;
@@ -228,14 +229,10 @@ public class DateColumn extends ColumnDefinitionPacket implements ColumnDecoder
       return null;
     }
 
-    Calendar c = cal == null ? Calendar.getInstance() : cal;
-    synchronized (c) {
-      c.clear();
-      c.set(Calendar.YEAR, buf.readShort());
-      c.set(Calendar.MONTH, buf.readByte() - 1);
-      c.set(Calendar.DAY_OF_MONTH, buf.readByte());
-      return new Date(c.getTimeInMillis());
-    }
+    int year = buf.readShort();
+    int month = buf.readByte();
+    int dayOfMonth = buf.readByte();
+    return new Date(DateTimeConverter.epochMillis(cal, year, month, dayOfMonth, 0, 0, 0));
   }
 
   @Override
@@ -283,7 +280,6 @@ public class DateColumn extends ColumnDefinitionPacket implements ColumnDecoder
       return null;
     }
 
-    Calendar cal = calParam == null ? Calendar.getInstance() : calParam;
     int year;
     int month;
     long dayOfMonth;
@@ -297,14 +293,8 @@ public class DateColumn extends ColumnDefinitionPacket implements ColumnDecoder
       return null;
     }
 
-    Timestamp timestamp;
-    synchronized (cal) {
-      cal.clear();
-      cal.set(year, month - 1, (int) dayOfMonth, 0, 0, 0);
-      timestamp = new Timestamp(cal.getTimeInMillis());
-    }
-    timestamp.setNanos(0);
-    return timestamp;
+    return new Timestamp(
+        DateTimeConverter.epochMillis(calParam, year, month, (int) dayOfMonth, 0, 0, 0));
   }
 
   private Date getDate(Calendar cal, String val, String[] stDatePart) throws SQLDataException {
@@ -312,15 +302,7 @@ public class DateColumn extends ColumnDefinitionPacket implements ColumnDecoder
       int year = Integer.parseInt(stDatePart[0]);
       int month = Integer.parseInt(stDatePart[1]);
       int dayOfMonth = Integer.parseInt(stDatePart[2]);
-      Calendar c = cal == null ? Calendar.getInstance() : cal;
-      synchronized (c) {
-        c.clear();
-        c.set(Calendar.YEAR, year);
-        c.set(Calendar.MONTH, month - 1);
-        c.set(Calendar.DAY_OF_MONTH, dayOfMonth);
-        return new Date(c.getTimeInMillis());
-      }
-
+      return new Date(DateTimeConverter.epochMillis(cal, year, month, dayOfMonth, 0, 0, 0));
     } catch (NumberFormatException nfe) {
       throw new SQLDataException(
           String.format("value '%s' (%s) cannot be decoded as Date", val, dataType));
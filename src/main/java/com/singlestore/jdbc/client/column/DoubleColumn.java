@@ -12,7 +12,6 @@ import com.singlestore.jdbc.client.ReadableByteBuf;
 import com.singlestore.jdbc.client.util.MutableInt;
 import com.singlestore.jdbc.message.server.ColumnDefinitionPacket;
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.sql.Date;
 import java.sql.SQLDataException;
 import java.sql.Time;
@@ -92,7 +91,7 @@ public class DoubleColumn extends ColumnDefinitionPacket implements ColumnDecode
   @Override
   public Object getDefaultText(final Configuration conf, ReadableByteBuf buf, MutableInt length)
       throws SQLDataException {
-    return Double.valueOf(buf.readAscii(length.get()));
+    return buf.atod(length.get());
   }
 
   @Override
@@ -115,10 +114,12 @@ public class DoubleColumn extends ColumnDefinitionPacket implements ColumnDecode
   @Override
   public byte decodeByteText(ReadableByteBuf buf, MutableInt length) throws SQLDataException {
     long result;
-    String str = buf.readString(length.get());
+    int initialPos = buf.pos();
     try {
-      result = new BigDecimal(str).setScale(0, RoundingMode.DOWN).byteValueExact();
+      result = buf.atollTruncated(length.get());
     } catch (NumberFormatException | ArithmeticException nfe) {
+      buf.pos(initialPos);
+      String str = buf.readString(length.get());
       throw new SQLDataException(
           String.format("value '%s' (%s) cannot be decoded as Byte", str, dataType));
     }
@@ -153,10 +154,12 @@ public class DoubleColumn extends ColumnDefinitionPacket implements ColumnDecode
   @Override
   public short decodeShortText(ReadableByteBuf buf, MutableInt length) throws SQLDataException {
     long result;
-    String str = buf.readString(length.get());
+    int initialPos = buf.pos();
     try {
-      result = new BigDecimal(str).setScale(0, RoundingMode.DOWN).longValueExact();
+      result = buf.atollTruncated(length.get());
     } catch (NumberFormatException | ArithmeticException nfe) {
+      buf.pos(initialPos);
+      String str = buf.readString(length.get());
       throw new SQLDataException(String.format("value '%s' cannot be decoded as Short", str));
     }
     if ((short) result != result || (result < 0 && !isSigned())) {
@@ -178,10 +181,12 @@ public class DoubleColumn extends ColumnDefinitionPacket implements ColumnDecode
   @Override
   public int decodeIntText(ReadableByteBuf buf, MutableInt length) throws SQLDataException {
     long result;
-    String str = buf.readString(length.get());
+    int initialPos = buf.pos();
     try {
-      result = new BigDecimal(str).setScale(0, RoundingMode.DOWN).longValueExact();
+      result = buf.atollTruncated(length.get());
     } catch (NumberFormatException | ArithmeticException nfe) {
+      buf.pos(initialPos);
+      String str = buf.readString(length.get());
       throw new SQLDataException(String.format("value '%s' cannot be decoded as Integer", str));
     }
 
@@ -204,10 +209,12 @@ public class DoubleColumn extends ColumnDefinitionPacket implements ColumnDecode
 
   @Override
   public long decodeLongText(ReadableByteBuf buf, MutableInt length) throws SQLDataException {
-    String str2 = buf.readAscii(length.get());
+    int initialPos = buf.pos();
     try {
-      return new BigDecimal(str2).setScale(0, RoundingMode.DOWN).longValueExact();
+      return buf.atollTruncated(length.get());
     } catch (NumberFormatException | ArithmeticException nfe) {
+      buf.pos(initialPos);
+      String str2 = buf.readAscii(length.get());
       throw new SQLDataException(String.format("value '%s' cannot be decoded as Long", str2));
     }
   }
@@ -219,7 +226,7 @@ public class DoubleColumn extends ColumnDefinitionPacket implements ColumnDecode
 
   @Override
   public float decodeFloatText(ReadableByteBuf buf, MutableInt length) throws SQLDataException {
-    return Float.parseFloat(buf.readAscii(length.get()));
+    return buf.atof(length.get());
   }
 
   @Override
@@ -229,7 +236,7 @@ public class DoubleColumn extends ColumnDefinitionPacket implements ColumnDecode
 
   @Override
   public double decodeDoubleText(ReadableByteBuf buf, MutableInt length) throws SQLDataException {
-    return Double.parseDouble(buf.readAscii(length.get()));
+    return buf.atod(length.get());
   }
 
   @Override
@@ -192,7 +192,7 @@ public class SignedBigIntColumn extends ColumnDefinitionPacket implements Column
 
   @Override
   public float decodeFloatText(ReadableByteBuf buf, MutableInt length) throws SQLDataException {
-    return Float.parseFloat(buf.readAscii(length.get()));
+    return buf.atof(length.get());
   }
 
   @Override
@@ -202,7 +202,7 @@ public class SignedBigIntColumn extends ColumnDefinitionPacket implements Column
 
   @Override
   public double decodeDoubleText(ReadableByteBuf buf, MutableInt length) throws SQLDataException {
-    return Double.parseDouble(buf.readAscii(length.get()));
+    return buf.atod(length.get());
   }
 
   @Override
@@ -181,7 +181,7 @@ public class SignedIntColumn extends ColumnDefinitionPacket implements ColumnDec
 
   @Override
   public float decodeFloatText(ReadableByteBuf buf, MutableInt length) throws SQLDataException {
-    return Float.parseFloat(buf.readAscii(length.get()));
+    return buf.atof(length.get());
   }
 
   @Override
@@ -191,7 +191,7 @@ public class SignedIntColumn extends ColumnDefinitionPacket implements ColumnDec
 
   @Override
   public double decodeDoubleText(ReadableByteBuf buf, MutableInt length) throws SQLDataException {
-    return Double.parseDouble(buf.readAscii(length.get()));
+    return buf.atod(length.get());
   }
 
   @Override
@@ -189,7 +189,7 @@ public class SignedMediumIntColumn extends ColumnDefinitionPacket implements Col
 
   @Override
   public float decodeFloatText(ReadableByteBuf buf, MutableInt length) throws SQLDataException {
-    return Float.valueOf(buf.readAscii(length.get()));
+    return buf.atof(length.get());
   }
 
   @Override
@@ -201,7 +201,7 @@ public class SignedMediumIntColumn extends ColumnDefinitionPacket implements Col
 
   @Override
   public double decodeDoubleText(ReadableByteBuf buf, MutableInt length) throws SQLDataException {
-    return Double.valueOf(buf.readAscii(length.get()));
+    return buf.atod(length.get());
   }
 
   @Override
@@ -172,7 +172,7 @@ public class SignedSmallIntColumn extends ColumnDefinitionPacket implements Colu
 
   @Override
   public float decodeFloatText(ReadableByteBuf buf, MutableInt length) throws SQLDataException {
-    return Float.parseFloat(buf.readAscii(length.get()));
+    return buf.atof(length.get());
   }
 
   @Override
@@ -182,7 +182,7 @@ public class SignedSmallIntColumn extends ColumnDefinitionPacket implements Colu
 
   @Override
   public double decodeDoubleText(ReadableByteBuf buf, MutableInt length) throws SQLDataException {
-    return Double.parseDouble(buf.readAscii(length.get()));
+    return buf.atod(length.get());
   }
 
   @Override
@@ -184,7 +184,7 @@ public class SignedTinyIntColumn extends ColumnDefinitionPacket implements Colum
 
   @Override
   public float decodeFloatText(ReadableByteBuf buf, MutableInt length) throws SQLDataException {
-    return Float.parseFloat(buf.readAscii(length.get()));
+    return buf.atof(length.get());
   }
 
   @Override
@@ -194,7 +194,7 @@ public class SignedTinyIntColumn extends ColumnDefinitionPacket implements Colum
 
   @Override
   public double decodeDoubleText(ReadableByteBuf buf, MutableInt length) throws SQLDataException {
-    return Double.parseDouble(buf.readAscii(length.get()));
+    return buf.atod(length.get());
   }
 
   @Override
@@ -15,9 +15,7 @@ import com.singlestore.jdbc.client.util.MutableInt;
 import com.singlestore.jdbc.message.server.ColumnDefinitionPacket;
 import com.singlestore.jdbc.plugin.codec.LocalDateTimeCodec;
 import com.singlestore.jdbc.plugin.codec.LocalTimeCodec;
-import java.math.BigDecimal;
 import java.math.BigInteger;
-import java.math.RoundingMode;
 import java.sql.Date;
 import java.sql.SQLDataException;
 import java.sql.Time;
@@ -135,11 +133,13 @@ public class StringColumn extends ColumnDefinitionPacket implements ColumnDecode
 
   @Override
   public byte decodeByteText(ReadableByteBuf buf, MutableInt length) throws SQLDataException {
-    String str = buf.readString(length.get());
     long result;
+    int initialPos = buf.pos();
     try {
-      result = new BigDecimal(str).setScale(0, RoundingMode.DOWN).longValue();
-    } catch (NumberFormatException nfe) {
+      result = buf.atollTruncated(length.get());
+    } catch (NumberFormatException | ArithmeticException nfe) {
+      buf.pos(initialPos);
+      String str = buf.readString(length.get());
       throw new SQLDataException(
           String.format("value '%s' (%s) cannot be decoded as Byte", str, dataType));
     }
@@ -168,12 +168,16 @@ public class StringColumn extends ColumnDefinitionPacket implements ColumnDecode
 
   @Override
   public short decodeShortText(ReadableByteBuf buf, MutableInt length) throws SQLDataException {
-    String str = buf.readString(length.get());
+    int initialPos = buf.pos();
     try {
-      return new BigDecimal(str).setScale(0, RoundingMode.DOWN).shortValueExact();
+      long result = buf.atollTruncated(length.get());
+      if ((short) result == result) return (short) result;
     } catch (NumberFormatException | ArithmeticException nfe) {
-      throw new SQLDataException(String.format("value '%s' cannot be decoded as Short", str));
+      // error thrown below
     }
+    buf.pos(initialPos);
+    String str = buf.readString(length.get());
+    throw new SQLDataException(String.format("value '%s' cannot be decoded as Short", str));
   }
 
   @Override
@@ -183,10 +187,12 @@ public class StringColumn extends ColumnDefinitionPacket implements ColumnDecode
 
   @Override
   public int decodeIntText(ReadableByteBuf buf, MutableInt length) throws SQLDataException {
-    String str = buf.readString(length.get());
+    int initialPos = buf.pos();
     try {
-      return new BigDecimal(str).setScale(0, RoundingMode.DOWN).intValueExact();
+      return Math.toIntExact(buf.atollTruncated(length.get()));
     } catch (NumberFormatException | ArithmeticException nfe) {
+      buf.pos(initialPos);
+      String str = buf.readString(length.get());
       throw new SQLDataException(String.format("value '%s' cannot be decoded as Integer", str));
     }
   }
@@ -213,10 +219,12 @@ public class StringColumn extends ColumnDefinitionPacket implements ColumnDecode
 
   @Override
   public float decodeFloatText(ReadableByteBuf buf, MutableInt length) throws SQLDataException {
-    String val = buf.readString(length.get());
+    int initialPos = buf.pos();
     try {
-      return Float.parseFloat(val);
+      return buf.atof(length.get());
     } catch (NumberFormatException nfe) {
+      buf.pos(initialPos);
+      String val = buf.readString(length.get());
       throw new SQLDataException(String.format("value '%s' cannot be decoded as Float", val));
     }
   }
@@ -228,10 +236,12 @@ public class StringColumn extends ColumnDefinitionPacket implements ColumnDecode
 
   @Override
   public double decodeDoubleText(ReadableByteBuf buf, MutableInt length) throws SQLDataException {
-    String str2 = buf.readString(length.get());
+    int initialPos = buf.pos();
     try {
-      return Double.parseDouble(str2);
+      return buf.atod(length.get());
     } catch (NumberFormatException nfe) {
+      buf.pos(initialPos);
+      String str2 = buf.readString(length.get());
       throw new SQLDataException(String.format("value '%s' cannot be decoded as Double", str2));
     }
   }
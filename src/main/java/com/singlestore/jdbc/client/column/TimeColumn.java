@@ -9,6 +9,7 @@ import com.singlestore.jdbc.Configuration;
 import com.singlestore.jdbc.client.ColumnDecoder;
 import com.singlestore.jdbc.client.DataType;
 import com.singlestore.jdbc.client.ReadableByteBuf;
+import com.singlestore.jdbc.client.util.DateTimeConverter;
 import com.singlestore.jdbc.client.util.MutableInt;
 import com.singlestore.jdbc.message.server.ColumnDefinitionPacket;
 import com.singlestore.jdbc.plugin.codec.LocalTimeCodec;
@@ -267,8 +268,7 @@ public class TimeColumn extends ColumnDefinitionPacket implements ColumnDecoder
   @Override
   public Time decodeTimeText(ReadableByteBuf buf, MutableInt length, Calendar cal)
       throws SQLDataException {
-    Calendar c = cal == null ? Calendar.getInstance() : cal;
-    int offset = c.getTimeZone().getOffset(0);
+    int offset = DateTimeConverter.timeZone(cal).getOffset(0);
     int[] parts = LocalTimeCodec.parseTime(buf, length, this);
     long timeInMillis =
         (parts[1] * 3_600_000L + parts[2] * 60_000L + parts[3] * 1_000L + parts[4] / 1_000_000)
@@ -280,16 +280,15 @@ public class TimeColumn extends ColumnDefinitionPacket implements ColumnDecoder
   @Override
   public Time decodeTimeBinary(ReadableByteBuf buf, MutableInt length, Calendar calParam)
       throws SQLDataException {
-    Calendar cal = calParam == null ? Calendar.getInstance() : calParam;
     long dayOfMonth = 0;
     int hour = 0;
     int minutes = 0;
     int seconds = 0;
     long microseconds = 0;
     // specific case for TIME, to handle value not in 00:00:00-23:59:59
-    int offset = cal.getTimeZone().getOffset(0);
+    int offset = DateTimeConverter.timeZone(calParam).getOffset(0);
 
-    if (buf.pos() >= buf.buf().length - 1) {
+    if (buf.readableBytes() <= 1) {
       // If time is coming as '00:00:00' then corresponding byte value is null. Hence need to
       // pass default Time value in this case.
       return new Time(-offset);
@@ -343,7 +342,6 @@ public class TimeColumn extends ColumnDefinitionPacket implements ColumnDecoder
   @Override
   public Timestamp decodeTimestampBinary(ReadableByteBuf buf, MutableInt length, Calendar calParam)
       throws SQLDataException {
-    Calendar cal = calParam == null ? Calendar.getInstance() : calParam;
     long microseconds = 0;
 
     // specific case for TIME, to handle value not in 00:00:00-23:59:59
@@ -355,7 +353,7 @@ public class TimeColumn extends ColumnDefinitionPacket implements ColumnDecoder
     if (length.get() > 8) {
       microseconds = buf.readUnsignedInt();
     }
-    int offset = cal.getTimeZone().getOffset(0);
+    int offset = DateTimeConverter.timeZone(calParam).getOffset(0);
     long timeInMillis =
         ((24 * dayOfMonth + hour) * 3_600_000
                     + minutes * 60_000
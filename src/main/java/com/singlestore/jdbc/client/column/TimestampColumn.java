@@ -12,6 +12,7 @@ import com.singlestore.jdbc.Configuration;
 import com.singlestore.jdbc.client.ColumnDecoder;
 import com.singlestore.jdbc.client.DataType;
 import com.singlestore.jdbc.client.ReadableByteBuf;
+import com.singlestore.jdbc.client.util.DateTimeConverter;
 import com.singlestore.jdbc.client.util.MutableInt;
 import com.singlestore.jdbc.message.server.ColumnDefinitionPacket;
 import com.singlestore.jdbc.plugin.codec.LocalDateTimeCodec;
@@ -28,6 +29,16 @@ import java.util.Calendar;
 /** Column metadata definition */
 public class TimestampColumn extends ColumnDefinitionPacket implements ColumnDecoder {
 
+  /** time formatters, by number of fractional digits */
+  private static final DateTimeFormatter[] TIME_FORMATTERS = new DateTimeFormatter[7];
+
+  static {
+    TIME_FORMATTERS[0] = DateTimeFormatter.ofPattern("HH:mm:ss");
+    for (int i = 1; i < TIME_FORMATTERS.length; i++) {
+      TIME_FORMATTERS[i] = DateTimeFormatter.ofPattern("HH:mm:ss." + "SSSSSS".substring(0, i));
+    }
+  }
+
   /**
    * TIMESTAMP metadata type decoder
    *
@@ -174,14 +185,19 @@ public class TimestampColumn extends ColumnDefinitionPacket implements ColumnDec
     LocalDateTime dateTime =
         LocalDateTime.of(year, month, day, hour, minutes, seconds).plusNanos(microseconds * 1000);
 
-    StringBuilder microSecPattern = new StringBuilder();
+    int decimal = 0;
     if (getDecimals() > 0 || microseconds > 0) {
-      int decimal = getDecimals() & 0xff;
+      decimal = getDecimals() & 0xff;
       if (decimal == 0) decimal = 6;
-      microSecPattern.append(".");
+    }
+    DateTimeFormatter formatter;
+    if (decimal < TIME_FORMATTERS.length) {
+      formatter = TIME_FORMATTERS[decimal];
+    } else {
+      StringBuilder microSecPattern = new StringBuilder(".");
       for (int i = 0; i < decimal; i++) microSecPattern.append("S");
+      formatter = DateTimeFormatter.ofPattern("HH:mm:ss" + microSecPattern);
     }
-    DateTimeFormatter formatter = DateTimeFormatter.ofPattern("HH:mm:ss" + microSecPattern);
     return dateTime.toLocalDate().toString() + ' ' + dateTime.toLocalTime().format(formatter);
   }
 
@@ -250,86 +266,17 @@ public class TimestampColumn extends ColumnDefinitionPacket implements ColumnDec
   @Override
   public Date decodeDateText(ReadableByteBuf buf, MutableInt length, Calendar cal)
       throws SQLDataException {
-
-    int pos = buf.pos();
-    int nanoBegin = -1;
-    int[] timestampsPart = new int[] {0, 0, 0, 0, 0, 0, 0};
-    int partIdx = 0;
-    for (int begin = 0; begin < length.get(); begin++) {
-      byte b = buf.readByte();
-      if (b == '-' || b == ' ' || b == ':') {
-        partIdx++;
-        continue;
-      }
-      if (b == '.') {
-        partIdx++;
-        nanoBegin = begin;
-        continue;
-      }
-      if (b < '0' || b > '9') {
-        buf.pos(pos);
-        throw new SQLDataException(
-            String.format(
-                "value '%s' (%s) cannot be decoded as Timestamp",
-                buf.readString(length.get()), dataType));
-      }
-
-      timestampsPart[partIdx] = timestampsPart[partIdx] * 10 + b - 48;
-    }
-    if (timestampsPart[0] == 0
-        && timestampsPart[1] == 0
-        && timestampsPart[2] == 0
-        && timestampsPart[3] == 0
-        && timestampsPart[4] == 0
-        && timestampsPart[5] == 0
-        && timestampsPart[6] == 0) {
+    Timestamp timestamp = decodeTimestampText(buf, length, cal);
+    if (timestamp == null) {
       length.set(NULL_LENGTH);
       return null;
     }
-
-    // fix non-leading tray for nanoseconds
-    if (nanoBegin > 0) {
-      for (int begin = 0; begin < 6 - (length.get() - nanoBegin - 1); begin++) {
-        timestampsPart[6] = timestampsPart[6] * 10;
-      }
-    }
-
-    Timestamp timestamp;
-    if (cal == null) {
-      Calendar c = Calendar.getInstance();
-      c.set(
-          timestampsPart[0],
-          timestampsPart[1] - 1,
-          timestampsPart[2],
-          timestampsPart[3],
-          timestampsPart[4],
-          timestampsPart[5]);
-      timestamp = new Timestamp(c.getTime().getTime());
-      timestamp.setNanos(timestampsPart[6] * 1000);
-    } else {
-      synchronized (cal) {
-        cal.clear();
-        cal.set(
-            timestampsPart[0],
-            timestampsPart[1] - 1,
-            timestampsPart[2],
-            timestampsPart[3],
-            timestampsPart[4],
-            timestampsPart[5]);
-        timestamp = new Timestamp(cal.getTime().getTime());
-        timestamp.setNanos(timestampsPart[6] * 1000);
-      }
-    }
-
-    String st = timestamp.toString();
-    return Date.valueOf(st.substring(0, 10));
+    return defaultZoneDate(timestamp.getTime());
   }
 
   @Override
   public Date decodeDateBinary(ReadableByteBuf buf, MutableInt length, Calendar calParam)
       throws SQLDataException {
-    Calendar cal = calParam == null ? Calendar.getInstance() : calParam;
-
     if (length.get() == 0) {
       length.set(NULL_LENGTH);
       return null;
@@ -364,15 +311,8 @@ public class TimestampColumn extends ColumnDefinitionPacket implements ColumnDec
       return null;
     }
 
-    Timestamp timestamp;
-    synchronized (cal) {
-      cal.clear();
-      cal.set(year, month - 1, dayOfMonth, hour, minutes, seconds);
-      timestamp = new Timestamp(cal.getTimeInMillis());
-    }
-    timestamp.setNanos((int) (microseconds * 1000));
-    String st = timestamp.toString();
-    return Date.valueOf(st.substring(0, 10));
+    return defaultZoneDate(
+        DateTimeConverter.epochMillis(calParam, year, month, dayOfMonth, hour, minutes, seconds));
   }
 
   @Override
@@ -383,15 +323,13 @@ public class TimestampColumn extends ColumnDefinitionPacket implements ColumnDec
       length.set(NULL_LENGTH);
       return null;
     }
-    Calendar cc = cal == null ? Calendar.getInstance() : cal;
-    ZonedDateTime d = EPOCH_DATE.atTime(lt.toLocalTime()).atZone(cc.getTimeZone().toZoneId());
+    ZonedDateTime d = EPOCH_DATE.atTime(lt.toLocalTime()).atZone(DateTimeConverter.zoneId(cal));
     return new Time(d.toEpochSecond() * 1000 + d.getNano() / 1_000_000);
   }
 
   @Override
   public Time decodeTimeBinary(ReadableByteBuf buf, MutableInt length, Calendar calParam)
       throws SQLDataException {
-    Calendar cal = calParam == null ? Calendar.getInstance() : calParam;
     long dayOfMonth;
     int hour = 0;
     int minutes = 0;
@@ -418,29 +356,28 @@ public class TimestampColumn extends ColumnDefinitionPacket implements ColumnDec
       length.set(NULL_LENGTH);
       return null;
     }
-    synchronized (cal) {
-      cal.clear();
-      cal.set(1970, Calendar.JANUARY, 1, hour, minutes, seconds);
-      return new Time(cal.getTimeInMillis() + microseconds / 1_000);
-    }
+    return new Time(
+        DateTimeConverter.epochMillis(calParam, 1970, 1, 1, hour, minutes, seconds)
+            + microseconds / 1_000);
   }
 
   @Override
   public Timestamp decodeTimestampText(ReadableByteBuf buf, MutableInt length, Calendar calParam)
       throws SQLDataException {
     int pos = buf.pos();
-    int nanoBegin = -1;
-    int[] timestampsPart = new int[] {0, 0, 0, 0, 0, 0, 0};
+    int year = 0;
+    int month = 0;
+    int dayOfMonth = 0;
+    int hour = 0;
+    int minutes = 0;
+    int seconds = 0;
+    int microseconds = 0;
+    int fractionDigits = 0;
     int partIdx = 0;
     for (int begin = 0; begin < length.get(); begin++) {
       byte b = buf.readByte();
-      if (b == '-' || b == ' ' || b == ':') {
-        partIdx++;
-        continue;
-      }
-      if (b == '.') {
+      if (b == '-' || b == ' ' || b == ':' || b == '.') {
         partIdx++;
-        nanoBegin = begin;
         continue;
       }
       if (b < '0' || b > '9') {
@@ -451,58 +388,57 @@ public class TimestampColumn extends ColumnDefinitionPacket implements ColumnDec
                 buf.readString(length.get()), dataType.name()));
       }
 
-      timestampsPart[partIdx] = timestampsPart[partIdx] * 10 + b - 48;
+      int digit = b - '0';
+      switch (partIdx) {
+        case 0:
+          year = year * 10 + digit;
+          break;
+        case 1:
+          month = month * 10 + digit;
+          break;
+        case 2:
+          dayOfMonth = dayOfMonth * 10 + digit;
+          break;
+        case 3:
+          hour = hour * 10 + digit;
+          break;
+        case 4:
+          minutes = minutes * 10 + digit;
+          break;
+        case 5:
+          seconds = seconds * 10 + digit;
+          break;
+        default:
+          microseconds = microseconds * 10 + digit;
+          fractionDigits++;
+      }
     }
-    if (timestampsPart[0] == 0
-        && timestampsPart[1] == 0
-        && timestampsPart[2] == 0
-        && timestampsPart[3] == 0
-        && timestampsPart[4] == 0
-        && timestampsPart[5] == 0
-        && timestampsPart[6] == 0) {
+    if (year == 0
+        && month == 0
+        && dayOfMonth == 0
+        && hour == 0
+        && minutes == 0
+        && seconds == 0
+        && microseconds == 0) {
       return null;
     }
 
-    // fix non leading tray for nanoseconds
-    if (nanoBegin > 0) {
-      for (int begin = 0; begin < 6 - (length.get() - nanoBegin - 1); begin++) {
-        timestampsPart[6] = timestampsPart[6] * 10;
-      }
+    // fix non leading tray for microseconds
+    for (int i = fractionDigits; i < 6; i++) {
+      microseconds *= 10;
     }
 
-    Timestamp timestamp;
-    if (calParam == null) {
-      Calendar c = Calendar.getInstance();
-      c.set(
-          timestampsPart[0],
-          timestampsPart[1] - 1,
-          timestampsPart[2],
-          timestampsPart[3],
-          timestampsPart[4],
-          timestampsPart[5]);
-      timestamp = new Timestamp(c.getTime().getTime());
-      timestamp.setNanos(timestampsPart[6] * 1000);
-    } else {
-      synchronized (calParam) {
-        calParam.clear();
-        calParam.set(
-            timestampsPart[0],
-            timestampsPart[1] - 1,
-            timestampsPart[2],
-            timestampsPart[3],
-            timestampsPart[4],
-            timestampsPart[5]);
-        timestamp = new Timestamp(calParam.getTime().getTime());
-        timestamp.setNanos(timestampsPart[6] * 1000);
-      }
-    }
+    Timestamp timestamp =
+        new Timestamp(
+            DateTimeConverter.epochMillis(
+                calParam, year, month, dayOfMonth, hour, minutes, seconds));
+    timestamp.setNanos(microseconds * 1000);
     return timestamp;
   }
 
   @Override
   public Timestamp decodeTimestampBinary(ReadableByteBuf buf, MutableInt length, Calendar calParam)
       throws SQLDataException {
-    Calendar cal = calParam == null ? Calendar.getInstance() : calParam;
     int year;
     int month = 1;
     long dayOfMonth = 1;
@@ -532,13 +468,27 @@ public class TimestampColumn extends ColumnDefinitionPacket implements ColumnDec
         && minutes == 0
         && seconds == 0
         && microseconds == 0) return null;
-    Timestamp timestamp;
-    synchronized (cal) {
-      cal.clear();
-      cal.set(year, month - 1, (int) dayOfMonth, hour, minutes, seconds);
-      timestamp = new Timestamp(cal.getTimeInMillis());
-    }
+    Timestamp timestamp =
+        new Timestamp(
+            DateTimeConverter.epochMillis(
+                calParam, year, month, (int) dayOfMonth, hour, minutes, seconds));
     timestamp.setNanos((int) (microseconds * 1000));
     return timestamp;
   }
+
+  /**
+   * Date of an instant in default time zone, like Date.valueOf(timestamp.toString().substring(0,
+   * 10)).
+   *
+   * @param epochMillis epoch milliseconds
+   * @return date
+   */
+  private static Date defaultZoneDate(long epochMillis) {
+    int date = DateTimeConverter.localDate(DateTimeConverter.localMillis(null, epochMillis));
+    if (date == -1) {
+      return Date.valueOf(new Timestamp(epochMillis).toString().substring(0, 10));
+    }
+    return new Date(
+        DateTimeConverter.epochMillis(null, date / 10000, date / 100 % 100, date % 100, 0, 0, 0));
+  }
 }
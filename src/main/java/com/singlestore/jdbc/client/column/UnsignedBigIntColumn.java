@@ -234,7 +234,7 @@ public class UnsignedBigIntColumn extends ColumnDefinitionPacket implements Colu
 
   @Override
   public float decodeFloatText(ReadableByteBuf buf, MutableInt length) throws SQLDataException {
-    return Float.parseFloat(buf.readAscii(length.get()));
+    return buf.atof(length.get());
   }
 
   @Override
@@ -249,7 +249,7 @@ public class UnsignedBigIntColumn extends ColumnDefinitionPacket implements Colu
 
   @Override
   public double decodeDoubleText(ReadableByteBuf buf, MutableInt length) throws SQLDataException {
-    return Double.parseDouble(buf.readAscii(length.get()));
+    return buf.atod(length.get());
   }
 
   @Override
@@ -189,7 +189,7 @@ public class UnsignedMediumIntColumn extends ColumnDefinitionPacket implements C
 
   @Override
   public float decodeFloatText(ReadableByteBuf buf, MutableInt length) throws SQLDataException {
-    return Float.parseFloat(buf.readAscii(length.get()));
+    return buf.atof(length.get());
   }
 
   @Override
@@ -201,7 +201,7 @@ public class UnsignedMediumIntColumn extends ColumnDefinitionPacket implements C
 
   @Override
   public double decodeDoubleText(ReadableByteBuf buf, MutableInt length) throws SQLDataException {
-    return Double.parseDouble(buf.readAscii(length.get()));
+    return buf.atod(length.get());
   }
 
   @Override
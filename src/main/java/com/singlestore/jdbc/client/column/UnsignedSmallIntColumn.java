@@ -180,7 +180,7 @@ public class UnsignedSmallIntColumn extends ColumnDefinitionPacket implements Co
 
   @Override
   public float decodeFloatText(ReadableByteBuf buf, MutableInt length) throws SQLDataException {
-    return Float.parseFloat(buf.readAscii(length.get()));
+    return buf.atof(length.get());
   }
 
   @Override
@@ -190,7 +190,7 @@ public class UnsignedSmallIntColumn extends ColumnDefinitionPacket implements Co
 
   @Override
   public double decodeDoubleText(ReadableByteBuf buf, MutableInt length) throws SQLDataException {
-    return Double.parseDouble(buf.readAscii(length.get()));
+    return buf.atod(length.get());
   }
 
   @Override
@@ -187,7 +187,7 @@ public class UnsignedTinyIntColumn extends ColumnDefinitionPacket implements Col
 
   @Override
   public float decodeFloatText(ReadableByteBuf buf, MutableInt length) throws SQLDataException {
-    return Float.parseFloat(buf.readAscii(length.get()));
+    return buf.atof(length.get());
   }
 
   @Override
@@ -197,7 +197,7 @@ public class UnsignedTinyIntColumn extends ColumnDefinitionPacket implements Col
 
   @Override
   public double decodeDoubleText(ReadableByteBuf buf, MutableInt length) throws SQLDataException {
-    return Double.parseDouble(buf.readAscii(length.get()));
+    return buf.atod(length.get());
   }
 
   @Override
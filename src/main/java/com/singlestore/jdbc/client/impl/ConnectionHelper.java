@@ -31,6 +31,7 @@ import java.io.IOException;
 import java.lang.reflect.Constructor;
 import java.net.InetSocketAddress;
 import java.net.Socket;
+import java.nio.channels.SocketChannel;
 import java.sql.SQLException;
 import java.sql.SQLNonTransientConnectionException;
 import java.util.Arrays;
@@ -103,6 +104,9 @@ public final class ConnectionHelper {
             exp);
       }
     }
+    if (conf.useNioChannel()) {
+      return SocketChannel.open().socket();
+    }
     socketFactory = SocketFactory.getDefault();
     return socketFactory.createSocket();
   }
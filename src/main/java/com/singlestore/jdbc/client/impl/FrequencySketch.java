@@ -0,0 +1,80 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2021-2023 SingleStore, Inc.
+
+package com.singlestore.jdbc.client.impl;
+
+/**
+ * Approximate access frequency of keys (TinyLFU count-min sketch).
+ *
+ * <p>Each key hash maps to 4 counters of 4 bits, frequency being the minimum of them. Counters are
+ * halved every 10 * width increments, so that frequency reflects recent history. Not thread safe.
+ */
+public final class FrequencySketch {
+
+  private static final long[] SEEDS = {
+    0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L
+  };
+  private static final long RESET_MASK = 0x7777777777777777L;
+
+  private final long[] table;
+  private final int mask;
+  private final int sampleSize;
+  private int additions;
+
+  /**
+   * Constructor
+   *
+   * @param maximumSize number of keys whose frequency is tracked (cache size)
+   */
+  public FrequencySketch(int maximumSize) {
+    int width = Integer.highestOneBit(Math.max(maximumSize, 8) - 1) << 1;
+    this.table = new long[width];
+    this.mask = width - 1;
+    this.sampleSize = 10 * width;
+  }
+
+  /**
+   * Estimated frequency of key
+   *
+   * @param hash key hash
+   * @return frequency, between 0 and 15
+   */
+  public int frequency(int hash) {
+    int frequency = 15;
+    for (int i = 0; i < 4; i++) {
+      long h = mix(hash, i);
+      int offset = (int) (h >>> 60) << 2;
+      frequency = Math.min(frequency, (int) ((table[(int) h & mask] >>> offset) & 0xf));
+    }
+    return frequency;
+  }
+
+  /**
+   * Record an access to key
+   *
+   * @param hash key hash
+   */
+  public void increment(int hash) {
+    boolean added = false;
+    for (int i = 0; i < 4; i++) {
+      long h = mix(hash, i);
+      int index = (int) h & mask;
+      int offset = (int) (h >>> 60) << 2;
+      if (((table[index] >>> offset) & 0xf) != 0xf) {
+        table[index] += 1L << offset;
+        added = true;
+      }
+    }
+    if (added && ++additions == sampleSize) {
+      for (int i = 0; i < table.length; i++) {
+        table[i] = (table[i] >>> 1) & RESET_MASK;
+      }
+      additions = sampleSize >>> 1;
+    }
+  }
+
+  private static long mix(int hash, int i) {
+    long h = (hash + SEEDS[i]) * SEEDS[i];
+    return h + (h >>> 32);
+  }
+}
@@ -9,10 +9,18 @@ import com.singlestore.jdbc.ServerPreparedStatement;
 import com.singlestore.jdbc.export.Prepare;
 import com.singlestore.jdbc.message.server.CachedPrepareResultPacket;
 import com.singlestore.jdbc.message.server.PrepareResultPacket;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 
-/** LRU prepare cache */
+/**
+ * LRU prepare cache.
+ *
+ * <p>With frequency admission, a new PREPARE result is admitted in a full cache only if its SQL is
+ * more frequently prepared than the least recently used entry (TinyLFU), so that one-off commands
+ * don't evict frequently used ones.
+ */
 public final class PrepareCache extends LinkedHashMap<String, CachedPrepareResultPacket>
     implements com.singlestore.jdbc.client.PrepareCache {
 
@@ -21,6 +29,12 @@ public final class PrepareCache extends LinkedHashMap<String, CachedPrepareResul
   private final int maxSize;
   /** client */
   private final transient StandardClient con;
+  /** access frequency, null if frequency admission is disabled */
+  private final transient FrequencySketch sketch;
+  /** hash of SQL evicted or not admitted, to count re-prepares */
+  private final transient LinkedHashSet<Integer> evicted = new LinkedHashSet<>();
+
+  private final transient PrepareCacheStats stats = PrepareCacheStats.INSTANCE;
 
   /**
    * LRU prepare cache constructor
@@ -29,14 +43,29 @@ public final class PrepareCache extends LinkedHashMap<String, CachedPrepareResul
    * @param con client
    */
   public PrepareCache(int size, StandardClient con) {
+    this(size, false, con);
+  }
+
+  /**
+   * Prepare cache constructor
+   *
+   * @param size cache size
+   * @param frequencyAdmission admit new entries in full cache according to access frequency
+   * @param con client
+   */
+  public PrepareCache(int size, boolean frequencyAdmission, StandardClient con) {
     super(size, .75f, true);
     this.maxSize = size;
     this.con = con;
+    this.sketch = frequencyAdmission ? new FrequencySketch(size) : null;
+    stats.registerJmx();
   }
 
   @Override
   public boolean removeEldestEntry(Map.Entry<String, CachedPrepareResultPacket> eldest) {
     if (this.size() > maxSize) {
+      stats.evictions.increment();
+      remember(eldest.getKey());
       eldest.getValue().unCache(con);
       return true;
     }
@@ -45,7 +74,14 @@ public final class PrepareCache extends LinkedHashMap<String, CachedPrepareResul
 
   public synchronized Prepare get(String key, ServerPreparedStatement preparedStatement) {
     CachedPrepareResultPacket prepare = super.get(key);
-    if (prepare != null && preparedStatement != null) {
+    if (sketch != null) sketch.increment(key.hashCode());
+    if (prepare == null) {
+      stats.misses.increment();
+      if (evicted.remove(key.hashCode())) stats.rePrepares.increment();
+      return null;
+    }
+    stats.hits.increment();
+    if (preparedStatement != null) {
       prepare.incrementUse(preparedStatement);
     }
     return prepare;
@@ -62,6 +98,16 @@ public final class PrepareCache extends LinkedHashMap<String, CachedPrepareResul
       return cached;
     }
 
+    if (sketch != null && size() >= maxSize) {
+      String victim = keySet().iterator().next();
+      if (sketch.frequency(key.hashCode()) <= sketch.frequency(victim.hashCode())) {
+        // not admitted: PREPARE result will be closed with statement
+        stats.rejections.increment();
+        remember(key);
+        return null;
+      }
+    }
+
     if (((CachedPrepareResultPacket) result).cache()) {
       ((CachedPrepareResultPacket) result).incrementUse(preparedStatement);
       super.put(key, (CachedPrepareResultPacket) result);
@@ -69,6 +115,15 @@ public final class PrepareCache extends LinkedHashMap<String, CachedPrepareResul
     return null;
   }
 
+  private void remember(String key) {
+    evicted.add(key.hashCode());
+    if (evicted.size() > maxSize) {
+      Iterator<Integer> it = evicted.iterator();
+      it.next();
+      it.remove();
+    }
+  }
+
   public CachedPrepareResultPacket get(Object key) {
     throw new IllegalStateException("not available method");
   }
@@ -0,0 +1,71 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2021-2023 SingleStore, Inc.
+
+package com.singlestore.jdbc.client.impl;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Prepare cache counters, summed over all connections of the JVM. Registered as JMX bean
+ * "com.singlestore.jdbc:type=PrepareCache" when first prepare cache is created.
+ */
+public final class PrepareCacheStats implements PrepareCacheStatsMBean {
+
+  /** JVM instance */
+  public static final PrepareCacheStats INSTANCE = new PrepareCacheStats();
+
+  final LongAdder hits = new LongAdder();
+  final LongAdder misses = new LongAdder();
+  final LongAdder evictions = new LongAdder();
+  final LongAdder rejections = new LongAdder();
+  final LongAdder rePrepares = new LongAdder();
+
+  private volatile boolean registered;
+
+  private PrepareCacheStats() {}
+
+  void registerJmx() {
+    if (registered) return;
+    synchronized (this) {
+      if (registered) return;
+      registered = true;
+      try {
+        MBeanServer mbs = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName("com.singlestore.jdbc:type=PrepareCache");
+        if (!mbs.isRegistered(name)) {
+          mbs.registerMBean(this, name);
+        }
+      } catch (Exception e) {
+        // JMX not available, counters still readable from INSTANCE
+      }
+    }
+  }
+
+  @Override
+  public long getHits() {
+    return hits.sum();
+  }
+
+  @Override
+  public long getMisses() {
+    return misses.sum();
+  }
+
+  @Override
+  public long getEvictions() {
+    return evictions.sum();
+  }
+
+  @Override
+  public long getRejections() {
+    return rejections.sum();
+  }
+
+  @Override
+  public long getRePrepares() {
+    return rePrepares.sum();
+  }
+}
@@ -0,0 +1,42 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2021-2023 SingleStore, Inc.
+
+package com.singlestore.jdbc.client.impl;
+
+public interface PrepareCacheStatsMBean {
+  /**
+   * get number of prepare cache lookups that found a cached PREPARE result
+   *
+   * @return hit number
+   */
+  long getHits();
+
+  /**
+   * get number of prepare cache lookups that found no cached PREPARE result
+   *
+   * @return miss number
+   */
+  long getMisses();
+
+  /**
+   * get number of PREPARE results evicted from cache, and closed if not used
+   *
+   * @return eviction number
+   */
+  long getEvictions();
+
+  /**
+   * get number of PREPARE results not admitted in a full cache, being less frequently used than
+   * cache eviction candidate
+   *
+   * @return rejection number
+   */
+  long getRejections();
+
+  /**
+   * get number of PREPARE commands sent for SQL previously evicted from cache or not admitted
+   *
+   * @return re-prepare number
+   */
+  long getRePrepares();
+}
@@ -17,6 +17,9 @@ import com.singlestore.jdbc.client.context.RedoContext;
 import com.singlestore.jdbc.client.result.Result;
 import com.singlestore.jdbc.client.result.StreamingResult;
 import com.singlestore.jdbc.client.socket.Writer;
+import com.singlestore.jdbc.client.socket.impl.ChannelInputStream;
+import com.singlestore.jdbc.client.socket.impl.ChannelOutputStream;
+import com.singlestore.jdbc.client.socket.impl.ChannelSelector;
 import com.singlestore.jdbc.client.socket.impl.CompressInputStream;
 import com.singlestore.jdbc.client.socket.impl.CompressOutputStream;
 import com.singlestore.jdbc.client.socket.impl.PacketReader;
@@ -73,6 +76,7 @@ public class StandardClient implements Client, AutoCloseable {
   private final Configuration conf;
   private final HostAddress hostAddress;
   private final boolean disablePipeline;
+  private final int pipelineWindowSize;
   protected Writer writer;
   protected Context context;
   private boolean closed = false;
@@ -83,6 +87,11 @@ public class StandardClient implements Client, AutoCloseable {
   protected boolean timeOut;
   private BigInteger aggregatorId;
   private transient Timer cancelTimer;
+  /** statement ids whose COM_STMT_CLOSE is written in front of next command */
+  private final Object pendingClosesLock = new Object();
+
+  private int[] pendingCloses = new int[16];
+  private int pendingCloseCount;
 
   /**
    * Constructor
@@ -103,6 +112,7 @@ public class StandardClient implements Client, AutoCloseable {
     this.hostAddress = hostAddress;
     this.exceptionFactory = new ExceptionFactory(conf, hostAddress);
     this.disablePipeline = conf.disablePipeline();
+    this.pipelineWindowSize = conf.pipelineWindowSize();
     this.socketTimeout = conf.socketTimeout();
 
     String host = hostAddress != null ? hostAddress.host : null;
@@ -138,7 +148,7 @@ public class StandardClient implements Client, AutoCloseable {
       // **********************************************************************
       // creating socket
       // **********************************************************************
-      OutputStream out = socket.getOutputStream();
+      OutputStream out = new BufferedOutputStream(socket.getOutputStream(), 16384);
       InputStream in =
           conf.useReadAheadInput()
               ? new ReadAheadBufferedStream(socket.getInputStream())
@@ -175,7 +185,8 @@ public class StandardClient implements Client, AutoCloseable {
                   clientCapabilities,
                   conf,
                   this.exceptionFactory,
-                  new com.singlestore.jdbc.client.impl.PrepareCache(conf.prepStmtCacheSize(), this))
+                  new com.singlestore.jdbc.client.impl.PrepareCache(
+                      conf.prepStmtCacheSize(), conf.prepStmtCacheFrequencyAdmission(), this))
               : new BaseContext(
                   hostAddress,
                   handshake,
@@ -183,7 +194,7 @@ public class StandardClient implements Client, AutoCloseable {
                   conf,
                   this.exceptionFactory,
                   new com.singlestore.jdbc.client.impl.PrepareCache(
-                      conf.prepStmtCacheSize(), this));
+                      conf.prepStmtCacheSize(), conf.prepStmtCacheFrequencyAdmission(), this));
 
       this.reader.setServerThreadId(handshake.getThreadId(), hostAddress);
       this.writer.setServerThreadId(handshake.getThreadId(), hostAddress);
@@ -238,6 +249,16 @@ public class StandardClient implements Client, AutoCloseable {
 
       ConnectionHelper.authenticationHandler(credential, writer, reader, context);
 
+      // **********************************************************************
+      // switch to socket channel if required
+      // **********************************************************************
+      if (sslSocket == null && socket.getChannel() != null) {
+        ChannelSelector channel = new ChannelSelector(socket.getChannel());
+        out = new ChannelOutputStream(channel);
+        in = new ChannelInputStream(channel);
+        assignStream(out, in, conf, handshake.getThreadId());
+      }
+
       // **********************************************************************
       // activate compression if required
       // **********************************************************************
@@ -385,6 +406,7 @@ public class StandardClient implements Client, AutoCloseable {
       if (logger.isDebugEnabled() && message.description() != null) {
         logger.debug("execute query: {}", message.description());
       }
+      if (pendingCloseCount > 0) writePendingCloses();
       return message.encode(writer, context);
     } catch (IOException ioException) {
       if (ioException instanceof MaxAllowedPacketException) {
@@ -455,9 +477,9 @@ public class StandardClient implements Client, AutoCloseable {
       boolean canRedo)
       throws SQLException {
     List<Completion> results = new ArrayList<>();
-    int perMsgCounter = 0;
     int readCounter = 0;
     int[] responseMsg = new int[messages.length];
+    SQLException error = null;
     try {
       if (disablePipeline) {
         for (readCounter = 0; readCounter < messages.length; readCounter++) {
@@ -473,82 +495,182 @@ public class StandardClient implements Client, AutoCloseable {
                   canRedo));
         }
       } else {
-        for (int i = 0; i < messages.length; i++) {
-          responseMsg[i] = sendQuery(messages[i]);
+        // commands are sent together, socket being flushed only when buffer is full.
+        // compression protocol needs a flush for each command, resetting compression sequence
+        boolean coalesce = !context.hasClientCapability(Capabilities.COMPRESS);
+        // position in written stream of each command, to limit the size of commands whose
+        // results have not been read: big batches would otherwise fill both socket buffers,
+        // server waiting for results to be read while client is still sending commands.
+        long[] sentPosition = pipelineWindowSize > 0 ? new long[messages.length] : null;
+        if (coalesce) writer.startPipeline();
+        try {
+          for (int i = 0; i < messages.length; i++) {
+            if (sentPosition != null) {
+              sentPosition[i] = writer.getWrittenLength();
+              if (readCounter < i
+                  && sentPosition[i] - sentPosition[readCounter] > pipelineWindowSize) {
+                if (coalesce) endPipeline();
+                // read oldest results until half the window remains, so following commands are
+                // still sent together
+                while (readCounter < i
+                    && sentPosition[i] - sentPosition[readCounter] > pipelineWindowSize / 2) {
+                  SQLException err =
+                      readPipelineResponses(
+                          results,
+                          stmt,
+                          messages[readCounter],
+                          responseMsg[readCounter++],
+                          fetchSize,
+                          maxRows,
+                          resultSetConcurrency,
+                          resultSetType,
+                          closeOnCompletion);
+                  if (error == null) error = err;
+                }
+                if (coalesce) writer.startPipeline();
+              }
+            }
+            responseMsg[i] = sendQuery(messages[i]);
+          }
+        } finally {
+          if (coalesce && !closed) endPipeline();
         }
         while (readCounter < messages.length) {
-          readCounter++;
-          for (perMsgCounter = 0; perMsgCounter < responseMsg[readCounter - 1]; perMsgCounter++) {
-            results.addAll(
-                readResponse(
-                    stmt,
-                    messages[readCounter - 1],
-                    fetchSize,
-                    maxRows,
-                    resultSetConcurrency,
-                    resultSetType,
-                    closeOnCompletion));
-          }
+          SQLException err =
+              readPipelineResponses(
+                  results,
+                  stmt,
+                  messages[readCounter],
+                  responseMsg[readCounter++],
+                  fetchSize,
+                  maxRows,
+                  resultSetConcurrency,
+                  resultSetType,
+                  closeOnCompletion);
+          if (error == null) error = err;
         }
       }
-      return results;
+      if (error == null) return results;
     } catch (SQLException sqlException) {
+      error = sqlException;
       if (!closed) {
         results.add(null);
         // read remaining results
-        perMsgCounter++;
-        for (; readCounter > 0 && perMsgCounter < responseMsg[readCounter - 1]; perMsgCounter++) {
+        try {
+          for (int i = readCounter; i < messages.length; i++) {
+            readPipelineResponses(
+                results,
+                stmt,
+                messages[i],
+                responseMsg[i],
+                fetchSize,
+                maxRows,
+                resultSetConcurrency,
+                resultSetType,
+                closeOnCompletion);
+          }
+        } catch (SQLException e) {
+          // eat
+        }
+      }
+    }
+
+    if (!closed) {
+      // prepare associated to PrepareStatement need to be uncached
+      for (Completion result : results) {
+        if (result instanceof PrepareResultPacket && stmt instanceof ServerPreparedStatement) {
+          try {
+            ((PrepareResultPacket) result).decrementUse(this, (ServerPreparedStatement) stmt);
+          } catch (SQLException e) {
+            // eat
+          }
+        }
+      }
+    }
+
+    int batchUpdateLength = 0;
+    for (ClientMessage message : messages) {
+      batchUpdateLength += message.batchUpdateLength();
+    }
+    // leading commands without update count (PREPARE pipelined with executions) are not reported
+    int skip = 0;
+    while (skip < messages.length
+        && skip < results.size()
+        && messages[skip].batchUpdateLength() == 0
+        && responseMsg[skip] == 1) {
+      skip++;
+    }
+    if (skip > 0) {
+      throw exceptionFactory.createBatchUpdate(
+          results.subList(skip, results.size()),
+          batchUpdateLength,
+          Arrays.copyOfRange(responseMsg, skip, responseMsg.length),
+          error);
+    }
+    throw exceptionFactory.createBatchUpdate(results, batchUpdateLength, responseMsg, error);
+  }
+
+  /**
+   * Read all responses of a pipelined command. Since following commands have already been sent, an
+   * error doesn't stop reading: failing result is replaced by null and remaining responses of this
+   * command are still added to results.
+   *
+   * @return error, or null if command succeeded
+   * @throws SQLException if connection has been closed
+   */
+  private SQLException readPipelineResponses(
+      List<Completion> results,
+      com.singlestore.jdbc.Statement stmt,
+      ClientMessage message,
+      int responseNo,
+      int fetchSize,
+      long maxRows,
+      int resultSetConcurrency,
+      int resultSetType,
+      boolean closeOnCompletion)
+      throws SQLException {
+    for (int i = 0; i < responseNo; i++) {
+      try {
+        results.addAll(
+            readResponse(
+                stmt,
+                message,
+                fetchSize,
+                maxRows,
+                resultSetConcurrency,
+                resultSetType,
+                closeOnCompletion));
+      } catch (SQLException sqlException) {
+        if (closed) throw sqlException;
+        results.add(null);
+        for (i++; i < responseNo; i++) {
           try {
             results.addAll(
                 readResponse(
                     stmt,
-                    messages[readCounter - 1],
+                    message,
                     fetchSize,
                     maxRows,
                     resultSetConcurrency,
                     resultSetType,
                     closeOnCompletion));
           } catch (SQLException e) {
-            // eat
-          }
-        }
-
-        for (int i = readCounter; i < messages.length; i++) {
-          for (int j = 0; j < responseMsg[i]; j++) {
-            try {
-              results.addAll(
-                  readResponse(
-                      stmt,
-                      messages[i],
-                      fetchSize,
-                      maxRows,
-                      resultSetConcurrency,
-                      resultSetType,
-                      closeOnCompletion));
-            } catch (SQLException e) {
-              results.add(null);
-            }
-          }
-        }
-
-        // prepare associated to PrepareStatement need to be uncached
-        for (Completion result : results) {
-          if (result instanceof PrepareResultPacket && stmt instanceof ServerPreparedStatement) {
-            try {
-              ((PrepareResultPacket) result).decrementUse(this, (ServerPreparedStatement) stmt);
-            } catch (SQLException e) {
-              // eat
-            }
+            if (closed) throw e;
+            results.add(null);
           }
         }
+        return sqlException;
       }
+    }
+    return null;
+  }
 
-      int batchUpdateLength = 0;
-      for (ClientMessage message : messages) {
-        batchUpdateLength += message.batchUpdateLength();
-      }
-      throw exceptionFactory.createBatchUpdate(
-          results, batchUpdateLength, responseMsg, sqlException);
+  private void endPipeline() throws SQLException {
+    try {
+      writer.endPipeline();
+    } catch (IOException ioException) {
+      destroySocket();
+      throw exceptionFactory.create("Socket error", "08000", ioException);
     }
   }
 
@@ -759,6 +881,16 @@ public class StandardClient implements Client, AutoCloseable {
   @Override
   public void closePrepare(Prepare prepare) throws SQLException {
     checkNotClosed();
+    // compression protocol needs a flush for each command
+    if (!context.hasClientCapability(Capabilities.COMPRESS)) {
+      synchronized (pendingClosesLock) {
+        if (pendingCloseCount == pendingCloses.length) {
+          pendingCloses = Arrays.copyOf(pendingCloses, pendingCloseCount * 2);
+        }
+        pendingCloses[pendingCloseCount++] = prepare.getStatementId();
+      }
+      return;
+    }
     try {
       new ClosePreparePacket(prepare.getStatementId()).encode(writer, context);
     } catch (IOException ioException) {
@@ -770,6 +902,21 @@ public class StandardClient implements Client, AutoCloseable {
     }
   }
 
+  /**
+   * Write deferred COM_STMT_CLOSE packets to socket stream, without flushing: they are sent with
+   * the command that follows.
+   *
+   * @throws IOException if socket error occurs
+   */
+  private void writePendingCloses() throws IOException {
+    synchronized (pendingClosesLock) {
+      for (int i = 0; i < pendingCloseCount; i++) {
+        ClosePreparePacket.encodeDeferred(writer, pendingCloses[i]);
+      }
+      pendingCloseCount = 0;
+    }
+  }
+
   @Override
   public void readStreamingResults(
       List<Completion> completions,
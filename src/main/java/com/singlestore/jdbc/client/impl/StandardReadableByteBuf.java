@@ -7,14 +7,57 @@ package com.singlestore.jdbc.client.impl;
 
 import com.singlestore.jdbc.SingleStoreBlob;
 import com.singlestore.jdbc.client.ReadableByteBuf;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
 import java.nio.charset.StandardCharsets;
 
 public final class StandardReadableByteBuf implements ReadableByteBuf {
 
+  private static final long[] LONG_POW10 = {
+    1L,
+    10L,
+    100L,
+    1_000L,
+    10_000L,
+    100_000L,
+    1_000_000L,
+    10_000_000L,
+    100_000_000L,
+    1_000_000_000L,
+    10_000_000_000L,
+    100_000_000_000L,
+    1_000_000_000_000L,
+    10_000_000_000_000L,
+    100_000_000_000_000L,
+    1_000_000_000_000_000L,
+    10_000_000_000_000_000L,
+    100_000_000_000_000_000L,
+    1_000_000_000_000_000_000L
+  };
+  private static final double[] DOUBLE_POW10 = {
+    1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16,
+    1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+  };
+  private static final float[] FLOAT_POW10 = {
+    1e0f, 1e1f, 1e2f, 1e3f, 1e4f, 1e5f, 1e6f, 1e7f, 1e8f, 1e9f, 1e10f
+  };
+
   private int limit;
   public byte[] buf;
   public int pos;
 
+  /** start position of content, when buffer is a part of a bigger array */
+  public int start;
+
+  /** underlying array has been given out, so decoded objects may reference its content */
+  public boolean exposed;
+
+  /** last decimal value parsed: digits without sign, number of fractional digits and sign */
+  private long unscaled;
+
+  private int scale;
+  private boolean negative;
+
   public StandardReadableByteBuf(byte[] buf, int limit) {
     this.pos = 0;
     this.buf = buf;
@@ -43,6 +86,7 @@ public final class StandardReadableByteBuf implements ReadableByteBuf {
 
   @Override
   public byte[] buf() {
+    exposed = true;
     return buf;
   }
 
@@ -51,6 +95,21 @@ public final class StandardReadableByteBuf implements ReadableByteBuf {
     this.buf = buf;
     this.limit = limit;
     this.pos = pos;
+    this.start = 0;
+  }
+
+  /**
+   * Set buffer to a part of an array, position being set to this part start.
+   *
+   * @param buf array
+   * @param start content start position
+   * @param limit content end position
+   */
+  public void slice(byte[] buf, int start, int limit) {
+    this.buf = buf;
+    this.limit = limit;
+    this.pos = start;
+    this.start = start;
   }
 
   @Override
@@ -89,6 +148,7 @@ public final class StandardReadableByteBuf implements ReadableByteBuf {
   }
 
   public SingleStoreBlob readBlob(int length) {
+    exposed = true;
     pos += length;
     return SingleStoreBlob.safeSingleStoreBlob(buf, pos - length, length);
   }
@@ -120,6 +180,100 @@ public final class StandardReadableByteBuf implements ReadableByteBuf {
     return result;
   }
 
+  @Override
+  public long atollTruncated(int length) {
+    if (parseDecimal(length) && scale >= 0) {
+      pos += length;
+      long value = scale < LONG_POW10.length ? unscaled / LONG_POW10[scale] : 0;
+      return negative ? -value : value;
+    }
+    return new BigDecimal(readAscii(length)).setScale(0, RoundingMode.DOWN).longValueExact();
+  }
+
+  @Override
+  public double atod(int length) {
+    // unscaled value and power of ten are both exact, so a single operation is correctly rounded
+    if (parseDecimal(length) && unscaled < (1L << 53) && scale >= -22 && scale <= 22) {
+      pos += length;
+      double value = scale >= 0 ? unscaled / DOUBLE_POW10[scale] : unscaled * DOUBLE_POW10[-scale];
+      return negative ? -value : value;
+    }
+    return Double.parseDouble(readAscii(length));
+  }
+
+  @Override
+  public float atof(int length) {
+    if (parseDecimal(length) && unscaled < (1L << 24) && scale >= -10 && scale <= 10) {
+      pos += length;
+      float value = scale >= 0 ? unscaled / FLOAT_POW10[scale] : unscaled * FLOAT_POW10[-scale];
+      return negative ? -value : value;
+    }
+    return Float.parseFloat(readAscii(length));
+  }
+
+  @Override
+  public BigDecimal readDecimal(int length) {
+    if (parseDecimal(length)) {
+      pos += length;
+      return BigDecimal.valueOf(negative ? -unscaled : unscaled, scale);
+    }
+    return new BigDecimal(readAscii(length));
+  }
+
+  /**
+   * Parse decimal text value at current position, without changing position. Only values up to 18
+   * digits are handled, setting unscaled, scale and negative fields.
+   *
+   * @param length data length
+   * @return true if value has been parsed
+   */
+  private boolean parseDecimal(int length) {
+    int idx = pos;
+    int end = pos + length;
+    boolean neg = false;
+    if (idx < end && (buf[idx] == '-' || buf[idx] == '+')) {
+      neg = buf[idx++] == '-';
+    }
+
+    long value = 0;
+    int digits = 0;
+    int fractionDigits = 0;
+    boolean dot = false;
+    for (; idx < end; idx++) {
+      byte b = buf[idx];
+      if (b >= '0' && b <= '9') {
+        if (++digits > 18) return false;
+        value = value * 10 + (b - '0');
+        if (dot) fractionDigits++;
+      } else if (b == '.' && !dot) {
+        dot = true;
+      } else break;
+    }
+    if (digits == 0) return false;
+
+    int exponent = 0;
+    if (idx < end) {
+      if (buf[idx] != 'e' && buf[idx] != 'E') return false;
+      idx++;
+      boolean negExponent = false;
+      if (idx < end && (buf[idx] == '-' || buf[idx] == '+')) {
+        negExponent = buf[idx++] == '-';
+      }
+      if (idx == end || end - idx > 3) return false;
+      for (; idx < end; idx++) {
+        byte b = buf[idx];
+        if (b < '0' || b > '9') return false;
+        exponent = exponent * 10 + (b - '0');
+      }
+      if (negExponent) exponent = -exponent;
+    }
+
+    unscaled = value;
+    scale = fractionDigits - exponent;
+    negative = neg;
+    return true;
+  }
+
   public byte getByte() {
     return buf[pos];
   }
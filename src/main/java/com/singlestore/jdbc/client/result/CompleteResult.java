@@ -63,39 +63,17 @@ public class CompleteResult extends Result {
         traceEnable,
         false,
         0);
-    this.data = new byte[10][];
+    this.rowPositions = new long[10];
+    this.rowLengths = new int[10];
     if (maxRows > 0) {
-      this.data = new byte[10][];
       do {
-        readNext(reader.readPacket(traceEnable));
+        readNext();
       } while (!this.loaded && this.dataSize < maxRows);
       if (!this.loaded) skipRemaining();
     } else {
-      // avoiding creating array of array since
-      byte[] buf = reader.readPacket(traceEnable);
-      if (buf[0] == (byte) 0xFF || (buf[0] == (byte) 0xFE && buf.length < 16777215)) {
-        // no rows
-        this.data = new byte[0][];
-        readNext(buf);
-      } else {
-        byte[] buf2 = reader.readPacket(traceEnable);
-        if (buf2[0] == (byte) 0xFF || (buf2[0] == (byte) 0xFE && buf2.length < 16777215)) {
-          // one row
-          this.data = new byte[1][];
-          this.data[0] = buf;
-          this.dataSize = 1;
-          readNext(buf2);
-        } else {
-          // multiple rows
-          this.data = new byte[10][];
-          this.data[0] = buf;
-          this.data[1] = buf2;
-          this.dataSize = 2;
-          do {
-            readNext(reader.readPacket(traceEnable));
-          } while (!this.loaded);
-        }
-      }
+      do {
+        readNext();
+      } while (!this.loaded);
     }
   }
 
@@ -212,7 +190,7 @@ public class CompleteResult extends Result {
   @Override
   public boolean next() throws SQLException {
     if (rowPointer < dataSize - 1) {
-      setRow(data[++rowPointer]);
+      setRow(++rowPointer);
       return true;
     } else {
       // all data are reads and pointer is after last
@@ -284,7 +262,7 @@ public class CompleteResult extends Result {
       setNullRowBuf();
       return false;
     }
-    setRow(data[rowPointer]);
+    setRow(rowPointer);
     return true;
   }
 
@@ -296,7 +274,7 @@ public class CompleteResult extends Result {
       setNullRowBuf();
       return false;
     }
-    setRow(data[rowPointer]);
+    setRow(rowPointer);
     return true;
   }
 
@@ -317,13 +295,13 @@ public class CompleteResult extends Result {
 
     if (idx > 0) {
       rowPointer = idx - 1;
-      setRow(data[rowPointer]);
+      setRow(rowPointer);
       return true;
     } else {
       if (dataSize + idx >= 0) {
         // absolute position reverse from ending resultSet
         rowPointer = dataSize + idx;
-        setRow(data[rowPointer]);
+        setRow(rowPointer);
         return true;
       }
       rowPointer = BEFORE_FIRST_POS;
@@ -346,7 +324,7 @@ public class CompleteResult extends Result {
       return false;
     } else {
       rowPointer = newPos;
-      setRow(data[rowPointer]);
+      setRow(rowPointer);
       return true;
     }
   }
@@ -357,7 +335,7 @@ public class CompleteResult extends Result {
     if (rowPointer > BEFORE_FIRST_POS) {
       rowPointer--;
       if (rowPointer != BEFORE_FIRST_POS) {
-        setRow(data[rowPointer]);
+        setRow(rowPointer);
         return true;
       }
     }
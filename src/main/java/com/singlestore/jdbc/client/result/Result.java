@@ -9,9 +9,11 @@ import com.singlestore.jdbc.Configuration;
 import com.singlestore.jdbc.client.*;
 import com.singlestore.jdbc.client.impl.StandardReadableByteBuf;
 import com.singlestore.jdbc.client.result.rowdecoder.BinaryRowDecoder;
+import com.singlestore.jdbc.client.result.rowdecoder.DecodePlan;
 import com.singlestore.jdbc.client.result.rowdecoder.RowDecoder;
 import com.singlestore.jdbc.client.result.rowdecoder.TextRowDecoder;
 import com.singlestore.jdbc.client.util.MutableInt;
+import com.singlestore.jdbc.client.util.RowSlab;
 import com.singlestore.jdbc.export.ExceptionFactory;
 import com.singlestore.jdbc.message.server.ErrorPacket;
 import com.singlestore.jdbc.plugin.Codec;
@@ -56,6 +58,9 @@ public abstract class Result implements ResultSet, Completion {
   /** binary/text row decoder */
   protected final RowDecoder rowDecoder;
 
+  /** per column decoding of primitive and String getters */
+  protected final DecodePlan decodePlan;
+
   /** reusable row buffer decoder */
   protected final StandardReadableByteBuf rowBuf = new StandardReadableByteBuf(null, 0);
 
@@ -65,12 +70,19 @@ public abstract class Result implements ResultSet, Completion {
   private final MutableInt fieldLength = new MutableInt(0);
   private final boolean forceAlias;
   private final byte[] nullBitmap;
+  private final int[] fieldOffsets;
 
   /** data size */
   protected int dataSize = 0;
 
-  /** rows */
-  protected byte[][] data;
+  /** rows storage */
+  protected final RowSlab slab = new RowSlab();
+
+  /** rows position in slab */
+  protected long[] rowPositions;
+
+  /** rows length, -1 for a null row */
+  protected int[] rowLengths;
 
   /** mutable field index */
   protected MutableInt fieldIndex = new MutableInt();
@@ -125,6 +137,7 @@ public abstract class Result implements ResultSet, Completion {
     this.closeOnCompletion = closeOnCompletion;
     this.metadataList = metadataList;
     this.maxIndex = this.metadataList.length;
+    this.fieldOffsets = new int[maxIndex + 1];
     this.reader = reader;
     this.exceptionFactory = context.getExceptionFactory();
     this.context = context;
@@ -139,6 +152,7 @@ public abstract class Result implements ResultSet, Completion {
       rowDecoder = TEXT_ROW_DECODER;
       nullBitmap = null;
     }
+    decodePlan = new DecodePlan(metadataList, binaryProtocol);
   }
 
   protected Result(ColumnDecoder[] metadataList, Result prev) {
@@ -147,6 +161,7 @@ public abstract class Result implements ResultSet, Completion {
     this.closeOnCompletion = prev.closeOnCompletion;
     this.metadataList = metadataList;
     this.maxIndex = metadataList.length;
+    this.fieldOffsets = new int[maxIndex + 1];
     this.reader = prev.reader;
     this.exceptionFactory = prev.exceptionFactory;
     this.context = prev.context;
@@ -155,6 +170,7 @@ public abstract class Result implements ResultSet, Completion {
     this.forceAlias = true;
     this.rowDecoder = prev.rowDecoder;
     this.nullBitmap = prev.nullBitmap;
+    this.decodePlan = new DecodePlan(metadataList, prev.decodePlan.isBinary());
   }
 
   /**
@@ -168,42 +184,54 @@ public abstract class Result implements ResultSet, Completion {
   public Result(ColumnDecoder[] metadataList, byte[][] data, Context context, int resultSetType) {
     this.metadataList = metadataList;
     this.maxIndex = this.metadataList.length;
+    this.fieldOffsets = new int[maxIndex + 1];
     this.reader = null;
     this.loaded = true;
     this.exceptionFactory = context.getExceptionFactory();
     this.context = context;
-    this.data = data;
-    this.dataSize = data.length;
+    this.rowPositions = new long[data.length];
+    this.rowLengths = new int[data.length];
+    for (byte[] row : data) {
+      addRowData(row);
+    }
     this.statement = null;
     this.resultSetType = resultSetType;
     this.closeOnCompletion = false;
     this.traceEnable = false;
     this.rowDecoder = TEXT_ROW_DECODER;
+    this.decodePlan = new DecodePlan(metadataList, false);
     this.nullBitmap = null;
     this.forceAlias = false;
   }
 
   /**
-   * Read new row
+   * Read new row, packet being read directly into row slab
    *
-   * @param buf packet buffer
    * @return true if fully loaded
    * @throws IOException if any socket error occurs
    * @throws SQLException for all other type of errors
    */
   @SuppressWarnings("fallthrough")
-  protected boolean readNext(byte[] buf) throws SQLException, IOException {
-    switch (buf[0]) {
+  protected boolean readNext() throws SQLException, IOException {
+    int length = reader.readPacket(slab, traceEnable);
+    byte[] buf = slab.buf();
+    int start = slab.rowStart();
+    switch (buf[start]) {
       case (byte) 0xFF:
         loaded = true;
-        ErrorPacket errorPacket = new ErrorPacket(reader.readableBufFromArray(buf), context);
+        slab.discardRow();
+        ReadableByteBuf errorBuf = reader.readableBufFromArray(buf);
+        errorBuf.buf(buf, start + length, start);
+        ErrorPacket errorPacket = new ErrorPacket(errorBuf, context);
         throw exceptionFactory.create(
             errorPacket.getMessage(), errorPacket.getSqlState(), errorPacket.getErrorCode());
 
       case (byte) 0xFE:
-        if ((context.isEofDeprecated() && buf.length < 16777215)
-            || (!context.isEofDeprecated() && buf.length < 8)) {
+        if ((context.isEofDeprecated() && length < 16777215)
+            || (!context.isEofDeprecated() && length < 8)) {
+          slab.discardRow();
           ReadableByteBuf readBuf = reader.readableBufFromArray(buf);
+          readBuf.buf(buf, start + length, start);
           readBuf.skip(); // skip header
           int serverStatus;
           int warnings;
@@ -228,10 +256,11 @@ public abstract class Result implements ResultSet, Completion {
         // continue reading rows
 
       default:
-        if (dataSize + 1 > data.length) {
+        if (dataSize + 1 > rowPositions.length) {
           growDataArray();
         }
-        data[dataSize++] = buf;
+        rowLengths[dataSize] = length;
+        rowPositions[dataSize++] = slab.endRow();
     }
     return true;
   }
@@ -285,12 +314,15 @@ public abstract class Result implements ResultSet, Completion {
     }
   }
 
-  /** Grow data array. */
+  /** Grow row index arrays. */
   private void growDataArray() {
-    int newCapacity = Math.max(10, data.length + (data.length >> 1));
-    byte[][] newData = new byte[newCapacity][];
-    System.arraycopy(data, 0, newData, 0, data.length);
-    data = newData;
+    int newCapacity = Math.max(10, rowPositions.length + (rowPositions.length >> 1));
+    long[] newPositions = new long[newCapacity];
+    System.arraycopy(rowPositions, 0, newPositions, 0, dataSize);
+    rowPositions = newPositions;
+    int[] newLengths = new int[newCapacity];
+    System.arraycopy(rowLengths, 0, newLengths, 0, dataSize);
+    rowLengths = newLengths;
   }
 
   /**
@@ -372,7 +404,7 @@ public abstract class Result implements ResultSet, Completion {
    * @return current row RAW data
    */
   protected byte[] getCurrentRowData() {
-    return data[0];
+    return rowLengths[0] < 0 ? null : slab.copy(rowPositions[0], rowLengths[0]);
   }
 
   /**
@@ -381,27 +413,44 @@ public abstract class Result implements ResultSet, Completion {
    * @param buf add row
    */
   protected void addRowData(byte[] buf) {
-    if (dataSize + 1 > data.length) {
+    if (dataSize + 1 > rowPositions.length) {
       growDataArray();
     }
-    data[dataSize++] = buf;
+    if (buf == null) {
+      rowLengths[dataSize++] = -1;
+    } else {
+      rowLengths[dataSize] = buf.length;
+      rowPositions[dataSize++] = slab.append(buf);
+    }
   }
 
   /**
-   * Update current row
+   * Update current row. New content is appended to slab, previous content being left unused.
    *
    * @param rawData new row
    */
   protected void updateRowData(byte[] rawData) {
-    data[rowPointer] = rawData;
     if (rawData == null) {
+      rowLengths[rowPointer] = -1;
       setNullRowBuf();
     } else {
-      setRow(rawData);
-      fieldIndex.set(-1);
+      rowLengths[rowPointer] = rawData.length;
+      rowPositions[rowPointer] = slab.append(rawData);
+      setRow(rowPointer);
     }
   }
 
+  /**
+   * Remove a row
+   *
+   * @param index row index
+   */
+  protected void removeRowData(int index) {
+    System.arraycopy(rowPositions, index + 1, rowPositions, index, dataSize - 1 - index);
+    System.arraycopy(rowLengths, index + 1, rowLengths, index, dataSize - 1 - index);
+    dataSize--;
+  }
+
   private void checkIndex(int index) throws SQLException {
     if (index < 1 || index > maxIndex) {
       throw new SQLException(
@@ -427,11 +476,11 @@ public abstract class Result implements ResultSet, Completion {
     checkIndex(columnIndex);
     fieldLength.set(
         rowDecoder.setPosition(
-            columnIndex - 1, fieldIndex, maxIndex, rowBuf, nullBitmap, metadataList));
+            columnIndex - 1, fieldIndex, maxIndex, rowBuf, nullBitmap, metadataList, fieldOffsets));
     if (fieldLength.get() == NULL_LENGTH) {
       return null;
     }
-    return rowDecoder.decodeString(metadataList, fieldIndex, rowBuf, fieldLength);
+    return decodePlan.decodeString(fieldIndex.get(), rowBuf, fieldLength);
   }
 
   @Override
@@ -439,7 +488,7 @@ public abstract class Result implements ResultSet, Completion {
     checkIndex(columnIndex);
     fieldLength.set(
         rowDecoder.setPosition(
-            columnIndex - 1, fieldIndex, maxIndex, rowBuf, nullBitmap, metadataList));
+            columnIndex - 1, fieldIndex, maxIndex, rowBuf, nullBitmap, metadataList, fieldOffsets));
     if (fieldLength.get() == NULL_LENGTH) {
       return false;
     }
@@ -451,7 +500,7 @@ public abstract class Result implements ResultSet, Completion {
     checkIndex(columnIndex);
     fieldLength.set(
         rowDecoder.setPosition(
-            columnIndex - 1, fieldIndex, maxIndex, rowBuf, nullBitmap, metadataList));
+            columnIndex - 1, fieldIndex, maxIndex, rowBuf, nullBitmap, metadataList, fieldOffsets));
     if (fieldLength.get() == NULL_LENGTH) {
       return 0;
     }
@@ -463,7 +512,7 @@ public abstract class Result implements ResultSet, Completion {
     checkIndex(columnIndex);
     fieldLength.set(
         rowDecoder.setPosition(
-            columnIndex - 1, fieldIndex, maxIndex, rowBuf, nullBitmap, metadataList));
+            columnIndex - 1, fieldIndex, maxIndex, rowBuf, nullBitmap, metadataList, fieldOffsets));
     if (fieldLength.get() == NULL_LENGTH) {
       return 0;
     }
@@ -475,11 +524,11 @@ public abstract class Result implements ResultSet, Completion {
     checkIndex(columnIndex);
     fieldLength.set(
         rowDecoder.setPosition(
-            columnIndex - 1, fieldIndex, maxIndex, rowBuf, nullBitmap, metadataList));
+            columnIndex - 1, fieldIndex, maxIndex, rowBuf, nullBitmap, metadataList, fieldOffsets));
     if (fieldLength.get() == NULL_LENGTH) {
       return 0;
     }
-    return rowDecoder.decodeInt(metadataList, fieldIndex, rowBuf, fieldLength);
+    return decodePlan.decodeInt(fieldIndex.get(), rowBuf, fieldLength);
   }
 
   @Override
@@ -487,11 +536,11 @@ public abstract class Result implements ResultSet, Completion {
     checkIndex(columnIndex);
     fieldLength.set(
         rowDecoder.setPosition(
-            columnIndex - 1, fieldIndex, maxIndex, rowBuf, nullBitmap, metadataList));
+            columnIndex - 1, fieldIndex, maxIndex, rowBuf, nullBitmap, metadataList, fieldOffsets));
     if (fieldLength.get() == NULL_LENGTH) {
       return 0L;
     }
-    return rowDecoder.decodeLong(metadataList, fieldIndex, rowBuf, fieldLength);
+    return decodePlan.decodeLong(fieldIndex.get(), rowBuf, fieldLength);
   }
 
   /**
@@ -506,7 +555,7 @@ public abstract class Result implements ResultSet, Completion {
     checkIndex(columnIndex);
     fieldLength.set(
         rowDecoder.setPosition(
-            columnIndex - 1, fieldIndex, maxIndex, rowBuf, nullBitmap, metadataList));
+            columnIndex - 1, fieldIndex, maxIndex, rowBuf, nullBitmap, metadataList, fieldOffsets));
     if (fieldLength.get() == NULL_LENGTH) {
       return null;
     }
@@ -531,11 +580,11 @@ public abstract class Result implements ResultSet, Completion {
     checkIndex(columnIndex);
     fieldLength.set(
         rowDecoder.setPosition(
-            columnIndex - 1, fieldIndex, maxIndex, rowBuf, nullBitmap, metadataList));
+            columnIndex - 1, fieldIndex, maxIndex, rowBuf, nullBitmap, metadataList, fieldOffsets));
     if (fieldLength.get() == NULL_LENGTH) {
       return 0F;
     }
-    return rowDecoder.decodeFloat(metadataList, fieldIndex, rowBuf, fieldLength);
+    return decodePlan.decodeFloat(fieldIndex.get(), rowBuf, fieldLength);
   }
 
   @Override
@@ -543,11 +592,11 @@ public abstract class Result implements ResultSet, Completion {
     checkIndex(columnIndex);
     fieldLength.set(
         rowDecoder.setPosition(
-            columnIndex - 1, fieldIndex, maxIndex, rowBuf, nullBitmap, metadataList));
+            columnIndex - 1, fieldIndex, maxIndex, rowBuf, nullBitmap, metadataList, fieldOffsets));
     if (fieldLength.get() == NULL_LENGTH) {
       return 0D;
     }
-    return rowDecoder.decodeDouble(metadataList, fieldIndex, rowBuf, fieldLength);
+    return decodePlan.decodeDouble(fieldIndex.get(), rowBuf, fieldLength);
   }
 
   @Override
@@ -556,7 +605,7 @@ public abstract class Result implements ResultSet, Completion {
     checkIndex(columnIndex);
     fieldLength.set(
         rowDecoder.setPosition(
-            columnIndex - 1, fieldIndex, maxIndex, rowBuf, nullBitmap, metadataList));
+            columnIndex - 1, fieldIndex, maxIndex, rowBuf, nullBitmap, metadataList, fieldOffsets));
     if (fieldLength.get() == NULL_LENGTH) {
       return null;
     }
@@ -572,7 +621,7 @@ public abstract class Result implements ResultSet, Completion {
     checkIndex(columnIndex);
     fieldLength.set(
         rowDecoder.setPosition(
-            columnIndex - 1, fieldIndex, maxIndex, rowBuf, nullBitmap, metadataList));
+            columnIndex - 1, fieldIndex, maxIndex, rowBuf, nullBitmap, metadataList, fieldOffsets));
     if (fieldLength.get() == NULL_LENGTH) {
       return null;
     }
@@ -585,7 +634,7 @@ public abstract class Result implements ResultSet, Completion {
     checkIndex(columnIndex);
     fieldLength.set(
         rowDecoder.setPosition(
-            columnIndex - 1, fieldIndex, maxIndex, rowBuf, nullBitmap, metadataList));
+            columnIndex - 1, fieldIndex, maxIndex, rowBuf, nullBitmap, metadataList, fieldOffsets));
     if (fieldLength.get() == NULL_LENGTH) {
       return null;
     }
@@ -597,7 +646,7 @@ public abstract class Result implements ResultSet, Completion {
     checkIndex(columnIndex);
     fieldLength.set(
         rowDecoder.setPosition(
-            columnIndex - 1, fieldIndex, maxIndex, rowBuf, nullBitmap, metadataList));
+            columnIndex - 1, fieldIndex, maxIndex, rowBuf, nullBitmap, metadataList, fieldOffsets));
     if (fieldLength.get() == NULL_LENGTH) {
       return null;
     }
@@ -609,7 +658,7 @@ public abstract class Result implements ResultSet, Completion {
     checkIndex(columnIndex);
     fieldLength.set(
         rowDecoder.setPosition(
-            columnIndex - 1, fieldIndex, maxIndex, rowBuf, nullBitmap, metadataList));
+            columnIndex - 1, fieldIndex, maxIndex, rowBuf, nullBitmap, metadataList, fieldOffsets));
     if (fieldLength.get() == NULL_LENGTH) {
       return null;
     }
@@ -621,7 +670,7 @@ public abstract class Result implements ResultSet, Completion {
     checkIndex(columnIndex);
     fieldLength.set(
         rowDecoder.setPosition(
-            columnIndex - 1, fieldIndex, maxIndex, rowBuf, nullBitmap, metadataList));
+            columnIndex - 1, fieldIndex, maxIndex, rowBuf, nullBitmap, metadataList, fieldOffsets));
     if (fieldLength.get() == NULL_LENGTH) {
       return null;
     }
@@ -635,7 +684,7 @@ public abstract class Result implements ResultSet, Completion {
     checkIndex(columnIndex);
     fieldLength.set(
         rowDecoder.setPosition(
-            columnIndex - 1, fieldIndex, maxIndex, rowBuf, nullBitmap, metadataList));
+            columnIndex - 1, fieldIndex, maxIndex, rowBuf, nullBitmap, metadataList, fieldOffsets));
     if (fieldLength.get() == NULL_LENGTH) {
       return null;
     }
@@ -648,7 +697,7 @@ public abstract class Result implements ResultSet, Completion {
     checkIndex(columnIndex);
     fieldLength.set(
         rowDecoder.setPosition(
-            columnIndex - 1, fieldIndex, maxIndex, rowBuf, nullBitmap, metadataList));
+            columnIndex - 1, fieldIndex, maxIndex, rowBuf, nullBitmap, metadataList, fieldOffsets));
     if (fieldLength.get() == NULL_LENGTH) {
       return null;
     }
@@ -768,7 +817,7 @@ public abstract class Result implements ResultSet, Completion {
     checkIndex(columnIndex);
     fieldLength.set(
         rowDecoder.setPosition(
-            columnIndex - 1, fieldIndex, maxIndex, rowBuf, nullBitmap, metadataList));
+            columnIndex - 1, fieldIndex, maxIndex, rowBuf, nullBitmap, metadataList, fieldOffsets));
     if (fieldLength.get() == NULL_LENGTH) {
       return null;
     }
@@ -786,7 +835,7 @@ public abstract class Result implements ResultSet, Completion {
     checkIndex(columnIndex);
     fieldLength.set(
         rowDecoder.setPosition(
-            columnIndex - 1, fieldIndex, maxIndex, rowBuf, nullBitmap, metadataList));
+            columnIndex - 1, fieldIndex, maxIndex, rowBuf, nullBitmap, metadataList, fieldOffsets));
     if (fieldLength.get() == NULL_LENGTH) {
       return null;
     }
@@ -804,7 +853,7 @@ public abstract class Result implements ResultSet, Completion {
     checkIndex(columnIndex);
     fieldLength.set(
         rowDecoder.setPosition(
-            columnIndex - 1, fieldIndex, maxIndex, rowBuf, nullBitmap, metadataList));
+            columnIndex - 1, fieldIndex, maxIndex, rowBuf, nullBitmap, metadataList, fieldOffsets));
     if (fieldLength.get() == NULL_LENGTH) {
       return null;
     }
@@ -877,6 +926,25 @@ public abstract class Result implements ResultSet, Completion {
   public void setRow(byte[] row) {
     rowBuf.buf(row, row.length, 0);
     fieldIndex.set(-1);
+    fieldOffsets[maxIndex] = 0;
+  }
+
+  /**
+   * Set current row buffer to stored row.
+   *
+   * @param index row index
+   */
+  protected void setRow(int index) {
+    int length = rowLengths[index];
+    if (length < 0) {
+      setNullRowBuf();
+      return;
+    }
+    long position = rowPositions[index];
+    int offset = (int) position;
+    rowBuf.slice(slab.chunk((int) (position >>> 32)), offset, offset + length);
+    fieldIndex.set(-1);
+    fieldOffsets[maxIndex] = 0;
   }
 
   @Override
@@ -1186,7 +1254,7 @@ public abstract class Result implements ResultSet, Completion {
     checkIndex(columnIndex);
     fieldLength.set(
         rowDecoder.setPosition(
-            columnIndex - 1, fieldIndex, maxIndex, rowBuf, nullBitmap, metadataList));
+            columnIndex - 1, fieldIndex, maxIndex, rowBuf, nullBitmap, metadataList, fieldOffsets));
     if (fieldLength.get() == NULL_LENGTH) {
       return null;
     }
@@ -1199,7 +1267,7 @@ public abstract class Result implements ResultSet, Completion {
     checkIndex(columnIndex);
     fieldLength.set(
         rowDecoder.setPosition(
-            columnIndex - 1, fieldIndex, maxIndex, rowBuf, nullBitmap, metadataList));
+            columnIndex - 1, fieldIndex, maxIndex, rowBuf, nullBitmap, metadataList, fieldOffsets));
     if (fieldLength.get() == NULL_LENGTH) {
       return null;
     }
@@ -1246,7 +1314,7 @@ public abstract class Result implements ResultSet, Completion {
     checkIndex(columnIndex);
     fieldLength.set(
         rowDecoder.setPosition(
-            columnIndex - 1, fieldIndex, maxIndex, rowBuf, nullBitmap, metadataList));
+            columnIndex - 1, fieldIndex, maxIndex, rowBuf, nullBitmap, metadataList, fieldOffsets));
     if (fieldLength.get() == NULL_LENGTH) {
       return null;
     }
@@ -1263,7 +1331,7 @@ public abstract class Result implements ResultSet, Completion {
     checkIndex(columnIndex);
     fieldLength.set(
         rowDecoder.setPosition(
-            columnIndex - 1, fieldIndex, maxIndex, rowBuf, nullBitmap, metadataList));
+            columnIndex - 1, fieldIndex, maxIndex, rowBuf, nullBitmap, metadataList, fieldOffsets));
     if (fieldLength.get() == NULL_LENGTH) {
       return null;
     }
@@ -1280,7 +1348,7 @@ public abstract class Result implements ResultSet, Completion {
     checkIndex(columnIndex);
     fieldLength.set(
         rowDecoder.setPosition(
-            columnIndex - 1, fieldIndex, maxIndex, rowBuf, nullBitmap, metadataList));
+            columnIndex - 1, fieldIndex, maxIndex, rowBuf, nullBitmap, metadataList, fieldOffsets));
     if (fieldLength.get() == NULL_LENGTH) {
       return null;
     }
@@ -1297,7 +1365,7 @@ public abstract class Result implements ResultSet, Completion {
     checkIndex(columnIndex);
     fieldLength.set(
         rowDecoder.setPosition(
-            columnIndex - 1, fieldIndex, maxIndex, rowBuf, nullBitmap, metadataList));
+            columnIndex - 1, fieldIndex, maxIndex, rowBuf, nullBitmap, metadataList, fieldOffsets));
     if (fieldLength.get() == NULL_LENGTH) {
       return null;
     }
@@ -1413,7 +1481,7 @@ public abstract class Result implements ResultSet, Completion {
     checkIndex(columnIndex);
     fieldLength.set(
         rowDecoder.setPosition(
-            columnIndex - 1, fieldIndex, maxIndex, rowBuf, nullBitmap, metadataList));
+            columnIndex - 1, fieldIndex, maxIndex, rowBuf, nullBitmap, metadataList, fieldOffsets));
     if (fieldLength.get() == NULL_LENGTH) {
       return null;
     }
@@ -1461,7 +1529,7 @@ public abstract class Result implements ResultSet, Completion {
     checkIndex(columnIndex);
     fieldLength.set(
         rowDecoder.setPosition(
-            columnIndex - 1, fieldIndex, maxIndex, rowBuf, nullBitmap, metadataList));
+            columnIndex - 1, fieldIndex, maxIndex, rowBuf, nullBitmap, metadataList, fieldOffsets));
     if (fieldLength.get() == NULL_LENGTH) {
       return null;
     }
@@ -1626,7 +1694,7 @@ public abstract class Result implements ResultSet, Completion {
     checkIndex(columnIndex);
     fieldLength.set(
         rowDecoder.setPosition(
-            columnIndex - 1, fieldIndex, maxIndex, rowBuf, nullBitmap, metadataList));
+            columnIndex - 1, fieldIndex, maxIndex, rowBuf, nullBitmap, metadataList, fieldOffsets));
     Calendar calendar = null;
     if (wasNull()) {
       if (type.isPrimitive()) {
@@ -1642,11 +1710,10 @@ public abstract class Result implements ResultSet, Completion {
       return (T) rowDecoder.defaultDecode(conf, metadataList, fieldIndex, rowBuf, fieldLength);
     }
 
-    for (Codec<?> codec : conf.codecs()) {
-      if (codec.canDecode(column, type)) {
-        return rowDecoder.decode(
-            (Codec<T>) codec, calendar, rowBuf, fieldLength, metadataList, fieldIndex);
-      }
+    Codec<?> codec = conf.codecDispatcher().decoder(column, type);
+    if (codec != null) {
+      return rowDecoder.decode(
+          (Codec<T>) codec, calendar, rowBuf, fieldLength, metadataList, fieldIndex);
     }
     rowBuf.skip(fieldLength.get());
     throw new SQLException(
@@ -65,7 +65,9 @@ public class StreamingResult extends Result {
     this.lock = lock;
     this.dataFetchTime = 0;
     this.requestedFetchSize = fetchSize;
-    this.data = new byte[Math.min(MAX_FETCH_SIZE, Math.max(fetchSize, 10))][];
+    int capacity = Math.min(MAX_FETCH_SIZE, Math.max(fetchSize, 10));
+    this.rowPositions = new long[capacity];
+    this.rowLengths = new int[capacity];
 
     addStreamingValue();
   }
@@ -86,6 +88,14 @@ public class StreamingResult extends Result {
     if (resultSetType == TYPE_FORWARD_ONLY) {
       rowPointer = 0;
       dataSize = 0;
+      // previous rows can't be accessed anymore: their buffers are reused for next rows, unless
+      // some decoded objects (blob, clob, stream) may still reference them
+      if (rowBuf.exposed) {
+        rowBuf.exposed = false;
+        slab.reset();
+      } else {
+        slab.recycle();
+      }
     }
 
     addStreamingValue();
@@ -102,8 +112,7 @@ public class StreamingResult extends Result {
                   super.getFetchSize(),
                   Math.max(0, (int) (maxRows - dataFetchTime * super.getFetchSize())));
       do {
-        byte[] buf = reader.readPacket(traceEnable);
-        readNext(buf);
+        readNext();
         fetchSizeTmp--;
       } while (fetchSizeTmp > 0 && !loaded);
       dataFetchTime++;
@@ -136,7 +145,7 @@ public class StreamingResult extends Result {
     checkClose();
     if (rowPointer < dataSize - 1) {
       rowPointer++;
-      setRow(data[rowPointer]);
+      setRow(rowPointer);
       return true;
     } else {
       if (!loaded) {
@@ -153,7 +162,7 @@ public class StreamingResult extends Result {
           // resultSet has been cleared. next value is pointer 0.
           rowPointer = 0;
           if (dataSize > 0) {
-            setRow(data[rowPointer]);
+            setRow(rowPointer);
             return true;
           }
         } else {
@@ -161,7 +170,7 @@ public class StreamingResult extends Result {
           // results have been added to current resultSet
           rowPointer++;
           if (dataSize > rowPointer) {
-            setRow(data[rowPointer]);
+            setRow(rowPointer);
             return true;
           }
         }
@@ -246,7 +255,7 @@ public class StreamingResult extends Result {
 
     rowPointer = 0;
     if (dataSize > 0) {
-      setRow(data[rowPointer]);
+      setRow(rowPointer);
       return true;
     }
     setNullRowBuf();
@@ -259,7 +268,7 @@ public class StreamingResult extends Result {
     fetchRemaining();
     rowPointer = dataSize - 1;
     if (dataSize > 0) {
-      setRow(data[rowPointer]);
+      setRow(rowPointer);
       return true;
     }
     setNullRowBuf();
@@ -288,7 +297,7 @@ public class StreamingResult extends Result {
 
     if (idx > 0 && idx <= dataSize) {
       rowPointer = idx - 1;
-      setRow(data[rowPointer]);
+      setRow(rowPointer);
       return true;
     }
 
@@ -298,7 +307,7 @@ public class StreamingResult extends Result {
     if (idx > 0) {
       if (idx <= dataSize) {
         rowPointer = idx - 1;
-        setRow(data[rowPointer]);
+        setRow(rowPointer);
         return true;
       }
 
@@ -310,7 +319,7 @@ public class StreamingResult extends Result {
       if (dataSize + idx >= 0) {
         // absolute position reverse from ending resultSet
         rowPointer = dataSize + idx;
-        setRow(data[rowPointer]);
+        setRow(rowPointer);
         return true;
       }
       setNullRowBuf();
@@ -340,7 +349,7 @@ public class StreamingResult extends Result {
     }
 
     rowPointer = newPos;
-    setRow(data[rowPointer]);
+    setRow(rowPointer);
     return true;
   }
 
@@ -351,7 +360,7 @@ public class StreamingResult extends Result {
     if (rowPointer > -1) {
       rowPointer--;
       if (rowPointer != -1) {
-        setRow(data[rowPointer]);
+        setRow(rowPointer);
         return true;
       }
     }
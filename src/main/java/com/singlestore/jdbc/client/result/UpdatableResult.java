@@ -759,9 +759,7 @@ public class UpdatableResult extends CompleteResult {
       deletePreparedStatement.executeUpdate();
 
       // remove data
-      System.arraycopy(data, rowPointer + 1, data, rowPointer, dataSize - 1 - rowPointer);
-      data[dataSize - 1] = null;
-      dataSize--;
+      removeRowData(rowPointer);
       previous();
     }
   }
@@ -774,7 +772,7 @@ public class UpdatableResult extends CompleteResult {
     if (rowPointer < 0) {
       throw exceptionFactory.create("Current position is before the first row", "22023");
     }
-    if (rowPointer >= data.length) {
+    if (rowPointer >= rowPositions.length) {
       throw exceptionFactory.create("Current position is after the last row", "22023");
     }
     if (canUpdate) {
@@ -1016,12 +1014,11 @@ public class UpdatableResult extends CompleteResult {
       return;
     }
 
-    for (Codec<?> codec : context.getConf().codecs()) {
-      if (codec.canEncode(x)) {
-        Parameter p = new Parameter(codec, x, scaleOrLength);
-        parameters.set(columnIndex - 1, p);
-        return;
-      }
+    Codec<?> codec = context.getConf().codecDispatcher().encoder(x);
+    if (codec != null) {
+      Parameter p = new Parameter(codec, x, scaleOrLength);
+      parameters.set(columnIndex - 1, p);
+      return;
     }
 
     throw new SQLException(String.format("Type %s not supported type", x.getClass().getName()));
@@ -1052,7 +1049,7 @@ public class UpdatableResult extends CompleteResult {
   private void resetToRowPointer() {
     rowPointer = savedRowPointer;
     if (rowPointer != BEFORE_FIRST_POS && rowPointer < dataSize - 1) {
-      setRow(data[rowPointer]);
+      setRow(rowPointer);
     } else {
       // all data are reads and pointer is after last
       setNullRowBuf();
@@ -175,51 +175,34 @@ public class BinaryRowDecoder implements RowDecoder {
       int maxIndex,
       StandardReadableByteBuf rowBuf,
       byte[] nullBitmap,
-      ColumnDecoder[] metadataList) {
+      ColumnDecoder[] metadataList,
+      int[] fieldOffsets) {
 
-    if (fieldIndex.get() >= newIndex) {
-      fieldIndex.set(0);
-      rowBuf.pos(1);
+    if (fieldOffsets[maxIndex] == 0 && fieldIndex.get() >= newIndex) {
+      // field before current one: computing all field offsets once for this row
+      rowBuf.pos(rowBuf.start + 1);
       rowBuf.readBytes(nullBitmap);
+      for (int i = 0; i < maxIndex; i++) {
+        fieldOffsets[i] = rowBuf.pos;
+        skipField(i, rowBuf, nullBitmap, metadataList);
+      }
+      fieldOffsets[maxIndex] = 1;
+    }
+
+    if (fieldOffsets[maxIndex] == 1) {
+      fieldIndex.set(newIndex);
+      rowBuf.pos(fieldOffsets[newIndex]);
     } else {
       fieldIndex.incrementAndGet();
       if (fieldIndex.get() == 0) {
         // skip header + null-bitmap
-        rowBuf.pos(1);
+        rowBuf.pos(rowBuf.start + 1);
         rowBuf.readBytes(nullBitmap);
       }
-    }
-
-    while (fieldIndex.get() < newIndex) {
-      if ((nullBitmap[(fieldIndex.get() + 2) / 8] & (1 << ((fieldIndex.get() + 2) % 8))) == 0) {
-        // skip bytes
-        switch (metadataList[fieldIndex.get()].getType()) {
-          case BIGINT:
-          case DOUBLE:
-            rowBuf.skip(8);
-            break;
-
-          case INT:
-          case MEDIUMINT:
-          case FLOAT:
-            rowBuf.skip(4);
-            break;
-
-          case SMALLINT:
-          case YEAR:
-            rowBuf.skip(2);
-            break;
-
-          case TINYINT:
-            rowBuf.skip(1);
-            break;
-
-          default:
-            rowBuf.skipLengthEncoded();
-            break;
-        }
+      while (fieldIndex.get() < newIndex) {
+        skipField(fieldIndex.get(), rowBuf, nullBitmap, metadataList);
+        fieldIndex.incrementAndGet();
       }
-      fieldIndex.incrementAndGet();
     }
 
     if ((nullBitmap[(fieldIndex.get() + 2) / 8] & (1 << ((fieldIndex.get() + 2) % 8))) > 0) {
@@ -264,4 +247,36 @@ public class BinaryRowDecoder implements RowDecoder {
         }
     }
   }
+
+  private static void skipField(
+      int index, StandardReadableByteBuf rowBuf, byte[] nullBitmap, ColumnDecoder[] metadataList) {
+    if ((nullBitmap[(index + 2) / 8] & (1 << ((index + 2) % 8))) == 0) {
+      // skip bytes
+      switch (metadataList[index].getType()) {
+        case BIGINT:
+        case DOUBLE:
+          rowBuf.skip(8);
+          break;
+
+        case INT:
+        case MEDIUMINT:
+        case FLOAT:
+          rowBuf.skip(4);
+          break;
+
+        case SMALLINT:
+        case YEAR:
+          rowBuf.skip(2);
+          break;
+
+        case TINYINT:
+          rowBuf.skip(1);
+          break;
+
+        default:
+          rowBuf.skipLengthEncoded();
+          break;
+      }
+    }
+  }
 }
@@ -0,0 +1,499 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2021-2023 SingleStore, Inc.
+
+package com.singlestore.jdbc.client.result.rowdecoder;
+
+import com.singlestore.jdbc.client.ColumnDecoder;
+import com.singlestore.jdbc.client.column.BigDecimalColumn;
+import com.singlestore.jdbc.client.column.DoubleColumn;
+import com.singlestore.jdbc.client.column.FloatColumn;
+import com.singlestore.jdbc.client.column.SignedBigIntColumn;
+import com.singlestore.jdbc.client.column.SignedIntColumn;
+import com.singlestore.jdbc.client.column.SignedMediumIntColumn;
+import com.singlestore.jdbc.client.column.SignedSmallIntColumn;
+import com.singlestore.jdbc.client.column.SignedTinyIntColumn;
+import com.singlestore.jdbc.client.column.StringColumn;
+import com.singlestore.jdbc.client.column.UnsignedBigIntColumn;
+import com.singlestore.jdbc.client.column.UnsignedIntColumn;
+import com.singlestore.jdbc.client.column.UnsignedMediumIntColumn;
+import com.singlestore.jdbc.client.column.UnsignedSmallIntColumn;
+import com.singlestore.jdbc.client.column.UnsignedTinyIntColumn;
+import com.singlestore.jdbc.client.impl.StandardReadableByteBuf;
+import com.singlestore.jdbc.client.util.MutableInt;
+import java.sql.SQLException;
+
+/**
+ * Decode plan of a result, built once from columns metadata and protocol.
+ *
+ * <p>Decoding through ColumnDecoder interface makes getInt/getLong/... call sites megamorphic for
+ * results mixing many column types, preventing inlining. Plan associates each column with its exact
+ * implementation, and primitive and String getters dispatch with a switch to a call on this
+ * implementation: each of those call sites only sees a single class. Other column types use the
+ * interface call.
+ */
+public final class DecodePlan {
+
+  private static final int GENERIC = 0;
+  private static final int SIGNED_TINYINT = 1;
+  private static final int UNSIGNED_TINYINT = 2;
+  private static final int SIGNED_SMALLINT = 3;
+  private static final int UNSIGNED_SMALLINT = 4;
+  private static final int SIGNED_MEDIUMINT = 5;
+  private static final int UNSIGNED_MEDIUMINT = 6;
+  private static final int SIGNED_INT = 7;
+  private static final int UNSIGNED_INT = 8;
+  private static final int SIGNED_BIGINT = 9;
+  private static final int UNSIGNED_BIGINT = 10;
+  private static final int FLOAT = 11;
+  private static final int DOUBLE = 12;
+  private static final int DECIMAL = 13;
+  private static final int STRING = 14;
+
+  private final ColumnDecoder[] columns;
+  private final byte[] kinds;
+  private final boolean binary;
+
+  /**
+   * Build decode plan
+   *
+   * @param columns columns metadata
+   * @param binary binary protocol rows
+   */
+  public DecodePlan(ColumnDecoder[] columns, boolean binary) {
+    this.columns = columns;
+    this.binary = binary;
+    this.kinds = new byte[columns.length];
+    for (int i = 0; i < columns.length; i++) {
+      kinds[i] = (byte) kind(columns[i]);
+    }
+  }
+
+  private static int kind(ColumnDecoder column) {
+    // exact class, since subclasses (YEAR, BLOB, JSON, ...) have their own decoding
+    Class<?> clazz = column.getClass();
+    if (clazz == SignedTinyIntColumn.class) return SIGNED_TINYINT;
+    if (clazz == UnsignedTinyIntColumn.class) return UNSIGNED_TINYINT;
+    if (clazz == SignedSmallIntColumn.class) return SIGNED_SMALLINT;
+    if (clazz == UnsignedSmallIntColumn.class) return UNSIGNED_SMALLINT;
+    if (clazz == SignedMediumIntColumn.class) return SIGNED_MEDIUMINT;
+    if (clazz == UnsignedMediumIntColumn.class) return UNSIGNED_MEDIUMINT;
+    if (clazz == SignedIntColumn.class) return SIGNED_INT;
+    if (clazz == UnsignedIntColumn.class) return UNSIGNED_INT;
+    if (clazz == SignedBigIntColumn.class) return SIGNED_BIGINT;
+    if (clazz == UnsignedBigIntColumn.class) return UNSIGNED_BIGINT;
+    if (clazz == FloatColumn.class) return FLOAT;
+    if (clazz == DoubleColumn.class) return DOUBLE;
+    if (clazz == BigDecimalColumn.class) return DECIMAL;
+    if (clazz == StringColumn.class) return STRING;
+    return GENERIC;
+  }
+
+  /**
+   * Indicate if rows are binary encoded
+   *
+   * @return true if binary protocol
+   */
+  public boolean isBinary() {
+    return binary;
+  }
+
+  /**
+   * Decode field of current row as String
+   *
+   * @param index field index (0-based)
+   * @param buf row buffer, positioned at field data
+   * @param length field length
+   * @return String value
+   * @throws SQLException if field cannot be decoded as String
+   */
+  public String decodeString(int index, StandardReadableByteBuf buf, MutableInt length)
+      throws SQLException {
+    ColumnDecoder column = columns[index];
+    if (binary) {
+      switch (kinds[index]) {
+        case SIGNED_TINYINT:
+          return ((SignedTinyIntColumn) column).decodeStringBinary(buf, length, null);
+        case UNSIGNED_TINYINT:
+          return ((UnsignedTinyIntColumn) column).decodeStringBinary(buf, length, null);
+        case SIGNED_SMALLINT:
+          return ((SignedSmallIntColumn) column).decodeStringBinary(buf, length, null);
+        case UNSIGNED_SMALLINT:
+          return ((UnsignedSmallIntColumn) column).decodeStringBinary(buf, length, null);
+        case SIGNED_MEDIUMINT:
+          return ((SignedMediumIntColumn) column).decodeStringBinary(buf, length, null);
+        case UNSIGNED_MEDIUMINT:
+          return ((UnsignedMediumIntColumn) column).decodeStringBinary(buf, length, null);
+        case SIGNED_INT:
+          return ((SignedIntColumn) column).decodeStringBinary(buf, length, null);
+        case UNSIGNED_INT:
+          return ((UnsignedIntColumn) column).decodeStringBinary(buf, length, null);
+        case SIGNED_BIGINT:
+          return ((SignedBigIntColumn) column).decodeStringBinary(buf, length, null);
+        case UNSIGNED_BIGINT:
+          return ((UnsignedBigIntColumn) column).decodeStringBinary(buf, length, null);
+        case FLOAT:
+          return ((FloatColumn) column).decodeStringBinary(buf, length, null);
+        case DOUBLE:
+          return ((DoubleColumn) column).decodeStringBinary(buf, length, null);
+        case DECIMAL:
+          return ((BigDecimalColumn) column).decodeStringBinary(buf, length, null);
+        case STRING:
+          return ((StringColumn) column).decodeStringBinary(buf, length, null);
+        default:
+          return column.decodeStringBinary(buf, length, null);
+      }
+    }
+    switch (kinds[index]) {
+      case SIGNED_TINYINT:
+        return ((SignedTinyIntColumn) column).decodeStringText(buf, length, null);
+      case UNSIGNED_TINYINT:
+        return ((UnsignedTinyIntColumn) column).decodeStringText(buf, length, null);
+      case SIGNED_SMALLINT:
+        return ((SignedSmallIntColumn) column).decodeStringText(buf, length, null);
+      case UNSIGNED_SMALLINT:
+        return ((UnsignedSmallIntColumn) column).decodeStringText(buf, length, null);
+      case SIGNED_MEDIUMINT:
+        return ((SignedMediumIntColumn) column).decodeStringText(buf, length, null);
+      case UNSIGNED_MEDIUMINT:
+        return ((UnsignedMediumIntColumn) column).decodeStringText(buf, length, null);
+      case SIGNED_INT:
+        return ((SignedIntColumn) column).decodeStringText(buf, length, null);
+      case UNSIGNED_INT:
+        return ((UnsignedIntColumn) column).decodeStringText(buf, length, null);
+      case SIGNED_BIGINT:
+        return ((SignedBigIntColumn) column).decodeStringText(buf, length, null);
+      case UNSIGNED_BIGINT:
+        return ((UnsignedBigIntColumn) column).decodeStringText(buf, length, null);
+      case FLOAT:
+        return ((FloatColumn) column).decodeStringText(buf, length, null);
+      case DOUBLE:
+        return ((DoubleColumn) column).decodeStringText(buf, length, null);
+      case DECIMAL:
+        return ((BigDecimalColumn) column).decodeStringText(buf, length, null);
+      case STRING:
+        return ((StringColumn) column).decodeStringText(buf, length, null);
+      default:
+        return column.decodeStringText(buf, length, null);
+    }
+  }
+
+  /**
+   * Decode field of current row as int
+   *
+   * @param index field index (0-based)
+   * @param buf row buffer, positioned at field data
+   * @param length field length
+   * @return int value
+   * @throws SQLException if field cannot be decoded as int
+   */
+  public int decodeInt(int index, StandardReadableByteBuf buf, MutableInt length)
+      throws SQLException {
+    ColumnDecoder column = columns[index];
+    if (binary) {
+      switch (kinds[index]) {
+        case SIGNED_TINYINT:
+          return ((SignedTinyIntColumn) column).decodeIntBinary(buf, length);
+        case UNSIGNED_TINYINT:
+          return ((UnsignedTinyIntColumn) column).decodeIntBinary(buf, length);
+        case SIGNED_SMALLINT:
+          return ((SignedSmallIntColumn) column).decodeIntBinary(buf, length);
+        case UNSIGNED_SMALLINT:
+          return ((UnsignedSmallIntColumn) column).decodeIntBinary(buf, length);
+        case SIGNED_MEDIUMINT:
+          return ((SignedMediumIntColumn) column).decodeIntBinary(buf, length);
+        case UNSIGNED_MEDIUMINT:
+          return ((UnsignedMediumIntColumn) column).decodeIntBinary(buf, length);
+        case SIGNED_INT:
+          return ((SignedIntColumn) column).decodeIntBinary(buf, length);
+        case UNSIGNED_INT:
+          return ((UnsignedIntColumn) column).decodeIntBinary(buf, length);
+        case SIGNED_BIGINT:
+          return ((SignedBigIntColumn) column).decodeIntBinary(buf, length);
+        case UNSIGNED_BIGINT:
+          return ((UnsignedBigIntColumn) column).decodeIntBinary(buf, length);
+        case FLOAT:
+          return ((FloatColumn) column).decodeIntBinary(buf, length);
+        case DOUBLE:
+          return ((DoubleColumn) column).decodeIntBinary(buf, length);
+        case DECIMAL:
+          return ((BigDecimalColumn) column).decodeIntBinary(buf, length);
+        case STRING:
+          return ((StringColumn) column).decodeIntBinary(buf, length);
+        default:
+          return column.decodeIntBinary(buf, length);
+      }
+    }
+    switch (kinds[index]) {
+      case SIGNED_TINYINT:
+        return ((SignedTinyIntColumn) column).decodeIntText(buf, length);
+      case UNSIGNED_TINYINT:
+        return ((UnsignedTinyIntColumn) column).decodeIntText(buf, length);
+      case SIGNED_SMALLINT:
+        return ((SignedSmallIntColumn) column).decodeIntText(buf, length);
+      case UNSIGNED_SMALLINT:
+        return ((UnsignedSmallIntColumn) column).decodeIntText(buf, length);
+      case SIGNED_MEDIUMINT:
+        return ((SignedMediumIntColumn) column).decodeIntText(buf, length);
+      case UNSIGNED_MEDIUMINT:
+        return ((UnsignedMediumIntColumn) column).decodeIntText(buf, length);
+      case SIGNED_INT:
+        return ((SignedIntColumn) column).decodeIntText(buf, length);
+      case UNSIGNED_INT:
+        return ((UnsignedIntColumn) column).decodeIntText(buf, length);
+      case SIGNED_BIGINT:
+        return ((SignedBigIntColumn) column).decodeIntText(buf, length);
+      case UNSIGNED_BIGINT:
+        return ((UnsignedBigIntColumn) column).decodeIntText(buf, length);
+      case FLOAT:
+        return ((FloatColumn) column).decodeIntText(buf, length);
+      case DOUBLE:
+        return ((DoubleColumn) column).decodeIntText(buf, length);
+      case DECIMAL:
+        return ((BigDecimalColumn) column).decodeIntText(buf, length);
+      case STRING:
+        return ((StringColumn) column).decodeIntText(buf, length);
+      default:
+        return column.decodeIntText(buf, length);
+    }
+  }
+
+  /**
+   * Decode field of current row as long
+   *
+   * @param index field index (0-based)
+   * @param buf row buffer, positioned at field data
+   * @param length field length
+   * @return long value
+   * @throws SQLException if field cannot be decoded as long
+   */
+  public long decodeLong(int index, StandardReadableByteBuf buf, MutableInt length)
+      throws SQLException {
+    ColumnDecoder column = columns[index];
+    if (binary) {
+      switch (kinds[index]) {
+        case SIGNED_TINYINT:
+          return ((SignedTinyIntColumn) column).decodeLongBinary(buf, length);
+        case UNSIGNED_TINYINT:
+          return ((UnsignedTinyIntColumn) column).decodeLongBinary(buf, length);
+        case SIGNED_SMALLINT:
+          return ((SignedSmallIntColumn) column).decodeLongBinary(buf, length);
+        case UNSIGNED_SMALLINT:
+          return ((UnsignedSmallIntColumn) column).decodeLongBinary(buf, length);
+        case SIGNED_MEDIUMINT:
+          return ((SignedMediumIntColumn) column).decodeLongBinary(buf, length);
+        case UNSIGNED_MEDIUMINT:
+          return ((UnsignedMediumIntColumn) column).decodeLongBinary(buf, length);
+        case SIGNED_INT:
+          return ((SignedIntColumn) column).decodeLongBinary(buf, length);
+        case UNSIGNED_INT:
+          return ((UnsignedIntColumn) column).decodeLongBinary(buf, length);
+        case SIGNED_BIGINT:
+          return ((SignedBigIntColumn) column).decodeLongBinary(buf, length);
+        case UNSIGNED_BIGINT:
+          return ((UnsignedBigIntColumn) column).decodeLongBinary(buf, length);
+        case FLOAT:
+          return ((FloatColumn) column).decodeLongBinary(buf, length);
+        case DOUBLE:
+          return ((DoubleColumn) column).decodeLongBinary(buf, length);
+        case DECIMAL:
+          return ((BigDecimalColumn) column).decodeLongBinary(buf, length);
+        case STRING:
+          return ((StringColumn) column).decodeLongBinary(buf, length);
+        default:
+          return column.decodeLongBinary(buf, length);
+      }
+    }
+    switch (kinds[index]) {
+      case SIGNED_TINYINT:
+        return ((SignedTinyIntColumn) column).decodeLongText(buf, length);
+      case UNSIGNED_TINYINT:
+        return ((UnsignedTinyIntColumn) column).decodeLongText(buf, length);
+      case SIGNED_SMALLINT:
+        return ((SignedSmallIntColumn) column).decodeLongText(buf, length);
+      case UNSIGNED_SMALLINT:
+        return ((UnsignedSmallIntColumn) column).decodeLongText(buf, length);
+      case SIGNED_MEDIUMINT:
+        return ((SignedMediumIntColumn) column).decodeLongText(buf, length);
+      case UNSIGNED_MEDIUMINT:
+        return ((UnsignedMediumIntColumn) column).decodeLongText(buf, length);
+      case SIGNED_INT:
+        return ((SignedIntColumn) column).decodeLongText(buf, length);
+      case UNSIGNED_INT:
+        return ((UnsignedIntColumn) column).decodeLongText(buf, length);
+      case SIGNED_BIGINT:
+        return ((SignedBigIntColumn) column).decodeLongText(buf, length);
+      case UNSIGNED_BIGINT:
+        return ((UnsignedBigIntColumn) column).decodeLongText(buf, length);
+      case FLOAT:
+        return ((FloatColumn) column).decodeLongText(buf, length);
+      case DOUBLE:
+        return ((DoubleColumn) column).decodeLongText(buf, length);
+      case DECIMAL:
+        return ((BigDecimalColumn) column).decodeLongText(buf, length);
+      case STRING:
+        return ((StringColumn) column).decodeLongText(buf, length);
+      default:
+        return column.decodeLongText(buf, length);
+    }
+  }
+
+  /**
+   * Decode field of current row as float
+   *
+   * @param index field index (0-based)
+   * @param buf row buffer, positioned at field data
+   * @param length field length
+   * @return float value
+   * @throws SQLException if field cannot be decoded as float
+   */
+  public float decodeFloat(int index, StandardReadableByteBuf buf, MutableInt length)
+      throws SQLException {
+    ColumnDecoder column = columns[index];
+    if (binary) {
+      switch (kinds[index]) {
+        case SIGNED_TINYINT:
+          return ((SignedTinyIntColumn) column).decodeFloatBinary(buf, length);
+        case UNSIGNED_TINYINT:
+          return ((UnsignedTinyIntColumn) column).decodeFloatBinary(buf, length);
+        case SIGNED_SMALLINT:
+          return ((SignedSmallIntColumn) column).decodeFloatBinary(buf, length);
+        case UNSIGNED_SMALLINT:
+          return ((UnsignedSmallIntColumn) column).decodeFloatBinary(buf, length);
+        case SIGNED_MEDIUMINT:
+          return ((SignedMediumIntColumn) column).decodeFloatBinary(buf, length);
+        case UNSIGNED_MEDIUMINT:
+          return ((UnsignedMediumIntColumn) column).decodeFloatBinary(buf, length);
+        case SIGNED_INT:
+          return ((SignedIntColumn) column).decodeFloatBinary(buf, length);
+        case UNSIGNED_INT:
+          return ((UnsignedIntColumn) column).decodeFloatBinary(buf, length);
+        case SIGNED_BIGINT:
+          return ((SignedBigIntColumn) column).decodeFloatBinary(buf, length);
+        case UNSIGNED_BIGINT:
+          return ((UnsignedBigIntColumn) column).decodeFloatBinary(buf, length);
+        case FLOAT:
+          return ((FloatColumn) column).decodeFloatBinary(buf, length);
+        case DOUBLE:
+          return ((DoubleColumn) column).decodeFloatBinary(buf, length);
+        case DECIMAL:
+          return ((BigDecimalColumn) column).decodeFloatBinary(buf, length);
+        case STRING:
+          return ((StringColumn) column).decodeFloatBinary(buf, length);
+        default:
+          return column.decodeFloatBinary(buf, length);
+      }
+    }
+    switch (kinds[index]) {
+      case SIGNED_TINYINT:
+        return ((SignedTinyIntColumn) column).decodeFloatText(buf, length);
+      case UNSIGNED_TINYINT:
+        return ((UnsignedTinyIntColumn) column).decodeFloatText(buf, length);
+      case SIGNED_SMALLINT:
+        return ((SignedSmallIntColumn) column).decodeFloatText(buf, length);
+      case UNSIGNED_SMALLINT:
+        return ((UnsignedSmallIntColumn) column).decodeFloatText(buf, length);
+      case SIGNED_MEDIUMINT:
+        return ((SignedMediumIntColumn) column).decodeFloatText(buf, length);
+      case UNSIGNED_MEDIUMINT:
+        return ((UnsignedMediumIntColumn) column).decodeFloatText(buf, length);
+      case SIGNED_INT:
+        return ((SignedIntColumn) column).decodeFloatText(buf, length);
+      case UNSIGNED_INT:
+        return ((UnsignedIntColumn) column).decodeFloatText(buf, length);
+      case SIGNED_BIGINT:
+        return ((SignedBigIntColumn) column).decodeFloatText(buf, length);
+      case UNSIGNED_BIGINT:
+        return ((UnsignedBigIntColumn) column).decodeFloatText(buf, length);
+      case FLOAT:
+        return ((FloatColumn) column).decodeFloatText(buf, length);
+      case DOUBLE:
+        return ((DoubleColumn) column).decodeFloatText(buf, length);
+      case DECIMAL:
+        return ((BigDecimalColumn) column).decodeFloatText(buf, length);
+      case STRING:
+        return ((StringColumn) column).decodeFloatText(buf, length);
+      default:
+        return column.decodeFloatText(buf, length);
+    }
+  }
+
+  /**
+   * Decode field of current row as double
+   *
+   * @param index field index (0-based)
+   * @param buf row buffer, positioned at field data
+   * @param length field length
+   * @return double value
+   * @throws SQLException if field cannot be decoded as double
+   */
+  public double decodeDouble(int index, StandardReadableByteBuf buf, MutableInt length)
+      throws SQLException {
+    ColumnDecoder column = columns[index];
+    if (binary) {
+      switch (kinds[index]) {
+        case SIGNED_TINYINT:
+          return ((SignedTinyIntColumn) column).decodeDoubleBinary(buf, length);
+        case UNSIGNED_TINYINT:
+          return ((UnsignedTinyIntColumn) column).decodeDoubleBinary(buf, length);
+        case SIGNED_SMALLINT:
+          return ((SignedSmallIntColumn) column).decodeDoubleBinary(buf, length);
+        case UNSIGNED_SMALLINT:
+          return ((UnsignedSmallIntColumn) column).decodeDoubleBinary(buf, length);
+        case SIGNED_MEDIUMINT:
+          return ((SignedMediumIntColumn) column).decodeDoubleBinary(buf, length);
+        case UNSIGNED_MEDIUMINT:
+          return ((UnsignedMediumIntColumn) column).decodeDoubleBinary(buf, length);
+        case SIGNED_INT:
+          return ((SignedIntColumn) column).decodeDoubleBinary(buf, length);
+        case UNSIGNED_INT:
+          return ((UnsignedIntColumn) column).decodeDoubleBinary(buf, length);
+        case SIGNED_BIGINT:
+          return ((SignedBigIntColumn) column).decodeDoubleBinary(buf, length);
+        case UNSIGNED_BIGINT:
+          return ((UnsignedBigIntColumn) column).decodeDoubleBinary(buf, length);
+        case FLOAT:
+          return ((FloatColumn) column).decodeDoubleBinary(buf, length);
+        case DOUBLE:
+          return ((DoubleColumn) column).decodeDoubleBinary(buf, length);
+        case DECIMAL:
+          return ((BigDecimalColumn) column).decodeDoubleBinary(buf, length);
+        case STRING:
+          return ((StringColumn) column).decodeDoubleBinary(buf, length);
+        default:
+          return column.decodeDoubleBinary(buf, length);
+      }
+    }
+    switch (kinds[index]) {
+      case SIGNED_TINYINT:
+        return ((SignedTinyIntColumn) column).decodeDoubleText(buf, length);
+      case UNSIGNED_TINYINT:
+        return ((UnsignedTinyIntColumn) column).decodeDoubleText(buf, length);
+      case SIGNED_SMALLINT:
+        return ((SignedSmallIntColumn) column).decodeDoubleText(buf, length);
+      case UNSIGNED_SMALLINT:
+        return ((UnsignedSmallIntColumn) column).decodeDoubleText(buf, length);
+      case SIGNED_MEDIUMINT:
+        return ((SignedMediumIntColumn) column).decodeDoubleText(buf, length);
+      case UNSIGNED_MEDIUMINT:
+        return ((UnsignedMediumIntColumn) column).decodeDoubleText(buf, length);
+      case SIGNED_INT:
+        return ((SignedIntColumn) column).decodeDoubleText(buf, length);
+      case UNSIGNED_INT:
+        return ((UnsignedIntColumn) column).decodeDoubleText(buf, length);
+      case SIGNED_BIGINT:
+        return ((SignedBigIntColumn) column).decodeDoubleText(buf, length);
+      case UNSIGNED_BIGINT:
+        return ((UnsignedBigIntColumn) column).decodeDoubleText(buf, length);
+      case FLOAT:
+        return ((FloatColumn) column).decodeDoubleText(buf, length);
+      case DOUBLE:
+        return ((DoubleColumn) column).decodeDoubleText(buf, length);
+      case DECIMAL:
+        return ((BigDecimalColumn) column).decodeDoubleText(buf, length);
+      case STRING:
+        return ((StringColumn) column).decodeDoubleText(buf, length);
+      default:
+        return column.decodeDoubleText(buf, length);
+    }
+  }
+}
@@ -37,6 +37,8 @@ public interface RowDecoder {
    * @param rowBuf row buffer
    * @param nullBitmap null bitmap
    * @param metadataList metadata list
+   * @param fieldOffsets field offsets of current row, computed on first access to a field before
+   *     current one. Last element is 1 when offsets are computed, 0 otherwise.
    * @return new index to read data
    */
   int setPosition(
@@ -45,7 +47,8 @@ public interface RowDecoder {
       int maxIndex,
       StandardReadableByteBuf rowBuf,
       byte[] nullBitmap,
-      ColumnDecoder[] metadataList);
+      ColumnDecoder[] metadataList,
+      int[] fieldOffsets);
 
   /**
    * Decode data according to data type.
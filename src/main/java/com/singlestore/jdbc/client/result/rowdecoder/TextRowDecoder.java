@@ -163,17 +163,27 @@ public class TextRowDecoder implements RowDecoder {
       final int maxIndex,
       final StandardReadableByteBuf rowBuf,
       final byte[] nullBitmap,
-      final ColumnDecoder[] metadataList) {
-    if (fieldIndex.get() >= newIndex) {
-      fieldIndex.set(0);
-      rowBuf.pos(0);
-    } else {
-      fieldIndex.incrementAndGet();
+      final ColumnDecoder[] metadataList,
+      final int[] fieldOffsets) {
+    if (fieldOffsets[maxIndex] == 0 && fieldIndex.get() >= newIndex) {
+      // field before current one: computing all field offsets once for this row
+      rowBuf.pos(rowBuf.start);
+      for (int i = 0; i < maxIndex; i++) {
+        fieldOffsets[i] = rowBuf.pos;
+        rowBuf.skipLengthEncoded();
+      }
+      fieldOffsets[maxIndex] = 1;
     }
 
-    while (fieldIndex.get() < newIndex) {
-      rowBuf.skipLengthEncoded();
+    if (fieldOffsets[maxIndex] == 1) {
+      fieldIndex.set(newIndex);
+      rowBuf.pos(fieldOffsets[newIndex]);
+    } else {
       fieldIndex.incrementAndGet();
+      while (fieldIndex.get() < newIndex) {
+        rowBuf.skipLengthEncoded();
+        fieldIndex.incrementAndGet();
+      }
     }
 
     byte len = rowBuf.buf[rowBuf.pos++];
@@ -8,6 +8,7 @@ package com.singlestore.jdbc.client.socket;
 import com.singlestore.jdbc.HostAddress;
 import com.singlestore.jdbc.client.ReadableByteBuf;
 import com.singlestore.jdbc.client.util.MutableByte;
+import com.singlestore.jdbc.client.util.RowSlab;
 import java.io.IOException;
 
 /** Packet Reader */
@@ -42,6 +43,17 @@ public interface Reader {
    */
   byte[] readPacket(boolean traceEnable) throws IOException;
 
+  /**
+   * Get next MySQL packet, reading content directly at the end of slab row in progress. If packet
+   * is more than 16M, read as many packet needed to finish reading MySQL packet.
+   *
+   * @param slab row slab
+   * @param traceEnable must trace packet.
+   * @return packet length
+   * @throws IOException if socket exception occur.
+   */
+  int readPacket(RowSlab slab, boolean traceEnable) throws IOException;
+
   /**
    * Get a readable byte array from byte array. This packet is expected to be read immediately,
    * since no lock is set on this packet.
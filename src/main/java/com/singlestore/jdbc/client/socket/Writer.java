@@ -96,6 +96,15 @@ public interface Writer {
 
   void writeAscii(String str) throws IOException;
 
+  /**
+   * Write decimal representation of value, like writeAscii(Long.toString(value)) without
+   * intermediate String.
+   *
+   * @param value value
+   * @throws IOException if socket error occur
+   */
+  void writeAscii(long value) throws IOException;
+
   void writeString(String str) throws IOException;
 
   /**
@@ -136,6 +145,26 @@ public interface Writer {
    */
   void flushPipeline() throws IOException;
 
+  /**
+   * Start pipelining: commands are sent to buffered outputstream without flushing socket, until
+   * {@link #endPipeline()}. Socket is then only written when buffer is full.
+   */
+  void startPipeline();
+
+  /**
+   * End pipelining, flushing socket.
+   *
+   * @throws IOException if socket error occur.
+   */
+  void endPipeline() throws IOException;
+
+  /**
+   * Total number of bytes written to socket stream since writer creation, packet headers included.
+   *
+   * @return written length
+   */
+  long getWrittenLength();
+
   /**
    * must a max allowed length exception be thrown
    *
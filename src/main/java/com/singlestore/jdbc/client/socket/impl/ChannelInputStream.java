@@ -0,0 +1,96 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2021-2023 SingleStore, Inc.
+
+package com.singlestore.jdbc.client.socket.impl;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+
+/**
+ * Socket channel input stream, reading socket data into a direct buffer. Packet content is copied
+ * once, from the direct buffer to the packet array, avoiding the intermediate heap buffer of a
+ * buffered socket stream.
+ */
+public class ChannelInputStream extends InputStream {
+
+  private static final int BUF_SIZE = 16384;
+  private final ChannelSelector channel;
+  private final ByteBuffer buf;
+
+  /**
+   * Constructor
+   *
+   * @param channel socket channel
+   */
+  public ChannelInputStream(ChannelSelector channel) {
+    this.channel = channel;
+    this.buf = ByteBuffer.allocateDirect(BUF_SIZE);
+    ((Buffer) this.buf).limit(0);
+  }
+
+  @Override
+  public int read(byte[] externalBuf, int off, int len) throws IOException {
+    if (len == 0) {
+      return 0;
+    }
+
+    if (!buf.hasRemaining()) {
+      if (len >= BUF_SIZE) {
+        // buf is empty and asked length is bigger
+        // => filling directly into external buf
+        return channel.read(ByteBuffer.wrap(externalBuf, off, len));
+      }
+      if (fillBuffer() < 0) {
+        return -1;
+      }
+    }
+
+    int copyLength = Math.min(len, buf.remaining());
+    buf.get(externalBuf, off, copyLength);
+    return copyLength;
+  }
+
+  @Override
+  public int read() throws IOException {
+    if (!buf.hasRemaining() && fillBuffer() < 0) {
+      return -1;
+    }
+    return buf.get() & 0xff;
+  }
+
+  @Override
+  public long skip(long n) throws IOException {
+    if (n <= 0) {
+      return 0;
+    }
+    if (!buf.hasRemaining() && fillBuffer() < 0) {
+      throw new EOFException("unexpected end of stream (socket was closed by server)");
+    }
+    int skipLength = (int) Math.min(n, buf.remaining());
+    ((Buffer) buf).position(buf.position() + skipLength);
+    return skipLength;
+  }
+
+  private int fillBuffer() throws IOException {
+    ((Buffer) buf).clear();
+    try {
+      return channel.read(buf);
+    } finally {
+      ((Buffer) buf).flip();
+    }
+  }
+
+  @Override
+  public int available() {
+    return buf.remaining();
+  }
+
+  @Override
+  public void close() throws IOException {
+    ((Buffer) buf).limit(0);
+    channel.close();
+  }
+}
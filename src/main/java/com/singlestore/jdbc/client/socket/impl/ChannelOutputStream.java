@@ -0,0 +1,75 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2021-2023 SingleStore, Inc.
+
+package com.singlestore.jdbc.client.socket.impl;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+
+/**
+ * Socket channel output stream. Small writes are buffered in a direct buffer until flush. Writes
+ * that don't fit are sent together with buffered data using a single gathering write.
+ */
+public class ChannelOutputStream extends OutputStream {
+
+  private static final int BUF_SIZE = 16384;
+  private final ChannelSelector channel;
+  private final ByteBuffer buf;
+  private final ByteBuffer[] gather = new ByteBuffer[2];
+
+  /**
+   * Constructor
+   *
+   * @param channel socket channel
+   */
+  public ChannelOutputStream(ChannelSelector channel) {
+    this.channel = channel;
+    this.buf = ByteBuffer.allocateDirect(BUF_SIZE);
+  }
+
+  @Override
+  public void write(int b) throws IOException {
+    if (!buf.hasRemaining()) {
+      flush();
+    }
+    buf.put((byte) b);
+  }
+
+  @Override
+  public void write(byte[] b, int off, int len) throws IOException {
+    if (len <= buf.remaining()) {
+      buf.put(b, off, len);
+      return;
+    }
+
+    // send buffered data and array in one call
+    ((Buffer) buf).flip();
+    gather[0] = buf;
+    gather[1] = ByteBuffer.wrap(b, off, len);
+    try {
+      channel.write(gather);
+    } finally {
+      gather[1] = null;
+      ((Buffer) buf).clear();
+    }
+  }
+
+  @Override
+  public void flush() throws IOException {
+    if (buf.position() > 0) {
+      ((Buffer) buf).flip();
+      try {
+        channel.write(buf);
+      } finally {
+        ((Buffer) buf).clear();
+      }
+    }
+  }
+
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+}
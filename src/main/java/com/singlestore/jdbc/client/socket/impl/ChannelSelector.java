@@ -0,0 +1,103 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2021-2023 SingleStore, Inc.
+
+package com.singlestore.jdbc.client.socket.impl;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+
+/**
+ * Blocking access to a non-blocking socket channel.
+ *
+ * <p>A channel in blocking mode ignores SO_TIMEOUT, so the channel is switched to non-blocking mode
+ * and reads wait on a selector, honoring the current socket timeout like a standard socket stream
+ * does.
+ *
+ * <p>Implementation doesn't use synchronized/semaphore because all used are already locked by
+ * Statement/PreparedStatement Reentrant lock
+ */
+public class ChannelSelector implements Closeable {
+
+  private final SocketChannel channel;
+  private final Socket socket;
+  private final Selector selector;
+  private final SelectionKey key;
+
+  /**
+   * Constructor
+   *
+   * @param channel connected socket channel
+   * @throws IOException if channel cannot be registered
+   */
+  public ChannelSelector(SocketChannel channel) throws IOException {
+    this.channel = channel;
+    this.socket = channel.socket();
+    this.selector = Selector.open();
+    channel.configureBlocking(false);
+    this.key = channel.register(selector, 0);
+  }
+
+  /**
+   * Read available bytes into buffer, waiting for at least one byte.
+   *
+   * @param dst destination buffer
+   * @return number of bytes read, -1 if end of stream
+   * @throws IOException if socket error occurs, or SocketTimeoutException if socket timeout is
+   *     reached
+   */
+  public int read(ByteBuffer dst) throws IOException {
+    int read = channel.read(dst);
+    if (read != 0) return read;
+
+    int timeout = socket.getSoTimeout();
+    long deadline = timeout > 0 ? System.nanoTime() + timeout * 1_000_000L : 0;
+    while (true) {
+      long waitMillis = 0;
+      if (timeout > 0) {
+        waitMillis = (deadline - System.nanoTime()) / 1_000_000L;
+        if (waitMillis <= 0) throw new SocketTimeoutException("Read timed out");
+      }
+      await(SelectionKey.OP_READ, waitMillis);
+      read = channel.read(dst);
+      if (read != 0) return read;
+    }
+  }
+
+  /**
+   * Write buffers completely, in a single gathering write when socket send buffer permits it.
+   *
+   * @param srcs buffers to write
+   * @throws IOException if socket error occurs
+   */
+  public void write(ByteBuffer... srcs) throws IOException {
+    long remaining = 0;
+    for (ByteBuffer src : srcs) remaining += src.remaining();
+    remaining -= channel.write(srcs);
+    while (remaining > 0) {
+      await(SelectionKey.OP_WRITE, 0);
+      remaining -= channel.write(srcs);
+    }
+  }
+
+  private void await(int ops, long timeout) throws IOException {
+    if (!key.isValid()) throw new IOException("Socket is closed");
+    key.interestOps(ops);
+    selector.select(timeout);
+    selector.selectedKeys().clear();
+  }
+
+  @Override
+  public void close() throws IOException {
+    try {
+      selector.close();
+    } finally {
+      channel.close();
+    }
+  }
+}
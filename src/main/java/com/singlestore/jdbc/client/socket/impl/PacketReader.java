@@ -11,6 +11,7 @@ import com.singlestore.jdbc.client.ReadableByteBuf;
 import com.singlestore.jdbc.client.impl.StandardReadableByteBuf;
 import com.singlestore.jdbc.client.socket.Reader;
 import com.singlestore.jdbc.client.util.MutableByte;
+import com.singlestore.jdbc.client.util.RowSlab;
 import com.singlestore.jdbc.util.log.Logger;
 import com.singlestore.jdbc.util.log.LoggerHelper;
 import com.singlestore.jdbc.util.log.Loggers;
@@ -268,6 +269,77 @@ public class PacketReader implements Reader {
     return rawBytes;
   }
 
+  @Override
+  public int readPacket(RowSlab slab, boolean traceEnable) throws IOException {
+    int packetLength;
+    int length = 0;
+    do {
+      // ***************************************************
+      // Read 4 byte header
+      // ***************************************************
+      int remaining = 4;
+      if (traceEnable) {
+        logger.trace("read header is started, remaining bytes: {}", remaining);
+      }
+      int off = 0;
+      do {
+        int count = inputStream.read(header, off, remaining);
+        if (count < 0) {
+          throw new EOFException(
+              "unexpected end of stream, read "
+                  + off
+                  + " bytes from 4 (socket was closed by server)");
+        }
+        if (traceEnable) {
+          logger.trace("read {} bytes header is finished", count);
+        }
+        remaining -= count;
+        off += count;
+      } while (remaining > 0);
+
+      packetLength = (header[0] & 0xff) + ((header[1] & 0xff) << 8) + ((header[2] & 0xff) << 16);
+
+      // ***************************************************
+      // Read content
+      // ***************************************************
+      slab.ensureCapacity(packetLength);
+      byte[] rawBytes = slab.buf();
+      int start = slab.pos();
+      remaining = packetLength;
+      if (traceEnable) {
+        logger.trace("read content is started, remaining bytes: {}", remaining);
+      }
+      off = start;
+      do {
+        int count = inputStream.read(rawBytes, off, remaining);
+        if (count < 0) {
+          throw new EOFException(
+              "unexpected end of stream, read "
+                  + (packetLength - remaining)
+                  + " bytes from "
+                  + packetLength
+                  + " (socket was closed by server)");
+        }
+        if (traceEnable) {
+          logger.trace("read {} bytes content is finished", count);
+        }
+        remaining -= count;
+        off += count;
+      } while (remaining > 0);
+      slab.skip(packetLength);
+
+      if (traceEnable) {
+        logger.trace(
+            "read: {}\n{}",
+            serverThreadLog,
+            LoggerHelper.hex(header, rawBytes, start, packetLength, maxQuerySizeToLog));
+      }
+      length += packetLength;
+    } while (packetLength == MAX_PACKET_SIZE);
+
+    return length;
+  }
+
   @Override
   public void skipPacket() throws IOException {
     if (logger.isTraceEnabled()) {
@@ -41,6 +41,8 @@ public class PacketWriter implements Writer {
   private String serverThreadLog = "";
   private int mark = -1;
   private boolean bufContainDataAfterMark = false;
+  private boolean pipeline = false;
+  private long writtenLength;
 
   /** internal buffer */
   protected byte[] buf;
@@ -369,6 +371,26 @@ public class PacketWriter implements Writer {
     }
   }
 
+  public void writeAscii(long value) throws IOException {
+    if (20 > buf.length - pos || value == Long.MIN_VALUE) {
+      writeAscii(Long.toString(value));
+      return;
+    }
+    if (value < 0) {
+      buf[pos++] = '-';
+      value = -value;
+    }
+    int end = pos + 1;
+    for (long v = value / 10; v > 0; v /= 10) {
+      end++;
+    }
+    for (int i = end - 1; i >= pos; i--) {
+      buf[i] = (byte) ('0' + value % 10);
+      value /= 10;
+    }
+    pos = end;
+  }
+
   public void writeString(String str) throws IOException {
     int charsLength = str.length();
 
@@ -672,12 +694,13 @@ public class PacketWriter implements Writer {
     buf[2] = (byte) 0x00;
     buf[3] = this.sequence.incrementAndGet();
     out.write(buf, 0, 4);
+    writtenLength += 4;
 
     if (logger.isTraceEnabled()) {
       logger.trace(
           "send com : content length=0 {}\n{}", serverThreadLog, LoggerHelper.hex(buf, 0, 4));
     }
-    out.flush();
+    if (!pipeline) out.flush();
     cmdLength = 0;
   }
 
@@ -714,6 +737,22 @@ public class PacketWriter implements Writer {
     mark = -1;
   }
 
+  @Override
+  public void startPipeline() {
+    pipeline = true;
+  }
+
+  @Override
+  public void endPipeline() throws IOException {
+    pipeline = false;
+    out.flush();
+  }
+
+  @Override
+  public long getWrittenLength() {
+    return writtenLength;
+  }
+
   /**
    * Count query size. If query size is greater than max_allowed_packet and nothing has been already
    * send, throw an exception to avoid having the connection closed.
@@ -832,7 +871,8 @@ public class PacketWriter implements Writer {
       buf[3] = this.sequence.incrementAndGet();
       checkMaxAllowedLength(pos - 4);
       out.write(buf, 0, pos);
-      if (commandEnd) out.flush();
+      writtenLength += pos;
+      if (commandEnd && !pipeline) out.flush();
       cmdLength += pos - 4;
 
       if (logger.isTraceEnabled()) {
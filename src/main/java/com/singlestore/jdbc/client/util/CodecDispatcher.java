@@ -0,0 +1,99 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2021-2023 SingleStore, Inc.
+
+package com.singlestore.jdbc.client.util;
+
+import com.singlestore.jdbc.client.ColumnDecoder;
+import com.singlestore.jdbc.client.DataType;
+import com.singlestore.jdbc.plugin.Codec;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Codec lookup cache.
+ *
+ * <p>Codec selection scans codec list calling canDecode / canEncode until one matches. Result of
+ * this scan is cached by (column data type, column flags, requested class) for decoding, and by
+ * value class for encoding, so following lookups are a single map access. Codecs are expected to
+ * decide from those information only, like the driver codecs do.
+ */
+public final class CodecDispatcher {
+
+  private final Codec<?>[] codecs;
+  private final ConcurrentHashMap<DecodeKey, Codec<?>> decoders = new ConcurrentHashMap<>();
+  private final ConcurrentHashMap<Class<?>, Codec<?>> encoders = new ConcurrentHashMap<>();
+
+  /**
+   * Constructor
+   *
+   * @param codecs available codecs, by priority
+   */
+  public CodecDispatcher(Codec<?>[] codecs) {
+    this.codecs = codecs;
+  }
+
+  /**
+   * Codec decoding column to requested class.
+   *
+   * @param column column metadata
+   * @param type requested java class
+   * @return codec, or null if no codec can decode column to this class
+   */
+  public Codec<?> decoder(ColumnDecoder column, Class<?> type) {
+    DecodeKey key = new DecodeKey(column.getType(), column.getFlags(), type);
+    Codec<?> codec = decoders.get(key);
+    if (codec == null) {
+      for (Codec<?> candidate : codecs) {
+        if (candidate.canDecode(column, type)) {
+          decoders.putIfAbsent(key, candidate);
+          return candidate;
+        }
+      }
+    }
+    return codec;
+  }
+
+  /**
+   * Codec encoding value.
+   *
+   * @param value value to encode, not null
+   * @return codec, or null if no codec can encode value
+   */
+  public Codec<?> encoder(Object value) {
+    Class<?> clazz = value.getClass();
+    Codec<?> codec = encoders.get(clazz);
+    if (codec == null) {
+      for (Codec<?> candidate : codecs) {
+        if (candidate.canEncode(value)) {
+          encoders.putIfAbsent(clazz, candidate);
+          return candidate;
+        }
+      }
+    }
+    return codec;
+  }
+
+  private static final class DecodeKey {
+    private final DataType dataType;
+    private final int flags;
+    private final Class<?> type;
+
+    private DecodeKey(DataType dataType, int flags, Class<?> type) {
+      this.dataType = dataType;
+      this.flags = flags;
+      this.type = type;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if (!(o instanceof DecodeKey)) return false;
+      DecodeKey that = (DecodeKey) o;
+      return dataType == that.dataType && flags == that.flags && type == that.type;
+    }
+
+    @Override
+    public int hashCode() {
+      return (dataType.hashCode() * 31 + flags) * 31 + type.hashCode();
+    }
+  }
+}
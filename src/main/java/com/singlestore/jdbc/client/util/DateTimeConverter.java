@@ -0,0 +1,257 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2021-2023 SingleStore, Inc.
+
+package com.singlestore.jdbc.client.util;
+
+import com.singlestore.jdbc.client.socket.Writer;
+import java.io.IOException;
+import java.time.ZoneId;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+
+/**
+ * Conversion between local date-time fields and epoch milliseconds, without Calendar instance.
+ *
+ * <p>Offsets come from TimeZone.getOffset(long), reading the precomputed transitions of the time
+ * zone. A local date-time is converted with the offset of the corresponding instant when the same
+ * offset applies one day before and after: local time is then neither in a DST gap nor in an
+ * overlap, and result is the one Calendar would give. Other cases (DST transitions, dates before
+ * gregorian cutover, non gregorian calendars) use Calendar.
+ */
+public final class DateTimeConverter {
+
+  public static final long DAY_MILLIS = 86_400_000L;
+
+  /** Calendar uses julian calendar before gregorian cutover (1582) */
+  private static final int MIN_YEAR = 1600;
+
+  private static final int MAX_YEAR = 9999;
+
+  private static final int[] POW10 = {1, 10, 100, 1_000, 10_000, 100_000, 1_000_000};
+
+  private static volatile CachedZone cachedZone;
+
+  private DateTimeConverter() {}
+
+  /**
+   * Time zone of calendar, or default time zone if no calendar.
+   *
+   * @param cal calendar, may be null
+   * @return time zone
+   */
+  public static TimeZone timeZone(Calendar cal) {
+    return cal == null ? TimeZone.getDefault() : cal.getTimeZone();
+  }
+
+  /**
+   * Zone id of calendar time zone, or of default time zone if no calendar. Last conversion is
+   * cached, avoiding zone rules lookup for each value.
+   *
+   * @param cal calendar, may be null
+   * @return zone id
+   */
+  public static ZoneId zoneId(Calendar cal) {
+    TimeZone tz = timeZone(cal);
+    CachedZone cached = cachedZone;
+    if (cached == null || !cached.id.equals(tz.getID())) {
+      cached = new CachedZone(tz.getID(), tz.toZoneId());
+      cachedZone = cached;
+    }
+    return cached.zoneId;
+  }
+
+  /**
+   * Number of days since 1970-01-01, proleptic gregorian calendar.
+   *
+   * @param year year
+   * @param month month (1-12)
+   * @param day day of month
+   * @return epoch day
+   */
+  public static long epochDay(int year, int month, int day) {
+    int y = month <= 2 ? year - 1 : year;
+    int era = (y >= 0 ? y : y - 399) / 400;
+    int yoe = y - era * 400;
+    int doy = (153 * (month + (month > 2 ? -3 : 9)) + 2) / 5 + day - 1;
+    int doe = yoe * 365 + yoe / 4 - yoe / 100 + doy;
+    return era * 146097L + doe - 719468;
+  }
+
+  /**
+   * Date corresponding to epoch day, proleptic gregorian calendar.
+   *
+   * @param epochDay number of days since 1970-01-01
+   * @return date as year * 10000 + month * 100 + day
+   */
+  public static int civilDate(long epochDay) {
+    long z = epochDay + 719468;
+    long era = (z >= 0 ? z : z - 146096) / 146097;
+    int doe = (int) (z - era * 146097);
+    int yoe = (doe - doe / 1460 + doe / 36524 - doe / 146096) / 365;
+    int doy = doe - (365 * yoe + yoe / 4 - yoe / 100);
+    int mp = (5 * doy + 2) / 153;
+    int day = doy - (153 * mp + 2) / 5 + 1;
+    int month = mp < 10 ? mp + 3 : mp - 9;
+    long year = yoe + era * 400 + (month <= 2 ? 1 : 0);
+    return (int) (year * 10000 + month * 100 + day);
+  }
+
+  /**
+   * Epoch milliseconds of local date-time in calendar time zone (default time zone if no calendar),
+   * like Calendar.set(year, month - 1, day, hour, minute, second) would.
+   *
+   * @param cal calendar, may be null
+   * @param year year
+   * @param month month (1-12)
+   * @param day day of month
+   * @param hour hour
+   * @param minute minutes
+   * @param second seconds
+   * @return epoch milliseconds
+   */
+  public static long epochMillis(
+      Calendar cal, int year, int month, int day, int hour, int minute, int second) {
+    if ((cal == null || cal instanceof GregorianCalendar)
+        && year >= MIN_YEAR
+        && year <= MAX_YEAR
+        && month >= 1
+        && month <= 12
+        && day >= 1
+        && (day <= 28 || day <= lengthOfMonth(year, month))
+        && hour >= 0
+        && hour < 24
+        && minute >= 0
+        && minute < 60
+        && second >= 0
+        && second < 60) {
+      TimeZone tz = timeZone(cal);
+      long local =
+          epochDay(year, month, day) * DAY_MILLIS
+              + hour * 3_600_000L
+              + minute * 60_000L
+              + second * 1_000L;
+      int offset = tz.getOffset(local - tz.getRawOffset());
+      long millis = local - offset;
+      if (tz.getOffset(millis) == offset
+          && tz.getOffset(millis - DAY_MILLIS) == offset
+          && tz.getOffset(millis + DAY_MILLIS) == offset) {
+        return millis;
+      }
+    }
+
+    Calendar c = cal == null ? Calendar.getInstance() : cal;
+    synchronized (c) {
+      c.clear();
+      c.set(year, month - 1, day, hour, minute, second);
+      return c.getTimeInMillis();
+    }
+  }
+
+  /**
+   * Local time in calendar time zone (default time zone if no calendar) of an instant, as
+   * milliseconds since 1970-01-01T00:00 local.
+   *
+   * @param cal calendar, may be null
+   * @param epochMillis epoch milliseconds
+   * @return local milliseconds
+   */
+  public static long localMillis(Calendar cal, long epochMillis) {
+    return epochMillis + timeZone(cal).getOffset(epochMillis);
+  }
+
+  /**
+   * Local date of local milliseconds, if in the range handled without Calendar.
+   *
+   * @param localMillis local milliseconds
+   * @return date as year * 10000 + month * 100 + day, or -1 if out of range
+   */
+  public static int localDate(long localMillis) {
+    int date = civilDate(Math.floorDiv(localMillis, DAY_MILLIS));
+    int year = date / 10000;
+    return year >= MIN_YEAR && year <= MAX_YEAR ? date : -1;
+  }
+
+  /**
+   * Second of day of local milliseconds
+   *
+   * @param localMillis local milliseconds
+   * @return second of day
+   */
+  public static int localSecondOfDay(long localMillis) {
+    return (int) (Math.floorMod(localMillis, DAY_MILLIS) / 1000);
+  }
+
+  /**
+   * Write date as yyyy-MM-dd
+   *
+   * @param encoder writer
+   * @param year year (0-9999)
+   * @param month month
+   * @param day day of month
+   * @throws IOException if socket error occurs
+   */
+  public static void writeDate(Writer encoder, int year, int month, int day) throws IOException {
+    writeDigits(encoder, year, 4);
+    encoder.writeByte('-');
+    writeDigits(encoder, month, 2);
+    encoder.writeByte('-');
+    writeDigits(encoder, day, 2);
+  }
+
+  /**
+   * Write time as HH:mm:ss
+   *
+   * @param encoder writer
+   * @param hour hour
+   * @param minute minutes
+   * @param second seconds
+   * @throws IOException if socket error occurs
+   */
+  public static void writeTime(Writer encoder, int hour, int minute, int second)
+      throws IOException {
+    writeDigits(encoder, hour, 2);
+    encoder.writeByte(':');
+    writeDigits(encoder, minute, 2);
+    encoder.writeByte(':');
+    writeDigits(encoder, second, 2);
+  }
+
+  /**
+   * Write positive value in decimal, left padded with zeros
+   *
+   * @param encoder writer
+   * @param value value
+   * @param digits number of digits
+   * @throws IOException if socket error occurs
+   */
+  public static void writeDigits(Writer encoder, int value, int digits) throws IOException {
+    for (int divisor = POW10[digits - 1]; divisor > 0; divisor /= 10) {
+      encoder.writeByte('0' + (value / divisor) % 10);
+    }
+  }
+
+  private static int lengthOfMonth(int year, int month) {
+    switch (month) {
+      case 2:
+        return (year % 4 == 0 && (year % 100 != 0 || year % 400 == 0)) ? 29 : 28;
+      case 4:
+      case 6:
+      case 9:
+      case 11:
+        return 30;
+      default:
+        return 31;
+    }
+  }
+
+  private static final class CachedZone {
+    private final String id;
+    private final ZoneId zoneId;
+
+    private CachedZone(String id, ZoneId zoneId) {
+      this.id = id;
+      this.zoneId = zoneId;
+    }
+  }
+}
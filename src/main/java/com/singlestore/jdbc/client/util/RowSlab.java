@@ -0,0 +1,193 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2021-2023 SingleStore, Inc.
+
+package com.singlestore.jdbc.client.util;
+
+/**
+ * Row storage, appending rows one after the other in big chunks instead of having an array for each
+ * row. Row content is written directly at the end of the current chunk. If row doesn't fit, a new
+ * chunk is allocated and the part of the row already written is moved into it.
+ *
+ * <p>A row is identified by its position: chunk index in the 32 high bits, offset in chunk in the
+ * 32 low bits.
+ *
+ * <p>Chunks can be recycled when stored rows are not needed anymore, following rows being written
+ * over previous content without allocation.
+ */
+public final class RowSlab {
+
+  private static final int MIN_CHUNK_SIZE = 256;
+  private static final int MAX_CHUNK_SIZE = 1024 * 1024;
+
+  private byte[][] chunks = new byte[4][];
+  private int chunkCount;
+  private int chunkIndex = -1;
+  private int nextChunkSize = MIN_CHUNK_SIZE;
+
+  /** current chunk */
+  private byte[] buf;
+
+  /** write position in current chunk */
+  private int pos;
+
+  /** start position of row in progress in current chunk */
+  private int rowStart;
+
+  /**
+   * Current chunk
+   *
+   * @return current chunk
+   */
+  public byte[] buf() {
+    return buf;
+  }
+
+  /**
+   * Write position in current chunk
+   *
+   * @return write position
+   */
+  public int pos() {
+    return pos;
+  }
+
+  /**
+   * Start position of row in progress in current chunk
+   *
+   * @return row start position
+   */
+  public int rowStart() {
+    return rowStart;
+  }
+
+  /**
+   * Length of row in progress
+   *
+   * @return row length
+   */
+  public int rowLength() {
+    return pos - rowStart;
+  }
+
+  /**
+   * Get chunk
+   *
+   * @param index chunk index
+   * @return chunk
+   */
+  public byte[] chunk(int index) {
+    return chunks[index];
+  }
+
+  /**
+   * Ensure current chunk can receive additional bytes for the row in progress, allocating a new
+   * chunk if needed.
+   *
+   * @param length additional length
+   */
+  public void ensureCapacity(int length) {
+    int rowLength = pos - rowStart;
+    if (buf != null && length <= buf.length - pos) return;
+
+    // current chunk is replaced if it only contains row in progress
+    int index = (buf != null && rowStart == 0) ? chunkIndex : chunkIndex + 1;
+    byte[] newBuf;
+    if (index < chunkCount && chunks[index] != buf && chunks[index].length >= rowLength + length) {
+      // recycled chunk
+      newBuf = chunks[index];
+    } else {
+      newBuf = new byte[Math.max(rowLength + length, nextChunkSize)];
+      if (nextChunkSize < MAX_CHUNK_SIZE) nextChunkSize <<= 1;
+    }
+    if (rowLength > 0) {
+      System.arraycopy(buf, rowStart, newBuf, 0, rowLength);
+    }
+
+    if (index == chunkCount) {
+      if (chunkCount == chunks.length) {
+        byte[][] newChunks = new byte[chunkCount << 1][];
+        System.arraycopy(chunks, 0, newChunks, 0, chunkCount);
+        chunks = newChunks;
+      }
+      chunkCount++;
+    }
+    chunks[index] = newBuf;
+    chunkIndex = index;
+    buf = newBuf;
+    rowStart = 0;
+    pos = rowLength;
+  }
+
+  /**
+   * Indicate that bytes have been written at current position
+   *
+   * @param length written length
+   */
+  public void skip(int length) {
+    pos += length;
+  }
+
+  /**
+   * End row in progress
+   *
+   * @return row position
+   */
+  public long endRow() {
+    long position = ((long) chunkIndex << 32) | rowStart;
+    rowStart = pos;
+    return position;
+  }
+
+  /** Discard row in progress */
+  public void discardRow() {
+    pos = rowStart;
+  }
+
+  /**
+   * Append a row
+   *
+   * @param row row content
+   * @return row position
+   */
+  public long append(byte[] row) {
+    ensureCapacity(row.length);
+    System.arraycopy(row, 0, buf, pos, row.length);
+    pos += row.length;
+    return endRow();
+  }
+
+  /**
+   * Copy row content
+   *
+   * @param position row position
+   * @param length row length
+   * @return row content
+   */
+  public byte[] copy(long position, int length) {
+    byte[] row = new byte[length];
+    System.arraycopy(chunks[(int) (position >>> 32)], (int) position, row, 0, length);
+    return row;
+  }
+
+  /**
+   * Discard all stored rows, keeping chunks to be written over by next rows. Stored content must
+   * not be referenced anymore.
+   */
+  public void recycle() {
+    chunkIndex = -1;
+    buf = null;
+    pos = 0;
+    rowStart = 0;
+  }
+
+  /** Discard all stored rows, releasing chunks */
+  public void reset() {
+    for (int i = 0; i < chunkCount; i++) chunks[i] = null;
+    chunkCount = 0;
+    chunkIndex = -1;
+    nextChunkSize = MIN_CHUNK_SIZE;
+    buf = null;
+    pos = 0;
+    rowStart = 0;
+  }
+}
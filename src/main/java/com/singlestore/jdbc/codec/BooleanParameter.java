@@ -0,0 +1,43 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2021-2023 SingleStore, Inc.
+
+package com.singlestore.jdbc.codec;
+
+import com.singlestore.jdbc.client.Context;
+import com.singlestore.jdbc.client.socket.Writer;
+import com.singlestore.jdbc.plugin.codec.BooleanCodec;
+import java.io.IOException;
+
+/** Non-null boolean parameter, shared TRUE and FALSE instances */
+public class BooleanParameter extends PrimitiveParameter<Boolean> {
+
+  public static final BooleanParameter TRUE = new BooleanParameter(true);
+  public static final BooleanParameter FALSE = new BooleanParameter(false);
+
+  private final boolean value;
+
+  private BooleanParameter(boolean value) {
+    super(BooleanCodec.INSTANCE);
+    this.value = value;
+  }
+
+  @Override
+  protected Boolean value() {
+    return value;
+  }
+
+  @Override
+  public int getApproximateTextProtocolLength() {
+    return 1;
+  }
+
+  @Override
+  public void encodeText(Writer encoder, Context context) throws IOException {
+    encoder.writeByte(value ? '1' : '0');
+  }
+
+  @Override
+  public void encodeBinary(Writer encoder) throws IOException {
+    encoder.writeByte(value ? 1 : 0);
+  }
+}
@@ -0,0 +1,40 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2021-2023 SingleStore, Inc.
+
+package com.singlestore.jdbc.codec;
+
+import com.singlestore.jdbc.client.Context;
+import com.singlestore.jdbc.client.socket.Writer;
+import com.singlestore.jdbc.plugin.codec.ByteCodec;
+import java.io.IOException;
+
+/** Non-null byte parameter */
+public class ByteParameter extends PrimitiveParameter<Byte> {
+
+  private final byte value;
+
+  public ByteParameter(byte value) {
+    super(ByteCodec.INSTANCE);
+    this.value = value;
+  }
+
+  @Override
+  protected Byte value() {
+    return value;
+  }
+
+  @Override
+  public int getApproximateTextProtocolLength() {
+    return asciiLength(value);
+  }
+
+  @Override
+  public void encodeText(Writer encoder, Context context) throws IOException {
+    encoder.writeAscii(value);
+  }
+
+  @Override
+  public void encodeBinary(Writer encoder) throws IOException {
+    encoder.writeByte(value);
+  }
+}
@@ -0,0 +1,41 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2021-2023 SingleStore, Inc.
+
+package com.singlestore.jdbc.codec;
+
+import com.singlestore.jdbc.client.Context;
+import com.singlestore.jdbc.client.socket.Writer;
+import com.singlestore.jdbc.plugin.codec.DoubleCodec;
+import java.io.IOException;
+
+/** Non-null double parameter */
+public class DoubleParameter extends PrimitiveParameter<Double> {
+
+  private final double value;
+
+  public DoubleParameter(double value) {
+    super(DoubleCodec.INSTANCE);
+    this.value = value;
+  }
+
+  @Override
+  protected Double value() {
+    return value;
+  }
+
+  @Override
+  public int getApproximateTextProtocolLength() {
+    // upper bound of Double.toString length, like "-2.2250738585072014E-308"
+    return 24;
+  }
+
+  @Override
+  public void encodeText(Writer encoder, Context context) throws IOException {
+    encoder.writeAscii(Double.toString(value));
+  }
+
+  @Override
+  public void encodeBinary(Writer encoder) throws IOException {
+    encoder.writeDouble(value);
+  }
+}
@@ -0,0 +1,41 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2021-2023 SingleStore, Inc.
+
+package com.singlestore.jdbc.codec;
+
+import com.singlestore.jdbc.client.Context;
+import com.singlestore.jdbc.client.socket.Writer;
+import com.singlestore.jdbc.plugin.codec.FloatCodec;
+import java.io.IOException;
+
+/** Non-null float parameter */
+public class FloatParameter extends PrimitiveParameter<Float> {
+
+  private final float value;
+
+  public FloatParameter(float value) {
+    super(FloatCodec.INSTANCE);
+    this.value = value;
+  }
+
+  @Override
+  protected Float value() {
+    return value;
+  }
+
+  @Override
+  public int getApproximateTextProtocolLength() {
+    // upper bound of Float.toString length, like "-1.17549435E-38"
+    return 15;
+  }
+
+  @Override
+  public void encodeText(Writer encoder, Context context) throws IOException {
+    encoder.writeAscii(Float.toString(value));
+  }
+
+  @Override
+  public void encodeBinary(Writer encoder) throws IOException {
+    encoder.writeFloat(value);
+  }
+}
@@ -0,0 +1,40 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2021-2023 SingleStore, Inc.
+
+package com.singlestore.jdbc.codec;
+
+import com.singlestore.jdbc.client.Context;
+import com.singlestore.jdbc.client.socket.Writer;
+import com.singlestore.jdbc.plugin.codec.IntCodec;
+import java.io.IOException;
+
+/** Non-null int parameter */
+public class IntParameter extends PrimitiveParameter<Integer> {
+
+  private final int value;
+
+  public IntParameter(int value) {
+    super(IntCodec.INSTANCE);
+    this.value = value;
+  }
+
+  @Override
+  protected Integer value() {
+    return value;
+  }
+
+  @Override
+  public int getApproximateTextProtocolLength() {
+    return asciiLength(value);
+  }
+
+  @Override
+  public void encodeText(Writer encoder, Context context) throws IOException {
+    encoder.writeAscii(value);
+  }
+
+  @Override
+  public void encodeBinary(Writer encoder) throws IOException {
+    encoder.writeInt(value);
+  }
+}
@@ -0,0 +1,86 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2021-2023 SingleStore, Inc.
+
+package com.singlestore.jdbc.codec;
+
+import com.singlestore.jdbc.client.Context;
+import com.singlestore.jdbc.client.socket.Writer;
+import com.singlestore.jdbc.client.socket.impl.PacketWriter;
+import com.singlestore.jdbc.plugin.Codec;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+
+/**
+ * Parameter for primitive value, stored unboxed. Implementations encode value directly in text and
+ * binary format, other encodings use codec with boxed value.
+ *
+ * @param <T> boxed value type
+ */
+public abstract class PrimitiveParameter<T> implements com.singlestore.jdbc.client.util.Parameter {
+
+  protected final Codec<T> codec;
+
+  protected PrimitiveParameter(Codec<T> codec) {
+    this.codec = codec;
+  }
+
+  /**
+   * Boxed value
+   *
+   * @return value
+   */
+  protected abstract T value();
+
+  public void encodeLongData(Writer encoder) throws IOException, SQLException {
+    codec.encodeLongData(encoder, value(), null);
+  }
+
+  public byte[] encodeData() throws IOException, SQLException {
+    return codec.encodeData(value(), null);
+  }
+
+  @Override
+  public boolean canEncodeLongData() {
+    return false;
+  }
+
+  public int getBinaryEncodeType() {
+    return codec.getBinaryEncodeType();
+  }
+
+  /**
+   * Length of integer value in text protocol.
+   *
+   * @param value value
+   * @return number of digits, including sign
+   */
+  protected static int asciiLength(long value) {
+    if (value == Long.MIN_VALUE) return 20;
+    int length = 1;
+    if (value < 0) {
+      length++;
+      value = -value;
+    }
+    while (value >= 10) {
+      value /= 10;
+      length++;
+    }
+    return length;
+  }
+
+  public boolean isNull() {
+    return false;
+  }
+
+  @Override
+  public String bestEffortStringValue(Context context) {
+    try {
+      PacketWriter writer = new PacketWriter(null, 0, 0xffffff, null, null);
+      encodeText(writer, context);
+      return new String(writer.buf(), 4, writer.pos() - 4, StandardCharsets.US_ASCII);
+    } catch (Throwable t) {
+      return null;
+    }
+  }
+}
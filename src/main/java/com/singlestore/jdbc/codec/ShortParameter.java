@@ -0,0 +1,40 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2021-2023 SingleStore, Inc.
+
+package com.singlestore.jdbc.codec;
+
+import com.singlestore.jdbc.client.Context;
+import com.singlestore.jdbc.client.socket.Writer;
+import com.singlestore.jdbc.plugin.codec.ShortCodec;
+import java.io.IOException;
+
+/** Non-null short parameter */
+public class ShortParameter extends PrimitiveParameter<Short> {
+
+  private final short value;
+
+  public ShortParameter(short value) {
+    super(ShortCodec.INSTANCE);
+    this.value = value;
+  }
+
+  @Override
+  protected Short value() {
+    return value;
+  }
+
+  @Override
+  public int getApproximateTextProtocolLength() {
+    return asciiLength(value);
+  }
+
+  @Override
+  public void encodeText(Writer encoder, Context context) throws IOException {
+    encoder.writeAscii(value);
+  }
+
+  @Override
+  public void encodeBinary(Writer encoder) throws IOException {
+    encoder.writeShort(value);
+  }
+}
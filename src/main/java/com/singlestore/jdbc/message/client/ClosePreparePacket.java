@@ -33,4 +33,19 @@ public final class ClosePreparePacket implements ClientMessage {
     writer.flush();
     return 0;
   }
+
+  /**
+   * Write COM_STMT_CLOSE packet without flushing socket: packet is sent with next command. Server
+   * doesn't answer this command.
+   *
+   * @param writer socket writer
+   * @param statementId statement identifier
+   * @throws IOException if socket error occurs
+   */
+  public static void encodeDeferred(Writer writer, int statementId) throws IOException {
+    writer.initPacket();
+    writer.writeByte(0x19);
+    writer.writeInt(statementId);
+    writer.flushPipeline();
+  }
 }
@@ -24,6 +24,7 @@ import java.util.concurrent.locks.ReentrantLock;
 
 public final class PreparePacket implements ClientMessage {
   private final String sql;
+  private final boolean template;
 
   /**
    * Construct prepare packet
@@ -31,7 +32,18 @@ public final class PreparePacket implements ClientMessage {
    * @param sql sql command
    */
   public PreparePacket(String sql) {
+    this(sql, false);
+  }
+
+  /**
+   * Construct prepare packet
+   *
+   * @param sql sql command
+   * @param template multi-row batch template, cached whatever its length
+   */
+  public PreparePacket(String sql, boolean template) {
     this.sql = sql;
+    this.template = template;
   }
 
   /**
@@ -78,9 +90,11 @@ public final class PreparePacket implements ClientMessage {
           .withSql(this.description())
           .create(errorPacket.getMessage(), errorPacket.getSqlState(), errorPacket.getErrorCode());
     }
-    if (context.getConf().useServerPrepStmts()
-        && context.getConf().cachePrepStmts()
-        && sql.length() < 8192) {
+    // statements switched to server side prepare by prepareThreshold are cached as well
+    if (context.getConf().cachePrepStmts()
+        && (template
+            || ((context.getConf().useServerPrepStmts() || stmt instanceof ServerPreparedStatement)
+                && sql.length() < 8192))) {
       PrepareResultPacket prepare = new CachedPrepareResultPacket(buf, reader, context);
       PrepareResultPacket previousCached =
           (PrepareResultPacket)
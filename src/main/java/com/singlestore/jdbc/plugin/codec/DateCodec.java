@@ -10,6 +10,7 @@ import com.singlestore.jdbc.client.Context;
 import com.singlestore.jdbc.client.DataType;
 import com.singlestore.jdbc.client.ReadableByteBuf;
 import com.singlestore.jdbc.client.socket.Writer;
+import com.singlestore.jdbc.client.util.DateTimeConverter;
 import com.singlestore.jdbc.client.util.MutableInt;
 import com.singlestore.jdbc.plugin.Codec;
 import java.io.IOException;
@@ -75,25 +76,38 @@ public class DateCodec implements Codec<Date> {
   public void encodeText(
       Writer encoder, Context context, Object val, Calendar providedCal, Long maxLen)
       throws IOException {
-    Calendar cal = providedCal == null ? Calendar.getInstance() : providedCal;
-    SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd");
-    sdf.setTimeZone(cal.getTimeZone());
-    String dateString = sdf.format(val);
-
+    int date =
+        DateTimeConverter.localDate(
+            DateTimeConverter.localMillis(providedCal, ((java.util.Date) val).getTime()));
     encoder.writeByte('\'');
-    encoder.writeAscii(dateString);
+    if (date != -1) {
+      DateTimeConverter.writeDate(encoder, date / 10000, date / 100 % 100, date % 100);
+    } else {
+      Calendar cal = providedCal == null ? Calendar.getInstance() : providedCal;
+      SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd");
+      sdf.setTimeZone(cal.getTimeZone());
+      encoder.writeAscii(sdf.format(val));
+    }
     encoder.writeByte('\'');
   }
 
   @Override
   public void encodeBinary(Writer encoder, Object value, Calendar providedCal, Long maxLength)
       throws IOException {
-    Calendar cal = providedCal == null ? Calendar.getInstance() : providedCal;
-    cal.setTimeInMillis(((java.util.Date) value).getTime());
+    long epochMillis = ((java.util.Date) value).getTime();
+    int date = DateTimeConverter.localDate(DateTimeConverter.localMillis(providedCal, epochMillis));
+    if (date == -1) {
+      Calendar cal = providedCal == null ? Calendar.getInstance() : providedCal;
+      cal.setTimeInMillis(epochMillis);
+      date =
+          cal.get(Calendar.YEAR) * 10000
+              + (cal.get(Calendar.MONTH) + 1) * 100
+              + cal.get(Calendar.DAY_OF_MONTH);
+    }
     encoder.writeByte(4); // length
-    encoder.writeShort((short) cal.get(Calendar.YEAR));
-    encoder.writeByte(((cal.get(Calendar.MONTH) + 1) & 0xff));
-    encoder.writeByte((cal.get(Calendar.DAY_OF_MONTH) & 0xff));
+    encoder.writeShort((short) (date / 10000));
+    encoder.writeByte(date / 100 % 100);
+    encoder.writeByte(date % 100);
   }
 
   public int getBinaryEncodeType() {
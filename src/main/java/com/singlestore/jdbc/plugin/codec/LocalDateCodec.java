@@ -10,6 +10,7 @@ import com.singlestore.jdbc.client.Context;
 import com.singlestore.jdbc.client.DataType;
 import com.singlestore.jdbc.client.ReadableByteBuf;
 import com.singlestore.jdbc.client.socket.Writer;
+import com.singlestore.jdbc.client.util.DateTimeConverter;
 import com.singlestore.jdbc.client.util.MutableInt;
 import com.singlestore.jdbc.plugin.Codec;
 import java.io.IOException;
@@ -233,8 +234,14 @@ public class LocalDateCodec implements Codec<LocalDate> {
   @Override
   public void encodeText(Writer encoder, Context context, Object val, Calendar cal, Long maxLen)
       throws IOException {
+    LocalDate date = (LocalDate) val;
     encoder.writeByte('\'');
-    encoder.writeAscii(((LocalDate) val).format(DateTimeFormatter.ISO_LOCAL_DATE));
+    if (date.getYear() >= 0 && date.getYear() <= 9999) {
+      DateTimeConverter.writeDate(
+          encoder, date.getYear(), date.getMonthValue(), date.getDayOfMonth());
+    } else {
+      encoder.writeAscii(date.format(DateTimeFormatter.ISO_LOCAL_DATE));
+    }
     encoder.writeByte('\'');
   }
 
@@ -10,6 +10,7 @@ import com.singlestore.jdbc.client.Context;
 import com.singlestore.jdbc.client.DataType;
 import com.singlestore.jdbc.client.ReadableByteBuf;
 import com.singlestore.jdbc.client.socket.Writer;
+import com.singlestore.jdbc.client.util.DateTimeConverter;
 import com.singlestore.jdbc.client.util.MutableInt;
 import com.singlestore.jdbc.plugin.Codec;
 import java.io.IOException;
@@ -277,13 +278,35 @@ public class LocalDateTimeCodec implements Codec<LocalDateTime> {
   @Override
   public void encodeText(Writer encoder, Context context, Object value, Calendar cal, Long maxLen)
       throws IOException {
-    LocalDateTime val = (LocalDateTime) value;
     encoder.writeByte('\'');
-    encoder.writeAscii(
-        val.format(val.getNano() != 0 ? TIMESTAMP_FORMAT : TIMESTAMP_FORMAT_NO_FRACTIONAL));
+    writeLocalDateTime(encoder, (LocalDateTime) value);
     encoder.writeByte('\'');
   }
 
+  /**
+   * Write local date-time as yyyy-MM-dd HH:mm:ss, with microseconds if nanoseconds are not 0.
+   *
+   * @param encoder writer
+   * @param val local date-time
+   * @throws IOException if socket error occurs
+   */
+  public static void writeLocalDateTime(Writer encoder, LocalDateTime val) throws IOException {
+    int year = val.getYear();
+    if (year < 1 || year > 9999) {
+      // era and sign handling
+      encoder.writeAscii(
+          val.format(val.getNano() != 0 ? TIMESTAMP_FORMAT : TIMESTAMP_FORMAT_NO_FRACTIONAL));
+      return;
+    }
+    DateTimeConverter.writeDate(encoder, year, val.getMonthValue(), val.getDayOfMonth());
+    encoder.writeByte(' ');
+    DateTimeConverter.writeTime(encoder, val.getHour(), val.getMinute(), val.getSecond());
+    if (val.getNano() != 0) {
+      encoder.writeByte('.');
+      DateTimeConverter.writeDigits(encoder, val.getNano() / 1000, 6);
+    }
+  }
+
   @Override
   public void encodeBinary(Writer encoder, Object value, Calendar cal, Long maxLength)
       throws IOException {
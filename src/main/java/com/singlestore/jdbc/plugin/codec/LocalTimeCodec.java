@@ -10,6 +10,7 @@ import com.singlestore.jdbc.client.Context;
 import com.singlestore.jdbc.client.DataType;
 import com.singlestore.jdbc.client.ReadableByteBuf;
 import com.singlestore.jdbc.client.socket.Writer;
+import com.singlestore.jdbc.client.util.DateTimeConverter;
 import com.singlestore.jdbc.client.util.MutableInt;
 import com.singlestore.jdbc.plugin.Codec;
 import java.io.IOException;
@@ -22,7 +23,6 @@ import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoField;
 import java.util.Calendar;
 import java.util.EnumSet;
-import java.util.TimeZone;
 
 public class LocalTimeCodec implements Codec<LocalTime> {
 
@@ -146,8 +146,7 @@ public class LocalTimeCodec implements Codec<LocalTime> {
         String val = buf.readString(length.get());
         try {
           if (val.contains(" ")) {
-            ZoneId tz =
-                cal != null ? cal.getTimeZone().toZoneId() : TimeZone.getDefault().toZoneId();
+            ZoneId tz = DateTimeConverter.zoneId(cal);
             return LocalDateTime.parse(
                     val, LocalDateTimeCodec.SINGLESTORE_LOCAL_DATE_TIME.withZone(tz))
                 .toLocalTime();
@@ -230,8 +229,7 @@ public class LocalTimeCodec implements Codec<LocalTime> {
         String val = buf.readString(length.get());
         try {
           if (val.contains(" ")) {
-            ZoneId tz =
-                cal != null ? cal.getTimeZone().toZoneId() : TimeZone.getDefault().toZoneId();
+            ZoneId tz = DateTimeConverter.zoneId(cal);
             return LocalDateTime.parse(
                     val, LocalDateTimeCodec.SINGLESTORE_LOCAL_DATE_TIME.withZone(tz))
                 .toLocalTime();
@@ -255,27 +253,18 @@ public class LocalTimeCodec implements Codec<LocalTime> {
   public void encodeText(Writer encoder, Context context, Object value, Calendar cal, Long maxLen)
       throws IOException {
     LocalTime val = (LocalTime) value;
-    StringBuilder dateString = new StringBuilder(15);
-    dateString
-        .append(val.getHour() < 10 ? "0" : "")
-        .append(val.getHour())
-        .append(val.getMinute() < 10 ? ":0" : ":")
-        .append(val.getMinute())
-        .append(val.getSecond() < 10 ? ":0" : ":")
-        .append(val.getSecond());
+    encoder.writeByte('\'');
+    DateTimeConverter.writeTime(encoder, val.getHour(), val.getMinute(), val.getSecond());
 
     int microseconds = val.getNano() / 1000;
     if (microseconds > 0) {
-      dateString.append(".");
+      encoder.writeByte('.');
       if (microseconds % 1000 == 0) {
-        dateString.append(Integer.toString(microseconds / 1000 + 1000).substring(1));
+        DateTimeConverter.writeDigits(encoder, microseconds / 1000, 3);
       } else {
-        dateString.append(Integer.toString(microseconds + 1000000).substring(1));
+        DateTimeConverter.writeDigits(encoder, microseconds, 6);
       }
     }
-
-    encoder.writeByte('\'');
-    encoder.writeAscii(dateString.toString());
     encoder.writeByte('\'');
   }
 
@@ -10,6 +10,7 @@ import com.singlestore.jdbc.client.Context;
 import com.singlestore.jdbc.client.DataType;
 import com.singlestore.jdbc.client.ReadableByteBuf;
 import com.singlestore.jdbc.client.socket.Writer;
+import com.singlestore.jdbc.client.util.DateTimeConverter;
 import com.singlestore.jdbc.client.util.MutableInt;
 import com.singlestore.jdbc.plugin.Codec;
 import java.io.IOException;
@@ -76,8 +77,7 @@ public class OffsetDateTimeCodec implements Codec<OffsetDateTime> {
         if (localDateTime == null) {
           return null;
         }
-        Calendar cal = calParam == null ? Calendar.getInstance() : calParam;
-        return localDateTime.atZone(cal.getTimeZone().toZoneId()).toOffsetDateTime();
+        return localDateTime.atZone(DateTimeConverter.zoneId(calParam)).toOffsetDateTime();
       case VARCHAR:
       case CHAR:
         String val = buf.readString(length.get());
@@ -113,8 +113,7 @@ public class OffsetDateTimeCodec implements Codec<OffsetDateTime> {
         if (localDateTime == null) {
           return null;
         }
-        Calendar cal = calParam == null ? Calendar.getInstance() : calParam;
-        return localDateTime.atZone(cal.getTimeZone().toZoneId()).toOffsetDateTime();
+        return localDateTime.atZone(DateTimeConverter.zoneId(calParam)).toOffsetDateTime();
       case VARCHAR:
       case CHAR:
         String val = buf.readString(length.get());
@@ -140,14 +139,9 @@ public class OffsetDateTimeCodec implements Codec<OffsetDateTime> {
       Writer encoder, Context context, Object val, Calendar calParam, Long length)
       throws IOException {
     OffsetDateTime zdt = (OffsetDateTime) val;
-    Calendar cal = calParam == null ? Calendar.getInstance() : calParam;
     encoder.writeByte('\'');
-    encoder.writeAscii(
-        zdt.atZoneSameInstant(cal.getTimeZone().toZoneId())
-            .format(
-                zdt.getNano() != 0
-                    ? LocalDateTimeCodec.TIMESTAMP_FORMAT
-                    : LocalDateTimeCodec.TIMESTAMP_FORMAT_NO_FRACTIONAL));
+    LocalDateTimeCodec.writeLocalDateTime(
+        encoder, zdt.atZoneSameInstant(DateTimeConverter.zoneId(calParam)).toLocalDateTime());
     encoder.writeByte('\'');
   }
 
@@ -155,8 +149,7 @@ public class OffsetDateTimeCodec implements Codec<OffsetDateTime> {
   public void encodeBinary(Writer encoder, Object value, Calendar calParam, Long length)
       throws IOException {
     OffsetDateTime zdt = (OffsetDateTime) value;
-    Calendar cal = calParam == null ? Calendar.getInstance() : calParam;
-    ZonedDateTime convertedZdt = zdt.atZoneSameInstant(cal.getTimeZone().toZoneId());
+    ZonedDateTime convertedZdt = zdt.atZoneSameInstant(DateTimeConverter.zoneId(calParam));
     int nano = convertedZdt.getNano();
     if (nano > 0) {
       encoder.writeByte((byte) 11);
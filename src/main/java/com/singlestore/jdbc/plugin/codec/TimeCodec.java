@@ -10,13 +10,13 @@ import com.singlestore.jdbc.client.Context;
 import com.singlestore.jdbc.client.DataType;
 import com.singlestore.jdbc.client.ReadableByteBuf;
 import com.singlestore.jdbc.client.socket.Writer;
+import com.singlestore.jdbc.client.util.DateTimeConverter;
 import com.singlestore.jdbc.client.util.MutableInt;
 import com.singlestore.jdbc.plugin.Codec;
 import java.io.IOException;
 import java.sql.SQLDataException;
 import java.sql.SQLException;
 import java.sql.Time;
-import java.text.SimpleDateFormat;
 import java.time.LocalDate;
 import java.util.Calendar;
 import java.util.EnumSet;
@@ -75,37 +75,30 @@ public class TimeCodec implements Codec<Time> {
   public void encodeText(
       Writer encoder, Context context, Object val, Calendar providedCal, Long maxLen)
       throws IOException {
-    Calendar cal = providedCal == null ? Calendar.getInstance() : providedCal;
-    SimpleDateFormat sdf = new SimpleDateFormat("HH:mm:ss.SSS");
-    sdf.setTimeZone(cal.getTimeZone());
-    String dateString = sdf.format(val);
-
+    long localMillis = DateTimeConverter.localMillis(providedCal, ((Time) val).getTime());
+    int secondOfDay = DateTimeConverter.localSecondOfDay(localMillis);
     encoder.writeByte('\'');
-    encoder.writeAscii(dateString);
+    DateTimeConverter.writeTime(
+        encoder, secondOfDay / 3600, secondOfDay / 60 % 60, secondOfDay % 60);
+    encoder.writeByte('.');
+    DateTimeConverter.writeDigits(encoder, (int) Math.floorMod(localMillis, 1000L), 3);
     encoder.writeByte('\'');
   }
 
   @Override
   public void encodeBinary(Writer encoder, Object value, Calendar providedCal, Long maxLength)
       throws IOException {
-    Calendar cal = providedCal == null ? Calendar.getInstance() : providedCal;
-    cal.setTime((Time) value);
-    cal.set(Calendar.DAY_OF_MONTH, 1);
-    if (cal.get(Calendar.MILLISECOND) > 0) {
-      encoder.writeByte((byte) 12);
-      encoder.writeByte((byte) 0);
-      encoder.writeInt(0);
-      encoder.writeByte((byte) cal.get(Calendar.HOUR_OF_DAY));
-      encoder.writeByte((byte) cal.get(Calendar.MINUTE));
-      encoder.writeByte((byte) cal.get(Calendar.SECOND));
-      encoder.writeInt(cal.get(Calendar.MILLISECOND) * 1000);
-    } else {
-      encoder.writeByte((byte) 8); // length
-      encoder.writeByte((byte) 0);
-      encoder.writeInt(0);
-      encoder.writeByte((byte) cal.get(Calendar.HOUR_OF_DAY));
-      encoder.writeByte((byte) cal.get(Calendar.MINUTE));
-      encoder.writeByte((byte) cal.get(Calendar.SECOND));
+    long localMillis = DateTimeConverter.localMillis(providedCal, ((Time) value).getTime());
+    int secondOfDay = DateTimeConverter.localSecondOfDay(localMillis);
+    int millis = (int) Math.floorMod(localMillis, 1000L);
+    encoder.writeByte((byte) (millis > 0 ? 12 : 8)); // length
+    encoder.writeByte((byte) 0);
+    encoder.writeInt(0);
+    encoder.writeByte((byte) (secondOfDay / 3600));
+    encoder.writeByte((byte) (secondOfDay / 60 % 60));
+    encoder.writeByte((byte) (secondOfDay % 60));
+    if (millis > 0) {
+      encoder.writeInt(millis * 1000);
     }
   }
 
@@ -10,6 +10,7 @@ import com.singlestore.jdbc.client.Context;
 import com.singlestore.jdbc.client.DataType;
 import com.singlestore.jdbc.client.ReadableByteBuf;
 import com.singlestore.jdbc.client.socket.Writer;
+import com.singlestore.jdbc.client.util.DateTimeConverter;
 import com.singlestore.jdbc.client.util.MutableInt;
 import com.singlestore.jdbc.plugin.Codec;
 import java.io.IOException;
@@ -77,20 +78,30 @@ public class TimestampCodec implements Codec<Timestamp> {
       Writer encoder, Context context, Object val, Calendar providedCal, Long maxLen)
       throws IOException {
     Timestamp ts = (Timestamp) val;
-    Calendar cal = providedCal == null ? Calendar.getInstance() : providedCal;
-    SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
-    sdf.setTimeZone(cal.getTimeZone());
-    String dateString = sdf.format(ts);
+    long localMillis = DateTimeConverter.localMillis(providedCal, ts.getTime());
+    int date = DateTimeConverter.localDate(localMillis);
 
     encoder.writeByte('\'');
-    encoder.writeAscii(dateString);
+    if (date != -1) {
+      int secondOfDay = DateTimeConverter.localSecondOfDay(localMillis);
+      DateTimeConverter.writeDate(encoder, date / 10000, date / 100 % 100, date % 100);
+      encoder.writeByte(' ');
+      DateTimeConverter.writeTime(
+          encoder, secondOfDay / 3600, secondOfDay / 60 % 60, secondOfDay % 60);
+    } else {
+      Calendar cal = providedCal == null ? Calendar.getInstance() : providedCal;
+      SimpleDateFormat sdf = new SimpleDateFormat("yyyy-MM-dd HH:mm:ss");
+      sdf.setTimeZone(cal.getTimeZone());
+      encoder.writeAscii(sdf.format(ts));
+    }
 
     int microseconds = ts.getNanos() / 1000;
     if (microseconds > 0) {
+      encoder.writeByte('.');
       if (microseconds % 1000 == 0) {
-        encoder.writeAscii("." + Integer.toString(microseconds / 1000 + 1000).substring(1));
+        DateTimeConverter.writeDigits(encoder, microseconds / 1000, 3);
       } else {
-        encoder.writeAscii("." + Integer.toString(microseconds + 1000000).substring(1));
+        DateTimeConverter.writeDigits(encoder, microseconds, 6);
       }
     }
 
@@ -101,25 +112,37 @@ public class TimestampCodec implements Codec<Timestamp> {
   public void encodeBinary(Writer encoder, Object value, Calendar providedCal, Long maxLength)
       throws IOException {
     Timestamp ts = (Timestamp) value;
-    Calendar cal = providedCal == null ? Calendar.getInstance() : providedCal;
-    cal.setTimeInMillis(ts.getTime());
-
-    if (ts.getNanos() == 0) {
-      encoder.writeByte(7); // length
-      encoder.writeShort((short) cal.get(Calendar.YEAR));
-      encoder.writeByte((cal.get(Calendar.MONTH) + 1));
-      encoder.writeByte(cal.get(Calendar.DAY_OF_MONTH));
-      encoder.writeByte(cal.get(Calendar.HOUR_OF_DAY));
-      encoder.writeByte(cal.get(Calendar.MINUTE));
-      encoder.writeByte(cal.get(Calendar.SECOND));
+    long localMillis = DateTimeConverter.localMillis(providedCal, ts.getTime());
+    int date = DateTimeConverter.localDate(localMillis);
+    int year;
+    int month;
+    int dayOfMonth;
+    int secondOfDay;
+    if (date != -1) {
+      year = date / 10000;
+      month = date / 100 % 100;
+      dayOfMonth = date % 100;
+      secondOfDay = DateTimeConverter.localSecondOfDay(localMillis);
     } else {
-      encoder.writeByte(11); // length
-      encoder.writeShort((short) cal.get(Calendar.YEAR));
-      encoder.writeByte((cal.get(Calendar.MONTH) + 1));
-      encoder.writeByte(cal.get(Calendar.DAY_OF_MONTH));
-      encoder.writeByte(cal.get(Calendar.HOUR_OF_DAY));
-      encoder.writeByte(cal.get(Calendar.MINUTE));
-      encoder.writeByte(cal.get(Calendar.SECOND));
+      Calendar cal = providedCal == null ? Calendar.getInstance() : providedCal;
+      cal.setTimeInMillis(ts.getTime());
+      year = cal.get(Calendar.YEAR);
+      month = cal.get(Calendar.MONTH) + 1;
+      dayOfMonth = cal.get(Calendar.DAY_OF_MONTH);
+      secondOfDay =
+          cal.get(Calendar.HOUR_OF_DAY) * 3600
+              + cal.get(Calendar.MINUTE) * 60
+              + cal.get(Calendar.SECOND);
+    }
+
+    encoder.writeByte(ts.getNanos() == 0 ? 7 : 11); // length
+    encoder.writeShort((short) year);
+    encoder.writeByte(month);
+    encoder.writeByte(dayOfMonth);
+    encoder.writeByte(secondOfDay / 3600);
+    encoder.writeByte(secondOfDay / 60 % 60);
+    encoder.writeByte(secondOfDay % 60);
+    if (ts.getNanos() != 0) {
       encoder.writeInt(ts.getNanos() / 1000);
     }
   }
@@ -10,6 +10,7 @@ import com.singlestore.jdbc.client.Context;
 import com.singlestore.jdbc.client.DataType;
 import com.singlestore.jdbc.client.ReadableByteBuf;
 import com.singlestore.jdbc.client.socket.Writer;
+import com.singlestore.jdbc.client.util.DateTimeConverter;
 import com.singlestore.jdbc.client.util.MutableInt;
 import com.singlestore.jdbc.plugin.Codec;
 import java.io.IOException;
@@ -64,8 +65,7 @@ public class ZonedDateTimeCodec implements Codec<ZonedDateTime> {
     LocalDateTime localDateTime =
         LocalDateTimeCodec.INSTANCE.decodeText(buf, length, column, calParam);
     if (localDateTime == null) return null;
-    Calendar cal = calParam == null ? Calendar.getInstance() : calParam;
-    return localDateTime.atZone(cal.getTimeZone().toZoneId());
+    return localDateTime.atZone(DateTimeConverter.zoneId(calParam));
   }
 
   @Override
@@ -75,8 +75,7 @@ public class ZonedDateTimeCodec implements Codec<ZonedDateTime> {
     LocalDateTime localDateTime =
         LocalDateTimeCodec.INSTANCE.decodeBinary(buf, length, column, calParam);
     if (localDateTime == null) return null;
-    Calendar cal = calParam == null ? Calendar.getInstance() : calParam;
-    return localDateTime.atZone(cal.getTimeZone().toZoneId());
+    return localDateTime.atZone(DateTimeConverter.zoneId(calParam));
   }
 
   @Override
@@ -84,14 +83,9 @@ public class ZonedDateTimeCodec implements Codec<ZonedDateTime> {
       Writer encoder, Context context, Object val, Calendar calParam, Long maxLen)
       throws IOException {
     ZonedDateTime zdt = (ZonedDateTime) val;
-    Calendar cal = calParam == null ? Calendar.getInstance() : calParam;
     encoder.writeByte('\'');
-    encoder.writeAscii(
-        zdt.withZoneSameInstant(cal.getTimeZone().toZoneId())
-            .format(
-                zdt.getNano() != 0
-                    ? LocalDateTimeCodec.TIMESTAMP_FORMAT
-                    : LocalDateTimeCodec.TIMESTAMP_FORMAT_NO_FRACTIONAL));
+    LocalDateTimeCodec.writeLocalDateTime(
+        encoder, zdt.withZoneSameInstant(DateTimeConverter.zoneId(calParam)).toLocalDateTime());
     encoder.writeByte('\'');
   }
 
@@ -99,8 +93,7 @@ public class ZonedDateTimeCodec implements Codec<ZonedDateTime> {
   public void encodeBinary(Writer encoder, Object value, Calendar calParam, Long maxLength)
       throws IOException {
     ZonedDateTime zdt = (ZonedDateTime) value;
-    Calendar cal = calParam == null ? Calendar.getInstance() : calParam;
-    ZonedDateTime convertedZdt = zdt.withZoneSameInstant(cal.getTimeZone().toZoneId());
+    ZonedDateTime convertedZdt = zdt.withZoneSameInstant(DateTimeConverter.zoneId(calParam));
     int nano = convertedZdt.getNano();
     if (nano > 0) {
       encoder.writeByte((byte) 11);
@@ -0,0 +1,227 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2021-2023 SingleStore, Inc.
+
+package com.singlestore.jdbc.pool;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Pool connection container, without lock on borrow and return.
+ *
+ * <p>Each entry holds its own state, changed by compare-and-set: borrowing an entry is winning the
+ * NOT_IN_USE to IN_USE transition. Borrowing first tries the last entries returned by the same
+ * thread (kept as weak references in a thread local list), then scans the shared entry list, then
+ * waits for an entry handed off directly by a thread returning one. Returning an entry hands it to
+ * a waiting thread if any, or adds it to the returning thread local list.
+ *
+ * @param <T> entry type
+ */
+public final class ConnectionBag<T extends ConnectionBag.Entry> {
+
+  /** entry is idle */
+  public static final int NOT_IN_USE = 0;
+
+  /** entry is borrowed */
+  public static final int IN_USE = 1;
+
+  /** entry has been removed from bag */
+  public static final int REMOVED = -1;
+
+  /** entry is idle, but reserved by pool maintenance, and cannot be borrowed */
+  public static final int RESERVED = -2;
+
+  private static final int MAX_THREAD_ENTRIES = 16;
+
+  private final CopyOnWriteArrayList<T> sharedList = new CopyOnWriteArrayList<>();
+  private final ThreadLocal<List<WeakReference<T>>> threadList =
+      ThreadLocal.withInitial(() -> new ArrayList<>(MAX_THREAD_ENTRIES));
+  private final SynchronousQueue<T> handoffQueue = new SynchronousQueue<>(true);
+  private final AtomicInteger waiters = new AtomicInteger();
+
+  /**
+   * Borrow an idle entry, waiting up to timeout for one to be returned or added.
+   *
+   * @param timeout maximum waiting time, 0 to not wait
+   * @param timeUnit timeout unit
+   * @return borrowed entry, or null if none became available in time
+   * @throws InterruptedException if interrupted while waiting
+   */
+  public T borrow(long timeout, TimeUnit timeUnit) throws InterruptedException {
+    // entries recently returned by this thread
+    List<WeakReference<T>> list = threadList.get();
+    for (int i = list.size() - 1; i >= 0; i--) {
+      T entry = list.remove(i).get();
+      if (entry != null && entry.compareAndSetState(NOT_IN_USE, IN_USE)) {
+        return entry;
+      }
+    }
+
+    waiters.incrementAndGet();
+    try {
+      for (T entry : sharedList) {
+        if (entry.compareAndSetState(NOT_IN_USE, IN_USE)) {
+          return entry;
+        }
+      }
+
+      long remaining = timeUnit.toNanos(timeout);
+      do {
+        long start = System.nanoTime();
+        T entry = handoffQueue.poll(remaining, TimeUnit.NANOSECONDS);
+        if (entry == null || entry.compareAndSetState(NOT_IN_USE, IN_USE)) {
+          return entry;
+        }
+        remaining -= System.nanoTime() - start;
+      } while (remaining > 10_000);
+      return null;
+    } finally {
+      waiters.decrementAndGet();
+    }
+  }
+
+  /**
+   * Return a borrowed (or reserved) entry.
+   *
+   * @param entry entry
+   */
+  public void requite(T entry) {
+    entry.setState(NOT_IN_USE);
+    for (int i = 0; waiters.get() > 0; i++) {
+      if (entry.getState() != NOT_IN_USE || handoffQueue.offer(entry)) {
+        return;
+      } else if ((i & 0xff) == 0xff) {
+        LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(10));
+      } else {
+        Thread.yield();
+      }
+    }
+    List<WeakReference<T>> list = threadList.get();
+    if (list.size() < MAX_THREAD_ENTRIES) {
+      list.add(new WeakReference<>(entry));
+    }
+  }
+
+  /**
+   * Add a new idle entry.
+   *
+   * @param entry entry
+   */
+  public void add(T entry) {
+    entry.setState(NOT_IN_USE);
+    sharedList.add(entry);
+    // give entry to a waiting thread if any
+    while (waiters.get() > 0 && entry.getState() == NOT_IN_USE && !handoffQueue.offer(entry)) {
+      Thread.yield();
+    }
+  }
+
+  /**
+   * Remove entry from bag.
+   *
+   * @param entry entry
+   * @return true if removed, false if already removed
+   */
+  public boolean remove(T entry) {
+    int state;
+    do {
+      state = entry.getState();
+      if (state == REMOVED) return false;
+    } while (!entry.compareAndSetState(state, REMOVED));
+    sharedList.remove(entry);
+    return true;
+  }
+
+  /**
+   * Reserve an idle entry, so it cannot be borrowed.
+   *
+   * @param entry entry
+   * @return true if reserved, false if entry was not idle
+   */
+  public boolean reserve(T entry) {
+    return entry.compareAndSetState(NOT_IN_USE, RESERVED);
+  }
+
+  /**
+   * Make a reserved entry idle again.
+   *
+   * @param entry reserved entry
+   */
+  public void unreserve(T entry) {
+    if (entry.compareAndSetState(RESERVED, NOT_IN_USE)) {
+      // give entry to a waiting thread if any
+      while (waiters.get() > 0 && entry.getState() == NOT_IN_USE && !handoffQueue.offer(entry)) {
+        Thread.yield();
+      }
+    }
+  }
+
+  /**
+   * Entries currently in a state.
+   *
+   * @param state state
+   * @return entries
+   */
+  public List<T> values(int state) {
+    List<T> values = new ArrayList<>();
+    for (T entry : sharedList) {
+      if (entry.getState() == state) values.add(entry);
+    }
+    return values;
+  }
+
+  /**
+   * Number of entries currently in a state.
+   *
+   * @param state state
+   * @return entry number
+   */
+  public int getCount(int state) {
+    int count = 0;
+    for (T entry : sharedList) {
+      if (entry.getState() == state) count++;
+    }
+    return count;
+  }
+
+  /**
+   * Number of threads waiting for an entry.
+   *
+   * @return waiting thread number
+   */
+  public int getWaiters() {
+    return waiters.get();
+  }
+
+  /** Bag entry */
+  public interface Entry {
+    /**
+     * Current state
+     *
+     * @return state
+     */
+    int getState();
+
+    /**
+     * Set state
+     *
+     * @param state new state
+     */
+    void setState(int state);
+
+    /**
+     * Set state if current state is the expected one
+     *
+     * @param expect expected state
+     * @param update new state
+     * @return true if changed
+     */
+    boolean compareAndSetState(int expect, int update);
+  }
+}
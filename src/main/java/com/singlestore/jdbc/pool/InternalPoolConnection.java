@@ -7,10 +7,15 @@ package com.singlestore.jdbc.pool;
 
 import com.singlestore.jdbc.Connection;
 import com.singlestore.jdbc.SingleStorePoolConnection;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
-public class InternalPoolConnection extends SingleStorePoolConnection {
+public class InternalPoolConnection extends SingleStorePoolConnection
+    implements ConnectionBag.Entry {
   private final AtomicLong lastUsed;
+  private final AtomicLong lastValidated = new AtomicLong();
+  private final AtomicInteger state = new AtomicInteger(ConnectionBag.NOT_IN_USE);
+  private final Pool pool;
   private boolean failed;
 
   /**
@@ -19,10 +24,30 @@ public class InternalPoolConnection extends SingleStorePoolConnection {
    * @param connection connection to retrieve connection options
    */
   public InternalPoolConnection(Connection connection) {
+    this(connection, null);
+  }
+
+  /**
+   * Constructor.
+   *
+   * @param connection connection to retrieve connection options
+   * @param pool pool this connection belongs to, null for a dedicated connection
+   */
+  public InternalPoolConnection(Connection connection, Pool pool) {
     super(connection);
+    this.pool = pool;
     lastUsed = new AtomicLong(System.nanoTime());
   }
 
+  /**
+   * Pool this connection belongs to.
+   *
+   * @return pool, or null for a dedicated connection
+   */
+  public Pool getPool() {
+    return pool;
+  }
+
   /**
    * Indicate last time this pool connection has been used.
    *
@@ -45,8 +70,38 @@ public class InternalPoolConnection extends SingleStorePoolConnection {
     this.failed = failed;
   }
 
+  /**
+   * Indicate last time this pool connection has been validated by pool background validation.
+   *
+   * @return last validation time (nano), 0 if never validated.
+   */
+  public AtomicLong getLastValidated() {
+    return lastValidated;
+  }
+
+  /** Set last background validation to now. */
+  public void lastValidatedToNow() {
+    lastValidated.set(System.nanoTime());
+  }
+
   /** Reset last used time, to ensure next retrieval will validate connection before borrowing */
   public void ensureValidation() {
     lastUsed.set(0L);
+    lastValidated.set(0L);
+  }
+
+  @Override
+  public int getState() {
+    return state.get();
+  }
+
+  @Override
+  public void setState(int state) {
+    this.state.set(state);
+  }
+
+  @Override
+  public boolean compareAndSetState(int expect, int update) {
+    return state.compareAndSet(expect, update);
   }
 }
@@ -16,19 +16,20 @@ import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.text.NumberFormat;
 import java.util.ArrayList;
-import java.util.Collection;
-import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
-import java.util.concurrent.LinkedBlockingDeque;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import javax.management.MBeanServer;
 import javax.management.ObjectName;
 import javax.sql.ConnectionEvent;
@@ -40,19 +41,34 @@ public class Pool implements AutoCloseable, PoolMBean {
   private static final int POOL_STATE_OK = 0;
   private static final int POOL_STATE_CLOSING = 1;
 
+  /** first delay before creating a connection after a creation failure */
+  private static final long MIN_CREATION_BACKOFF = TimeUnit.MILLISECONDS.toNanos(100);
+
+  /** maximum delay before creating a connection after consecutive creation failures */
+  private static final long MAX_CREATION_BACKOFF = TimeUnit.SECONDS.toNanos(5);
+
   private final AtomicInteger poolState = new AtomicInteger();
 
   private final Configuration conf;
   private final AtomicInteger pendingRequestNumber = new AtomicInteger();
   private final AtomicInteger totalConnection = new AtomicInteger();
 
-  private final LinkedBlockingDeque<InternalPoolConnection> idleConnections;
+  private final ConnectionBag<InternalPoolConnection> connections = new ConnectionBag<>();
   private final ThreadPoolExecutor connectionAppender;
   private final BlockingQueue<Runnable> connectionAppenderQueue;
+  private final int createConcurrency;
+  private final ThreadPoolExecutor connectionResetter;
+  private final ThreadPoolExecutor connectionValidator;
+  private final AtomicInteger creationFailures = new AtomicInteger();
+  private final AtomicLong nextCreationTime = new AtomicLong(System.nanoTime());
 
   private final String poolTag;
   private final ScheduledThreadPoolExecutor poolExecutor;
   private final ScheduledFuture<?> scheduledFuture;
+  private final ScheduledFuture<?> keepAliveFuture;
+  private final ScheduledFuture<?> sizerFuture;
+  private final PoolSizer sizer;
+  private long lastSizerTick = System.nanoTime();
   private int waitTimeout;
 
   /**
@@ -68,21 +84,37 @@ public class Pool implements AutoCloseable, PoolMBean {
     this.conf = conf;
     poolTag = generatePoolTag(poolIndex);
 
-    // one thread to add new connection to pool.
+    // threads to add new connection to pool (option poolCreateConcurrency, 1 by default).
+    createConcurrency = Math.max(1, Math.min(conf.poolCreateConcurrency(), conf.maxPoolSize()));
     connectionAppenderQueue = new ArrayBlockingQueue<>(conf.maxPoolSize());
     connectionAppender =
         new ThreadPoolExecutor(
-            1,
-            1,
+            createConcurrency,
+            createConcurrency,
             10,
             TimeUnit.SECONDS,
             connectionAppenderQueue,
             new PoolThreadFactory(poolTag + "-appender"));
     connectionAppender.allowCoreThreadTimeOut(true);
     // create workers, since driver only interact with queue after that (i.e. not using .execute() )
-    connectionAppender.prestartCoreThread();
+    connectionAppender.prestartAllCoreThreads();
+
+    // threads resetting connections given back to pool, if option poolAsyncReset is set
+    if (conf.poolAsyncReset()) {
+      int resetThreads = Math.max(1, Math.min(4, conf.maxPoolSize()));
+      connectionResetter =
+          new ThreadPoolExecutor(
+              resetThreads,
+              resetThreads,
+              10,
+              TimeUnit.SECONDS,
+              new LinkedBlockingQueue<>(),
+              new PoolThreadFactory(poolTag + "-resetter"));
+      connectionResetter.allowCoreThreadTimeOut(true);
+    } else {
+      connectionResetter = null;
+    }
 
-    idleConnections = new LinkedBlockingDeque<>();
     int minDelay =
         Integer.parseInt(conf.nonMappedOptions().getProperty("testMaxRemovalDelay", "30"));
     int scheduleDelay = Math.min(minDelay, conf.maxIdleTime() / 2);
@@ -91,6 +123,39 @@ public class Pool implements AutoCloseable, PoolMBean {
         poolExecutor.scheduleAtFixedRate(
             this::removeIdleTimeoutConnection, scheduleDelay, scheduleDelay, TimeUnit.SECONDS);
 
+    // statistics, and pool size adaptation if option poolAdaptiveSizing is set
+    sizer = new PoolSizer(conf.minPoolSize(), conf.maxPoolSize());
+    sizerFuture =
+        poolExecutor.scheduleWithFixedDelay(
+            this::adjustSize, PoolSizer.TICK_MILLIS, PoolSizer.TICK_MILLIS, TimeUnit.MILLISECONDS);
+
+    // background validation: one idle connection validated each run, spread over the interval.
+    // Validation blocks until server answers, so it runs on a pool thread, not on the executor
+    // shared by all pools, a run being skipped if previous one is still validating.
+    if (conf.poolKeepAliveInterval() > 0) {
+      connectionValidator =
+          new ThreadPoolExecutor(
+              1,
+              1,
+              10,
+              TimeUnit.SECONDS,
+              new ArrayBlockingQueue<>(1),
+              new PoolThreadFactory(poolTag + "-validator"),
+              new ThreadPoolExecutor.DiscardPolicy());
+      connectionValidator.allowCoreThreadTimeOut(true);
+      long keepAliveDelay =
+          Math.max(100, conf.poolKeepAliveInterval() / Math.max(1, conf.maxPoolSize()));
+      keepAliveFuture =
+          poolExecutor.scheduleWithFixedDelay(
+              () -> connectionValidator.execute(this::keepAlive),
+              keepAliveDelay,
+              keepAliveDelay,
+              TimeUnit.MILLISECONDS);
+    } else {
+      connectionValidator = null;
+      keepAliveFuture = null;
+    }
+
     if (conf.registerJmxPool()) {
       try {
         registerJmx();
@@ -101,12 +166,18 @@ public class Pool implements AutoCloseable, PoolMBean {
 
     // create minimal connection in pool
     try {
-      for (int i = 0; i < Math.max(1, conf.minPoolSize()); i++) {
-        addConnection();
+      addConnection();
+      if (createConcurrency > 1) {
+        warmUp(conf.minPoolSize() - 1);
+      } else {
+        for (int i = 1; i < conf.minPoolSize(); i++) {
+          addConnection();
+        }
       }
       waitTimeout = 28800;
+      List<InternalPoolConnection> idleConnections = connections.values(ConnectionBag.NOT_IN_USE);
       if (!idleConnections.isEmpty()) {
-        try (Statement stmt = idleConnections.getFirst().getConnection().createStatement()) {
+        try (Statement stmt = idleConnections.get(0).getConnection().createStatement()) {
           ResultSet rs = stmt.executeQuery("SELECT @@wait_timeout");
           if (rs.next()) waitTimeout = rs.getInt(1);
         }
@@ -117,42 +188,90 @@ public class Pool implements AutoCloseable, PoolMBean {
   }
 
   /**
-   * Add new connection if needed. Only one thread create new connection, so new connection request
-   * will wait to newly created connection or for a released connection.
+   * Create connections concurrently on appender threads, waiting for their creation.
+   *
+   * @param number number of connections to create
+   */
+  private void warmUp(int number) {
+    if (number <= 0) return;
+    CountDownLatch latch = new CountDownLatch(number);
+    for (int i = 0; i < number; i++) {
+      if (!connectionAppenderQueue.offer(
+          () -> {
+            try {
+              if (totalConnection.get() < conf.minPoolSize()) addConnectionWithBackoff();
+            } finally {
+              latch.countDown();
+            }
+          })) {
+        latch.countDown();
+      }
+    }
+    try {
+      latch.await();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  /**
+   * Add new connection if needed. Up to poolCreateConcurrency threads create new connections, so
+   * new connection request will wait to newly created connection or for a released connection.
    */
   private void addConnectionRequest() {
     if (totalConnection.get() < conf.maxPoolSize() && poolState.get() == POOL_STATE_OK) {
 
-      // ensure to have one worker if was timeout
-      connectionAppender.prestartCoreThread();
+      // ensure to have workers if was timeout
+      connectionAppender.prestartAllCoreThreads();
       connectionAppenderQueue.offer(
           () -> {
-            if ((totalConnection.get() < conf.minPoolSize() || pendingRequestNumber.get() > 0)
+            if ((totalConnection.get() < conf.minPoolSize()
+                    || pendingRequestNumber.get() > 0
+                    || (conf.poolAdaptiveSizing() && totalConnection.get() < sizer.getTarget()))
                 && totalConnection.get() < conf.maxPoolSize()) {
-              try {
-                addConnection();
-              } catch (SQLException sqle) {
-                logger.error("error adding connection to pool", sqle);
-              }
+              addConnectionWithBackoff();
             }
           });
     }
   }
 
+  /**
+   * Create new connection. After a creation failure, following creations are delayed, delay
+   * doubling with each consecutive failure, so a recovering server is not flooded with connection
+   * attempts.
+   */
+  private void addConnectionWithBackoff() {
+    long delay = nextCreationTime.get() - System.nanoTime();
+    if (delay > 0) {
+      try {
+        TimeUnit.NANOSECONDS.sleep(delay);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+    }
+    if (poolState.get() != POOL_STATE_OK) return;
+    try {
+      addConnection();
+      creationFailures.set(0);
+    } catch (SQLException sqle) {
+      int failures = creationFailures.incrementAndGet();
+      long backoff =
+          Math.min(MAX_CREATION_BACKOFF, MIN_CREATION_BACKOFF << Math.min(failures - 1, 6));
+      // random jitter, so creations of several pools do not retry at the same time
+      backoff = backoff / 2 + ThreadLocalRandom.current().nextLong(backoff / 2 + 1);
+      nextCreationTime.set(System.nanoTime() + backoff);
+      logger.error("error adding connection to pool", sqle);
+    }
+  }
+
   /**
    * Removing idle connection. Close them and recreate connection to reach minimal number of
    * connection.
    */
   private void removeIdleTimeoutConnection() {
 
-    // descending iterator since first from queue are the first to be used
-    Iterator<InternalPoolConnection> iterator = idleConnections.descendingIterator();
-
-    InternalPoolConnection item;
-
-    while (iterator.hasNext()) {
-      item = iterator.next();
-
+    for (InternalPoolConnection item : connections.values(ConnectionBag.NOT_IN_USE)) {
       long idleTime = System.nanoTime() - item.getLastUsed().get();
       boolean timedOut = idleTime > TimeUnit.SECONDS.toNanos(conf.maxIdleTime());
 
@@ -174,7 +293,8 @@ public class Pool implements AutoCloseable, PoolMBean {
         shouldBeReleased = true;
       }
 
-      if (shouldBeReleased && idleConnections.remove(item)) {
+      // reserve connection, so it cannot be borrowed meanwhile
+      if (shouldBeReleased && connections.reserve(item) && connections.remove(item)) {
 
         totalConnection.decrementAndGet();
         silentCloseConnection(con);
@@ -192,6 +312,101 @@ public class Pool implements AutoCloseable, PoolMBean {
     }
   }
 
+  /**
+   * Aggregate pool statistics and, if option poolAdaptiveSizing is set, grow pool to target size,
+   * or close an idle connection when pool is over target size.
+   */
+  private void adjustSize() {
+    if (poolState.get() != POOL_STATE_OK) return;
+    long now = System.nanoTime();
+    int total = totalConnection.get();
+    int idle = connections.getCount(ConnectionBag.NOT_IN_USE);
+    int target =
+        sizer.tick(
+            total - idle,
+            total,
+            pendingRequestNumber.get(),
+            now - lastSizerTick,
+            conf.poolAdaptiveSizing());
+    lastSizerTick = now;
+    if (!conf.poolAdaptiveSizing()) return;
+
+    if (total < target) {
+      for (int i = total; i < target; i++) {
+        addConnectionRequest();
+      }
+    } else if (total > target && idle > 0) {
+      // shrink gradually: close least recently used idle connection
+      InternalPoolConnection oldest = null;
+      for (InternalPoolConnection item : connections.values(ConnectionBag.NOT_IN_USE)) {
+        if (oldest == null || item.getLastUsed().get() < oldest.getLastUsed().get()) {
+          oldest = item;
+        }
+      }
+      if (oldest != null && connections.reserve(oldest) && connections.remove(oldest)) {
+        totalConnection.decrementAndGet();
+        silentCloseConnection(oldest.getConnection());
+        if (logger.isDebugEnabled()) {
+          logger.debug(
+              "pool {} connection {} removed to reach target size {} (total:{}, active:{}, pending:{})",
+              poolTag,
+              oldest.getConnection().getThreadId(),
+              target,
+              totalConnection.get(),
+              getActiveConnections(),
+              pendingRequestNumber.get());
+        }
+      }
+    }
+  }
+
+  /**
+   * Background validation of the idle connection not used nor validated for the longest time, if
+   * not validated since poolKeepAliveInterval. Connection is reserved during validation, so cannot
+   * be borrowed meanwhile.
+   */
+  private void keepAlive() {
+    if (poolState.get() != POOL_STATE_OK) return;
+    long now = System.nanoTime();
+    long interval = TimeUnit.MILLISECONDS.toNanos(conf.poolKeepAliveInterval());
+    InternalPoolConnection oldest = null;
+    long oldestTime = 0;
+    for (InternalPoolConnection item : connections.values(ConnectionBag.NOT_IN_USE)) {
+      long lastConfirmed = Math.max(item.getLastUsed().get(), item.getLastValidated().get());
+      if (now - lastConfirmed > interval && (oldest == null || lastConfirmed < oldestTime)) {
+        oldest = item;
+        oldestTime = lastConfirmed;
+      }
+    }
+    if (oldest == null || !connections.reserve(oldest)) return;
+
+    try {
+      if (oldest.getConnection().isValid(10)) { // 10 seconds timeout
+        oldest.lastValidatedToNow();
+        connections.unreserve(oldest);
+        return;
+      }
+    } catch (SQLException sqle) {
+      // eat
+    }
+
+    // validation failed
+    if (connections.remove(oldest)) {
+      totalConnection.decrementAndGet();
+      silentAbortConnection(oldest.getConnection());
+      addConnectionRequest();
+      if (logger.isDebugEnabled()) {
+        logger.debug(
+            "pool {} connection {} removed due to failed background validation (total:{}, active:{}, pending:{})",
+            poolTag,
+            oldest.getConnection().getThreadId(),
+            totalConnection.get(),
+            getActiveConnections(),
+            pendingRequestNumber.get());
+      }
+    }
+  }
+
   /**
    * Create new connection.
    *
@@ -199,9 +414,20 @@ public class Pool implements AutoCloseable, PoolMBean {
    */
   private void addConnection() throws SQLException {
 
+    // reserve a slot before connecting, so concurrent creators cannot exceed maxPoolSize
+    if (!reserveSlot()) return;
+
     // create new connection
-    Connection connection = Driver.connect(conf);
-    InternalPoolConnection item = new InternalPoolConnection(connection);
+    long start = System.nanoTime();
+    Connection connection;
+    try {
+      connection = Driver.connect(conf);
+    } catch (SQLException | RuntimeException e) {
+      totalConnection.decrementAndGet();
+      throw e;
+    }
+    sizer.recordCreation(System.nanoTime() - start);
+    InternalPoolConnection item = new InternalPoolConnection(connection, this);
     item.addConnectionEventListener(
         new ConnectionEventListener() {
 
@@ -209,23 +435,21 @@ public class Pool implements AutoCloseable, PoolMBean {
           public void connectionClosed(ConnectionEvent event) {
             InternalPoolConnection item = (InternalPoolConnection) event.getSource();
             if (poolState.get() == POOL_STATE_OK) {
-              try {
-                if (!idleConnections.contains(item)) {
-                  item.getConnection().reset();
-                  item.lastUsedToNow();
-                  if (item.isFailed()) {
-                    // some connections after error are closing and returns to idle state
-                    item.setFailed(false);
-                    totalConnection.incrementAndGet();
+              // some connections after error are closing and returns to idle state
+              boolean failed = item.isFailed();
+              // reserved while reset, ignoring a second close
+              if (failed || item.compareAndSetState(ConnectionBag.IN_USE, ConnectionBag.RESERVED)) {
+                if (connectionResetter == null) {
+                  resetConnection(item, failed);
+                } else {
+                  try {
+                    connectionResetter.execute(() -> resetConnection(item, failed));
+                  } catch (RejectedExecutionException e) {
+                    // pool is closing. Failed connection is already not counted
+                    if (connections.remove(item) && !failed) totalConnection.decrementAndGet();
+                    silentCloseConnection(item.getConnection());
                   }
-                  idleConnections.addFirst(item);
                 }
-              } catch (SQLException sqle) {
-
-                // sql exception during reset, removing connection from pool
-                totalConnection.decrementAndGet();
-                silentCloseConnection(item.getConnection());
-                logger.debug("connection removed from pool {} due to error during reset", poolTag);
               }
             } else {
               // pool is closed, should then not be render to pool, but closed.
@@ -244,11 +468,13 @@ public class Pool implements AutoCloseable, PoolMBean {
             InternalPoolConnection item = ((InternalPoolConnection) event.getSource());
             item.setFailed(true);
             totalConnection.decrementAndGet();
-            idleConnections.remove(item);
+            connections.remove(item);
 
             // ensure that other connection will be validated before being use
             // since one connection failed, better to assume the other might as well
-            idleConnections.forEach(InternalPoolConnection::ensureValidation);
+            connections
+                .values(ConnectionBag.NOT_IN_USE)
+                .forEach(InternalPoolConnection::ensureValidation);
 
             silentCloseConnection(item.getConnection());
             addConnectionRequest();
@@ -261,9 +487,8 @@ public class Pool implements AutoCloseable, PoolMBean {
                 pendingRequestNumber.get());
           }
         });
-    if (poolState.get() == POOL_STATE_OK
-        && totalConnection.incrementAndGet() <= conf.maxPoolSize()) {
-      idleConnections.addFirst(item);
+    if (poolState.get() == POOL_STATE_OK) {
+      connections.add(item);
 
       if (logger.isDebugEnabled()) {
         logger.debug(
@@ -276,9 +501,57 @@ public class Pool implements AutoCloseable, PoolMBean {
       return;
     }
 
+    // pool is closing: release slot
+    totalConnection.decrementAndGet();
     silentCloseConnection(connection);
   }
 
+  /**
+   * Count a new pool connection, if pool has not reached maxPoolSize. Slot must be released
+   * (decrementing totalConnection) if connection is finally not added to pool.
+   *
+   * @return true if slot is reserved
+   */
+  private boolean reserveSlot() {
+    int total;
+    do {
+      total = totalConnection.get();
+      if (total >= conf.maxPoolSize()) return false;
+    } while (!totalConnection.compareAndSet(total, total + 1));
+    return true;
+  }
+
+  /**
+   * Reset state of a connection given back to pool, and make it available again.
+   *
+   * @param item pool connection
+   * @param failed connection has been removed from pool after an error
+   */
+  private void resetConnection(InternalPoolConnection item, boolean failed) {
+    // connection removed from pool after an error is counted again, if pool is not full meanwhile
+    if (failed && !reserveSlot()) {
+      silentCloseConnection(item.getConnection());
+      return;
+    }
+    try {
+      item.getConnection().reset();
+      item.lastUsedToNow();
+      if (failed) {
+        item.setFailed(false);
+        connections.add(item);
+      } else {
+        connections.requite(item);
+      }
+    } catch (SQLException sqle) {
+
+      // sql exception during reset, removing connection from pool
+      connections.remove(item);
+      totalConnection.decrementAndGet();
+      silentCloseConnection(item.getConnection());
+      logger.debug("connection removed from pool {} due to error during reset", poolTag);
+    }
+  }
+
   /**
    * Get an existing idle connection in pool.
    *
@@ -288,15 +561,19 @@ public class Pool implements AutoCloseable, PoolMBean {
       throws InterruptedException {
 
     while (true) {
-      InternalPoolConnection item =
-          (timeout == 0)
-              ? idleConnections.pollFirst()
-              : idleConnections.pollFirst(timeout, timeUnit);
+      InternalPoolConnection item = connections.borrow(timeout, timeUnit);
 
       if (item != null) {
         try {
-          if (TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - item.getLastUsed().get())
-              > conf.poolValidMinDelay()) {
+          long now = System.nanoTime();
+          long lastConfirmed = item.getLastUsed().get();
+          long validDelay = conf.poolValidMinDelay();
+          if (conf.poolKeepAliveInterval() > 0) {
+            // background validation checks connections neither used nor validated in interval
+            lastConfirmed = Math.max(lastConfirmed, item.getLastValidated().get());
+            validDelay = Math.max(validDelay, conf.poolKeepAliveInterval());
+          }
+          if (TimeUnit.NANOSECONDS.toMillis(now - lastConfirmed) > validDelay) {
 
             // validate connection
             if (item.getConnection().isValid(10)) { // 10 seconds timeout
@@ -305,7 +582,8 @@ public class Pool implements AutoCloseable, PoolMBean {
 
           } else {
 
-            // connection has been retrieved recently -> skip connection validation
+            // connection has been retrieved or validated in background recently
+            // -> skip connection validation
             return item;
           }
 
@@ -314,6 +592,7 @@ public class Pool implements AutoCloseable, PoolMBean {
         }
 
         // validation failed
+        if (connections.remove(item)) totalConnection.decrementAndGet();
         silentAbortConnection(item.getConnection());
         addConnectionRequest();
         if (logger.isDebugEnabled()) {
@@ -360,12 +639,14 @@ public class Pool implements AutoCloseable, PoolMBean {
    */
   public InternalPoolConnection getPoolConnection() throws SQLException {
     pendingRequestNumber.incrementAndGet();
+    long start = System.nanoTime();
     InternalPoolConnection poolConnection;
     try {
       // try to get Idle connection if any (with a very small timeout)
       if ((poolConnection =
               getIdleConnection(totalConnection.get() > 4 ? 0 : 50, TimeUnit.MICROSECONDS))
           != null) {
+        sizer.recordAcquisition(System.nanoTime() - start);
         return poolConnection;
       }
 
@@ -377,6 +658,7 @@ public class Pool implements AutoCloseable, PoolMBean {
               getIdleConnection(
                   TimeUnit.MILLISECONDS.toNanos(conf.connectTimeout()), TimeUnit.NANOSECONDS))
           != null) {
+        sizer.recordAcquisition(System.nanoTime() - start);
         return poolConnection;
       }
 
@@ -392,6 +674,23 @@ public class Pool implements AutoCloseable, PoolMBean {
     }
   }
 
+  /**
+   * Retrieve an idle connection, without waiting nor asking for a connection creation.
+   *
+   * @return a connection object, or null if no connection is idle
+   * @throws SQLException if thread is interrupted
+   */
+  public InternalPoolConnection getIdlePoolConnection() throws SQLException {
+    long start = System.nanoTime();
+    try {
+      InternalPoolConnection poolConnection = getIdleConnection(0, TimeUnit.NANOSECONDS);
+      if (poolConnection != null) sizer.recordAcquisition(System.nanoTime() - start);
+      return poolConnection;
+    } catch (InterruptedException interrupted) {
+      throw new SQLException("Thread was interrupted", "70100", interrupted);
+    }
+  }
+
   /**
    * Get new connection from pool if user and password correspond to pool. If username and password
    * are different from pool, will return a dedicated connection.
@@ -436,10 +735,20 @@ public class Pool implements AutoCloseable, PoolMBean {
         pendingRequestNumber.set(0);
 
         scheduledFuture.cancel(false);
+        if (keepAliveFuture != null) keepAliveFuture.cancel(false);
+        sizerFuture.cancel(false);
         connectionAppender.shutdown();
+        if (connectionResetter != null) connectionResetter.shutdown();
+        if (connectionValidator != null) connectionValidator.shutdown();
 
         try {
           connectionAppender.awaitTermination(10, TimeUnit.SECONDS);
+          if (connectionResetter != null) {
+            connectionResetter.awaitTermination(10, TimeUnit.SECONDS);
+          }
+          if (connectionValidator != null) {
+            connectionValidator.awaitTermination(10, TimeUnit.SECONDS);
+          }
         } catch (InterruptedException i) {
           // eat
         }
@@ -465,7 +774,7 @@ public class Pool implements AutoCloseable, PoolMBean {
         // loop for up to 10 seconds to close not used connection
         long start = System.nanoTime();
         do {
-          closeAll(idleConnections);
+          closeAllIdle();
           if (totalConnection.get() > 0) {
             Thread.sleep(0, 10_00);
           }
@@ -473,8 +782,8 @@ public class Pool implements AutoCloseable, PoolMBean {
             && TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start) < 10);
 
         // after having wait for 10 seconds, force removal, even if used connections
-        if (totalConnection.get() > 0 || idleConnections.isEmpty()) {
-          closeAll(idleConnections);
+        if (totalConnection.get() > 0 || connections.getCount(ConnectionBag.NOT_IN_USE) == 0) {
+          closeAllIdle();
         }
 
         connectionRemover.shutdown();
@@ -490,10 +799,9 @@ public class Pool implements AutoCloseable, PoolMBean {
     }
   }
 
-  private void closeAll(Collection<InternalPoolConnection> collection) {
-    synchronized (collection) { // synchronized mandatory to iterate Collections.synchronizedList()
-      for (InternalPoolConnection item : collection) {
-        collection.remove(item);
+  private void closeAllIdle() {
+    for (InternalPoolConnection item : connections.values(ConnectionBag.NOT_IN_USE)) {
+      if (connections.reserve(item) && connections.remove(item)) {
         totalConnection.decrementAndGet();
         silentAbortConnection(item.getConnection());
       }
@@ -506,7 +814,7 @@ public class Pool implements AutoCloseable, PoolMBean {
 
   @Override
   public long getActiveConnections() {
-    return totalConnection.get() - idleConnections.size();
+    return totalConnection.get() - connections.getCount(ConnectionBag.NOT_IN_USE);
   }
 
   @Override
@@ -516,13 +824,33 @@ public class Pool implements AutoCloseable, PoolMBean {
 
   @Override
   public long getIdleConnections() {
-    return idleConnections.size();
+    return connections.getCount(ConnectionBag.NOT_IN_USE);
   }
 
   public long getConnectionRequests() {
     return pendingRequestNumber.get();
   }
 
+  @Override
+  public long getTargetConnections() {
+    return sizer.getTarget();
+  }
+
+  @Override
+  public long getAcquisitionTime() {
+    return sizer.getAcquisitionMicros();
+  }
+
+  @Override
+  public long getCreationTime() {
+    return sizer.getCreationMillis();
+  }
+
+  @Override
+  public long getUtilization() {
+    return sizer.getUtilizationPercent();
+  }
+
   private void registerJmx() throws Exception {
     MBeanServer mbs = ManagementFactory.getPlatformMBeanServer();
     String jmxName = poolTag.replace(":", "_");
@@ -550,7 +878,7 @@ public class Pool implements AutoCloseable, PoolMBean {
    */
   public List<Long> testGetConnectionIdleThreadIds() {
     List<Long> threadIds = new ArrayList<>();
-    for (InternalPoolConnection pooledConnection : idleConnections) {
+    for (InternalPoolConnection pooledConnection : connections.values(ConnectionBag.NOT_IN_USE)) {
       threadIds.add(pooledConnection.getConnection().getThreadId());
     }
     return threadIds;
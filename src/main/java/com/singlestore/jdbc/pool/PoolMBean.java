@@ -33,4 +33,33 @@ public interface PoolMBean {
    * @return request number
    */
   long getConnectionRequests();
+
+  /**
+   * get target connection number of adaptive sizing (option poolAdaptiveSizing), minimum pool size
+   * if adaptive sizing is disabled
+   *
+   * @return target connection number
+   */
+  long getTargetConnections();
+
+  /**
+   * get average time to get a connection from pool
+   *
+   * @return average acquisition time in microseconds
+   */
+  long getAcquisitionTime();
+
+  /**
+   * get average physical connection creation time
+   *
+   * @return average creation time in milliseconds
+   */
+  long getCreationTime();
+
+  /**
+   * get pool utilization: borrowed connections compared to total connections
+   *
+   * @return utilization percentage
+   */
+  long getUtilization();
 }
@@ -0,0 +1,139 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2021-2023 SingleStore, Inc.
+
+package com.singlestore.jdbc.pool;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Pool size controller, for option poolAdaptiveSizing.
+ *
+ * <p>Pool statistics (connection acquisition time, utilization, connection creation time) are
+ * aggregated each tick. Target size grows when pool nears saturation: requests waiting, utilization
+ * over {@link #HIGH_UTILIZATION} or slow acquisitions. Growth step covers the borrows expected
+ * while new connections are being created, so pool grows before being exhausted, and target does
+ * not grow again until pool has reached it. Target size shrinks by one connection only after {@link
+ * #SHRINK_TICKS} consecutive ticks with utilization under {@link #LOW_UTILIZATION}: the gap between
+ * both thresholds and the shrink delay avoid oscillating with bursty traffic. Target always stays
+ * between minPoolSize and maxPoolSize.
+ */
+final class PoolSizer {
+
+  /** tick interval */
+  static final long TICK_MILLIS = 1000;
+
+  /** utilization ratio over which pool grows */
+  static final double HIGH_UTILIZATION = 0.8;
+
+  /** utilization ratio under which pool may shrink */
+  static final double LOW_UTILIZATION = 0.5;
+
+  /** consecutive ticks of low utilization before shrinking */
+  static final int SHRINK_TICKS = 5;
+
+  /** average acquisition time over which pool grows */
+  private static final long SLOW_ACQUISITION = TimeUnit.MILLISECONDS.toNanos(1);
+
+  /** weight of last tick in moving averages */
+  private static final double EWMA_WEIGHT = 0.3;
+
+  private final int minSize;
+  private final int maxSize;
+  private final LongAdder acquisitions = new LongAdder();
+  private final LongAdder acquisitionNanos = new LongAdder();
+  private volatile int target;
+  private volatile double averageAcquisition;
+  private volatile double averageCreation;
+  private volatile double utilization;
+  private int lowTicks;
+
+  /**
+   * Constructor
+   *
+   * @param minSize minimum pool size
+   * @param maxSize maximum pool size
+   */
+  PoolSizer(int minSize, int maxSize) {
+    this.minSize = minSize;
+    this.maxSize = maxSize;
+    this.target = minSize;
+  }
+
+  /**
+   * Record a connection acquisition.
+   *
+   * @param nanos time spent to get connection from pool
+   */
+  void recordAcquisition(long nanos) {
+    acquisitions.increment();
+    acquisitionNanos.add(nanos);
+  }
+
+  /**
+   * Record a physical connection creation.
+   *
+   * @param nanos connection creation time
+   */
+  synchronized void recordCreation(long nanos) {
+    averageCreation = averageCreation == 0 ? nanos : ewma(averageCreation, nanos);
+  }
+
+  /**
+   * Aggregate statistics since last tick and compute new target size.
+   *
+   * @param active borrowed connections
+   * @param total pool connections
+   * @param pending pending connection requests
+   * @param elapsedNanos time since last tick
+   * @param adapt change target size
+   * @return target size
+   */
+  synchronized int tick(int active, int total, int pending, long elapsedNanos, boolean adapt) {
+    long count = acquisitions.sumThenReset();
+    long nanos = acquisitionNanos.sumThenReset();
+    double tickAcquisition = count == 0 ? 0 : (double) nanos / count;
+    averageAcquisition = ewma(averageAcquisition, tickAcquisition);
+    utilization = total == 0 ? (pending > 0 ? 1 : 0) : (double) active / total;
+    if (!adapt) return target;
+
+    if (pending > 0 || utilization >= HIGH_UTILIZATION || tickAcquisition > SLOW_ACQUISITION) {
+      lowTicks = 0;
+      // connections of previous growth still being created: growing again would only overshoot
+      if (total < target) return target;
+      // connections borrowed while new ones are being created
+      double borrowRate = elapsedNanos == 0 ? 0 : (double) count / elapsedNanos;
+      int headroom = (int) Math.ceil(borrowRate * averageCreation);
+      int step = Math.max(1, Math.max(headroom, (int) Math.ceil(target * 0.25)));
+      target = Math.min(maxSize, Math.max(target, active + pending) + step);
+    } else if (utilization < LOW_UTILIZATION) {
+      if (++lowTicks >= SHRINK_TICKS) {
+        lowTicks = 0;
+        target = Math.max(minSize, Math.max(active, target - 1));
+      }
+    } else {
+      lowTicks = 0;
+    }
+    return target;
+  }
+
+  private static double ewma(double average, double value) {
+    return average + EWMA_WEIGHT * (value - average);
+  }
+
+  int getTarget() {
+    return target;
+  }
+
+  long getAcquisitionMicros() {
+    return TimeUnit.NANOSECONDS.toMicros((long) averageAcquisition);
+  }
+
+  long getCreationMillis() {
+    return TimeUnit.NANOSECONDS.toMillis((long) averageCreation);
+  }
+
+  long getUtilizationPercent() {
+    return Math.round(utilization * 100);
+  }
+}
@@ -7,6 +7,7 @@ package com.singlestore.jdbc.util;
 
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 public final class ClientParser implements PrepareResult {
@@ -21,7 +22,7 @@ public final class ClientParser implements PrepareResult {
       String sql, byte[] query, List<Integer> paramPositions, boolean isRewriteBatchedApplicable) {
     this.sql = sql;
     this.query = query;
-    this.paramPositions = paramPositions;
+    this.paramPositions = Collections.unmodifiableList(paramPositions);
     this.paramCount = paramPositions.size();
     this.isRewriteBatchedApplicable = isRewriteBatchedApplicable;
   }
@@ -37,6 +38,10 @@ public final class ClientParser implements PrepareResult {
    * @return ClientPrepareResult
    */
   public static ClientParser parameterParts(String queryString) {
+    return ParseCache.CLIENT_PARSER.get(queryString, ClientParser::parse);
+  }
+
+  private static ClientParser parse(String queryString) {
 
     List<Integer> paramPositions = new ArrayList<>();
     LexState state = LexState.Normal;
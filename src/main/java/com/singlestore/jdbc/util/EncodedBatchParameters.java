@@ -0,0 +1,289 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2021-2023 SingleStore, Inc.
+
+package com.singlestore.jdbc.util;
+
+import com.singlestore.jdbc.client.Context;
+import com.singlestore.jdbc.client.socket.Writer;
+import com.singlestore.jdbc.client.socket.impl.PacketWriter;
+import com.singlestore.jdbc.client.util.Parameter;
+import com.singlestore.jdbc.client.util.Parameters;
+import com.singlestore.jdbc.client.util.RowSlab;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Batch parameters, encoded when added.
+ *
+ * <p>Each added parameter set is encoded in the format used when sending it (text for client side
+ * prepared statements, binary for server side prepared statements) and appended to a row slab,
+ * instead of keeping a parameter list for each set. Sending batch then copies encoded bytes.
+ *
+ * <p>Encoded row: parameter count, then for each parameter: binary type, encoded length + 1 (0 for
+ * NULL) as variable length integer, encoded value.
+ *
+ * <p>Sets containing parameters that are sent separately (streams) or big values are kept as
+ * parameter list.
+ */
+public class EncodedBatchParameters extends AbstractList<Parameters> {
+
+  private static final int MAX_ENCODED_LENGTH = 1024 * 1024;
+
+  private final Context context;
+  private final boolean binary;
+  private final RowSlab slab = new RowSlab();
+  private PacketWriter writer;
+  private long[] positions = new long[16];
+  private Map<Integer, Parameters> rawRows;
+  private int size;
+
+  /**
+   * Constructor
+   *
+   * @param context connection context
+   * @param binary encode parameters in binary format, text format if false
+   */
+  public EncodedBatchParameters(Context context, boolean binary) {
+    this.context = context;
+    this.binary = binary;
+  }
+
+  @Override
+  public boolean add(Parameters parameters) {
+    if (size == positions.length) {
+      positions = Arrays.copyOf(positions, size + (size >> 1));
+    }
+    try {
+      if (encodable(parameters)) {
+        positions[size++] = encode(parameters);
+        return true;
+      }
+    } catch (IOException | SQLException e) {
+      // will be encoded again on execution, reporting error then
+      slab.discardRow();
+    }
+    if (rawRows == null) rawRows = new HashMap<>();
+    rawRows.put(size, parameters);
+    positions[size++] = -1;
+    return true;
+  }
+
+  private boolean encodable(Parameters parameters) throws IOException, SQLException {
+    for (int i = 0; i < parameters.size(); i++) {
+      Parameter p = parameters.get(i);
+      if (p == null) return false;
+      if (!p.isNull()) {
+        int length = p.getApproximateTextProtocolLength();
+        if (p.canEncodeLongData() || length < 0 || length > MAX_ENCODED_LENGTH) return false;
+      }
+    }
+    return true;
+  }
+
+  private long encode(Parameters parameters) throws IOException, SQLException {
+    if (writer == null) writer = new PacketWriter(null, 0, 0xffffff, null, null);
+    int count = parameters.size();
+    slab.ensureCapacity(5);
+    writeLength(count);
+    for (int i = 0; i < count; i++) {
+      Parameter p = parameters.get(i);
+      if (p.isNull()) {
+        slab.ensureCapacity(2);
+        slab.buf()[slab.pos()] = (byte) p.getBinaryEncodeType();
+        slab.skip(1);
+        writeLength(0);
+        continue;
+      }
+      writer.pos(4);
+      if (binary) {
+        p.encodeBinary(writer);
+      } else {
+        p.encodeText(writer, context);
+      }
+      int length = writer.pos() - 4;
+      slab.ensureCapacity(6 + length);
+      slab.buf()[slab.pos()] = (byte) p.getBinaryEncodeType();
+      slab.skip(1);
+      writeLength(length + 1);
+      System.arraycopy(writer.buf(), 4, slab.buf(), slab.pos(), length);
+      slab.skip(length);
+    }
+    return slab.endRow();
+  }
+
+  private void writeLength(int value) {
+    byte[] buf = slab.buf();
+    int pos = slab.pos();
+    while ((value & ~0x7f) != 0) {
+      buf[pos++] = (byte) ((value & 0x7f) | 0x80);
+      value >>>= 7;
+    }
+    buf[pos++] = (byte) value;
+    slab.skip(pos - slab.pos());
+  }
+
+  @Override
+  public Parameters get(int index) {
+    if (index >= size) {
+      throw new IndexOutOfBoundsException("wrong index " + index + " size:" + size);
+    }
+    long position = positions[index];
+    if (position == -1) return rawRows.get(index);
+    return new EncodedRow(slab.chunk((int) (position >>> 32)), (int) position, binary);
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  /** Release encoded parameters */
+  @Override
+  public void clear() {
+    slab.reset();
+    writer = null;
+    positions = new long[16];
+    rawRows = null;
+    size = 0;
+  }
+
+  /** Read only view of an encoded parameter set */
+  private static final class EncodedRow implements Parameters {
+    private final byte[] buf;
+    private final int[] offsets;
+    private final boolean binary;
+
+    private EncodedRow(byte[] buf, int pos, boolean binary) {
+      this.buf = buf;
+      this.binary = binary;
+      int count = readLength(buf, pos);
+      offsets = new int[count];
+      pos += lengthSize(count);
+      for (int i = 0; i < count; i++) {
+        offsets[i] = pos;
+        int length = readLength(buf, pos + 1);
+        pos += 1 + lengthSize(length) + Math.max(length - 1, 0);
+      }
+    }
+
+    @Override
+    public Parameter get(int index) {
+      return new EncodedParameter(buf, offsets[index], binary);
+    }
+
+    @Override
+    public boolean containsKey(int index) {
+      return index >= 0 && index < offsets.length;
+    }
+
+    @Override
+    public void set(int index, Parameter element) {
+      throw new UnsupportedOperationException("encoded batch parameters are read only");
+    }
+
+    @Override
+    public int size() {
+      return offsets.length;
+    }
+
+    @Override
+    public Parameters clone() {
+      return this;
+    }
+  }
+
+  /** Parameter already encoded in the batch format */
+  private static final class EncodedParameter implements Parameter {
+    private final byte[] buf;
+    private final int type;
+    private final int offset;
+    private final int length;
+    private final boolean binary;
+
+    private EncodedParameter(byte[] buf, int pos, boolean binary) {
+      this.buf = buf;
+      this.binary = binary;
+      this.type = buf[pos] & 0xff;
+      int length = readLength(buf, pos + 1);
+      this.length = length - 1;
+      this.offset = pos + 1 + lengthSize(length);
+    }
+
+    @Override
+    public void encodeText(Writer encoder, Context context) throws IOException {
+      if (length < 0) {
+        encoder.writeAscii("null");
+      } else {
+        encoder.writeBytes(buf, offset, length);
+      }
+    }
+
+    @Override
+    public void encodeBinary(Writer encoder) throws IOException {
+      encoder.writeBytes(buf, offset, length);
+    }
+
+    @Override
+    public void encodeLongData(Writer encoder) throws IOException {
+      encoder.writeBytes(buf, offset, length);
+    }
+
+    @Override
+    public byte[] encodeData() {
+      return Arrays.copyOfRange(buf, offset, offset + length);
+    }
+
+    @Override
+    public boolean canEncodeLongData() {
+      return false;
+    }
+
+    @Override
+    public int getBinaryEncodeType() {
+      return type;
+    }
+
+    @Override
+    public int getApproximateTextProtocolLength() {
+      // "null" for NULL
+      return length < 0 ? 4 : length;
+    }
+
+    @Override
+    public boolean isNull() {
+      return length < 0;
+    }
+
+    @Override
+    public String bestEffortStringValue(Context context) {
+      if (isNull()) return "null";
+      return binary ? null : new String(buf, offset, length, StandardCharsets.UTF_8);
+    }
+  }
+
+  private static int readLength(byte[] buf, int pos) {
+    int value = 0;
+    int shift = 0;
+    byte b;
+    do {
+      b = buf[pos++];
+      value |= (b & 0x7f) << shift;
+      shift += 7;
+    } while (b < 0);
+    return value;
+  }
+
+  private static int lengthSize(int value) {
+    int size = 1;
+    while ((value & ~0x7f) != 0) {
+      value >>>= 7;
+      size++;
+    }
+    return size;
+  }
+}
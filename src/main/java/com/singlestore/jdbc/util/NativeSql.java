@@ -15,6 +15,13 @@ public final class NativeSql {
     if (!sql.contains("{")) {
       return sql;
     }
+    return ParseCache.NATIVE_SQL.get(sql, s -> resolve(s, context));
+  }
+
+  private static String resolve(String sql, Context context) throws SQLException {
+    if (!sql.contains("{")) {
+      return sql;
+    }
 
     ClientParser.LexState state = ClientParser.LexState.Normal;
     char lastChar = '\0';
@@ -145,11 +152,11 @@ public final class NativeSql {
     String escapedLower = escaped.toLowerCase(Locale.ROOT);
     if (escaped.startsWith("{fn ")) {
       String resolvedParams = replaceFunctionParameter(escaped.substring(4, endIndex), context);
-      return parse(resolvedParams, context);
+      return resolve(resolvedParams, context);
     } else if (escapedLower.startsWith("{oj ")) {
       // Outer join
       // the server supports "oj" in any case, even "oJ"
-      return parse(escaped.substring(4, endIndex), context);
+      return resolve(escaped.substring(4, endIndex), context);
     } else if (escaped.startsWith("{d ")) {
       // date literal
       return escaped.substring(3, endIndex);
@@ -172,12 +179,12 @@ public final class NativeSql {
       // We support uppercase "{CALL" only because Connector/J supports it. It is not in the JDBC
       // spec.
 
-      return parse(escaped.substring(1, endIndex), context);
+      return resolve(escaped.substring(1, endIndex), context);
     } else if (escaped.startsWith("{escape ")) {
       return escaped.substring(1, endIndex);
     } else if (escaped.startsWith("{?")) {
       // likely ?=call(...)
-      return parse(escaped.substring(1, endIndex), context);
+      return resolve(escaped.substring(1, endIndex), context);
     } else if (escaped.startsWith("{ ") || escaped.startsWith("{\n")) {
       // Spaces and newlines before keyword, this is not JDBC compliant, however some it works in
       // some drivers,
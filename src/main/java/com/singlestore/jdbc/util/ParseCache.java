@@ -0,0 +1,140 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2021-2023 SingleStore, Inc.
+
+package com.singlestore.jdbc.util;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded LRU cache of SQL parsing results, shared by all connections of the JVM.
+ *
+ * <p>Parsing results only depend on SQL text and are immutable, so a statement is parsed once,
+ * whatever the connection. Entries are spread over segments, each one an LRU map with its own lock,
+ * to limit contention. SQL longer than {@link #MAX_SQL_LENGTH} is not cached.
+ *
+ * @param <V> parsing result type
+ */
+public final class ParseCache<V> {
+
+  /** escape sequences resolution, see {@link NativeSql} */
+  public static final ParseCache<String> NATIVE_SQL = new ParseCache<>(1024);
+
+  /** client side prepared statements parameter positions, see {@link ClientParser} */
+  public static final ParseCache<ClientParser> CLIENT_PARSER = new ParseCache<>(1024);
+
+  /** batch rewrite parts, see {@link RewriteClientParser} */
+  public static final ParseCache<RewriteClientParser> REWRITE_PARSER = new ParseCache<>(256);
+
+  /** maximum length of cached SQL */
+  public static final int MAX_SQL_LENGTH = 16 * 1024;
+
+  private static final int SEGMENTS = 16;
+
+  private final Segment<V>[] segments;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+
+  @SuppressWarnings("unchecked")
+  private ParseCache(int maxSize) {
+    segments = (Segment<V>[]) new Segment<?>[SEGMENTS];
+    for (int i = 0; i < SEGMENTS; i++) {
+      segments[i] = new Segment<>(maxSize / SEGMENTS);
+    }
+  }
+
+  /**
+   * Get parsing result of SQL, parsing it if not cached.
+   *
+   * @param sql sql
+   * @param parser parser
+   * @param <E> parsing exception type
+   * @return parsing result
+   * @throws E if parsing fails. Failures are not cached.
+   */
+  public <E extends Exception> V get(String sql, Parser<V, E> parser) throws E {
+    if (sql.length() > MAX_SQL_LENGTH) {
+      misses.increment();
+      return parser.parse(sql);
+    }
+    int hash = sql.hashCode();
+    Segment<V> segment = segments[(hash ^ (hash >>> 16)) & (SEGMENTS - 1)];
+    V value;
+    synchronized (segment) {
+      value = segment.get(sql);
+    }
+    if (value != null) {
+      hits.increment();
+      return value;
+    }
+    misses.increment();
+    value = parser.parse(sql);
+    synchronized (segment) {
+      segment.put(sql, value);
+    }
+    return value;
+  }
+
+  /**
+   * Number of lookups that found a cached result
+   *
+   * @return hit count
+   */
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  /**
+   * Number of lookups that had to parse SQL
+   *
+   * @return miss count
+   */
+  public long getMissCount() {
+    return misses.sum();
+  }
+
+  /** Remove all cached results and reset counters */
+  public void clear() {
+    for (Segment<V> segment : segments) {
+      synchronized (segment) {
+        segment.clear();
+      }
+    }
+    hits.reset();
+    misses.reset();
+  }
+
+  /**
+   * SQL parser
+   *
+   * @param <V> parsing result type
+   * @param <E> parsing exception type
+   */
+  @FunctionalInterface
+  public interface Parser<V, E extends Exception> {
+    /**
+     * Parse SQL
+     *
+     * @param sql sql
+     * @return parsing result
+     * @throws E if SQL cannot be parsed
+     */
+    V parse(String sql) throws E;
+  }
+
+  private static final class Segment<V> extends LinkedHashMap<String, V> {
+    private static final long serialVersionUID = 1L;
+    private final int maxSize;
+
+    private Segment(int maxSize) {
+      super(16, .75f, true);
+      this.maxSize = maxSize;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+      return size() > maxSize;
+    }
+  }
+}
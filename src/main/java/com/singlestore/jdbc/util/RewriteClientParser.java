@@ -6,8 +6,10 @@
 package com.singlestore.jdbc.util;
 
 import com.singlestore.jdbc.util.ClientParser.LexState;
+import java.io.ByteArrayOutputStream;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 public class RewriteClientParser implements PrepareResult {
@@ -26,7 +28,7 @@ public class RewriteClientParser implements PrepareResult {
       int paramPartsLength,
       boolean isQueryMultiValuesRewritable) {
     this.sql = sql;
-    this.queryParts = queryParts;
+    this.queryParts = Collections.unmodifiableList(queryParts);
     this.queryPartsLength = queryPartsLength;
     this.paramPartsLength = paramPartsLength;
     this.isQueryMultiValuesRewritable = isQueryMultiValuesRewritable;
@@ -75,6 +77,10 @@ public class RewriteClientParser implements PrepareResult {
    * @return List of query part.
    */
   public static RewriteClientParser rewritableParts(String queryString) {
+    return ParseCache.REWRITE_PARSER.get(queryString, RewriteClientParser::parse);
+  }
+
+  private static RewriteClientParser parse(String queryString) {
     boolean reWritablePrepare = true;
     List<byte[]> partList = new ArrayList<>();
     LexState state = LexState.Normal;
@@ -385,4 +391,33 @@ public class RewriteClientParser implements PrepareResult {
   public int getParamPartsLength() {
     return paramPartsLength;
   }
+
+  /**
+   * Multi-row VALUES form of query, with placeholders for each row, for server side prepare.
+   *
+   * <p>example : INSERT INTO TABLE(col1, col2) VALUES (?, 5, ?) with 2 rows gives INSERT INTO
+   * TABLE(col1, col2) VALUES (?, 5, ?), (?, 5, ?)
+   *
+   * @param rows number of rows
+   * @return multi-row query
+   */
+  public String multiRowSql(int rows) {
+    ByteArrayOutputStream out =
+        new ByteArrayOutputStream(queryPartsLength + (rows - 1) * (paramPartsLength + paramCount));
+    byte[] first = queryParts.get(0);
+    out.write(first, 0, first.length);
+    for (int row = 0; row < rows; row++) {
+      if (row > 0) out.write(',');
+      byte[] valuePart = queryParts.get(1);
+      out.write(valuePart, 0, valuePart.length);
+      for (int i = 0; i < paramCount; i++) {
+        out.write('?');
+        byte[] part = queryParts.get(i + 2);
+        out.write(part, 0, part.length);
+      }
+    }
+    byte[] last = queryParts.get(paramCount + 2);
+    out.write(last, 0, last.length);
+    return new String(out.toByteArray(), StandardCharsets.UTF_8);
+  }
 }
@@ -15,6 +15,7 @@ import static org.junit.jupiter.api.Assertions.fail;
 
 import com.singlestore.jdbc.Connection;
 import com.singlestore.jdbc.SingleStoreBlob;
+import com.singlestore.jdbc.SingleStorePoolDataSource;
 import com.singlestore.jdbc.Statement;
 import java.io.ByteArrayInputStream;
 import java.sql.*;
@@ -326,6 +327,102 @@ public class BatchTest extends Common {
     assertFalse(rs.next());
   }
 
+  @Test
+  public void binaryBatchRewrite() throws SQLException {
+    try (Connection con = createCon("&useServerPrepStmts&binaryBatchRewrite")) {
+      Statement stmt = con.createStatement();
+      stmt.execute("TRUNCATE BatchTest");
+      stmt.execute("START TRANSACTION"); // if MAXSCALE ensure using WRITER
+      // 1024 + 2 * 128 + 16 + 5 rows
+      int rows = 1301;
+      try (PreparedStatement prep =
+          con.prepareStatement("INSERT INTO BatchTest(t1, t2) VALUES (?,?)")) {
+        for (int i = 1; i <= rows; i++) {
+          prep.setInt(1, i);
+          prep.setString(2, i % 10 == 0 ? null : "v" + i);
+          prep.addBatch();
+        }
+        int[] res = prep.executeBatch();
+        assertEquals(rows, res.length);
+        for (int r : res) assertEquals(Statement.SUCCESS_NO_INFO, r);
+      }
+
+      ResultSet rs = stmt.executeQuery("SELECT * FROM BatchTest ORDER BY t1");
+      for (int i = 1; i <= rows; i++) {
+        assertTrue(rs.next());
+        assertEquals(i, rs.getInt(1));
+        assertEquals(i % 10 == 0 ? null : "v" + i, rs.getString(2));
+      }
+      assertFalse(rs.next());
+      con.rollback();
+    }
+  }
+
+  @Test
+  public void parallelBatch() throws SQLException {
+    sharedConn.createStatement().execute("TRUNCATE BatchTest");
+    for (boolean useServerPrepStmts : new boolean[] {false, true}) {
+      try (SingleStorePoolDataSource ds =
+          new SingleStorePoolDataSource(
+              mDefUrl + "&parallelBatchConnections=4&useServerPrepStmts=" + useServerPrepStmts)) {
+        try (Connection con = (Connection) ds.getConnection()) {
+          int rows = 2000;
+          int offset = useServerPrepStmts ? rows : 0;
+          try (PreparedStatement prep =
+              con.prepareStatement("INSERT INTO BatchTest(t1, t2) VALUES (?,?)")) {
+            for (int i = 1; i <= rows; i++) {
+              prep.setInt(1, offset + i);
+              prep.setString(2, "v" + i);
+              prep.addBatch();
+            }
+            int[] res = prep.executeBatch();
+            assertEquals(rows, res.length);
+            for (int r : res) assertEquals(1, r);
+          }
+        }
+      }
+    }
+    ResultSet rs =
+        sharedConn.createStatement().executeQuery("SELECT t1 FROM BatchTest ORDER BY t1");
+    for (int i = 1; i <= 4000; i++) {
+      assertTrue(rs.next());
+      assertEquals(i, rs.getInt(1));
+    }
+    assertFalse(rs.next());
+  }
+
+  @Test
+  public void parallelBatchCatalog() throws SQLException {
+    Statement stmt = sharedConn.createStatement();
+    stmt.execute("CREATE DATABASE IF NOT EXISTS parallelBatchDb");
+    stmt.execute("DROP TABLE IF EXISTS parallelBatchDb.BatchTest");
+    stmt.execute("CREATE TABLE parallelBatchDb.BatchTest (t1 int not null primary key, t2 text)");
+    try (SingleStorePoolDataSource ds =
+        new SingleStorePoolDataSource(mDefUrl + "&parallelBatchConnections=4&minPoolSize=4")) {
+      try (Connection con = (Connection) ds.getConnection()) {
+        String catalog = con.getCatalog();
+        con.setCatalog("parallelBatchDb");
+        int rows = 2000;
+        try (PreparedStatement prep =
+            con.prepareStatement("INSERT INTO BatchTest(t1, t2) VALUES (?,?)")) {
+          for (int i = 1; i <= rows; i++) {
+            prep.setInt(1, i);
+            prep.setString(2, "v" + i);
+            prep.addBatch();
+          }
+          assertEquals(rows, prep.executeBatch().length);
+        }
+        // every chunk has been executed in connection current database
+        ResultSet rs = stmt.executeQuery("SELECT COUNT(*) FROM parallelBatchDb.BatchTest");
+        assertTrue(rs.next());
+        assertEquals(rows, rs.getInt(1));
+        con.setCatalog(catalog);
+      }
+    } finally {
+      stmt.execute("DROP DATABASE parallelBatchDb");
+    }
+  }
+
   @Test
   public void largeBatchWithRewrite() throws SQLException {
     for (int i = 0; i < 8; i++) {
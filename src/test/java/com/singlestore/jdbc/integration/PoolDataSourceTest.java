@@ -7,14 +7,21 @@ package com.singlestore.jdbc.integration;
 
 import static org.junit.jupiter.api.Assertions.*;
 
+import com.singlestore.jdbc.Configuration;
+import com.singlestore.jdbc.HostAddress;
 import com.singlestore.jdbc.SingleStorePoolDataSource;
+import com.singlestore.jdbc.integration.tools.TcpProxy;
 import com.singlestore.jdbc.pool.PoolThreadFactory;
 import com.singlestore.jdbc.pool.Pools;
 import java.lang.management.ManagementFactory;
 import java.sql.*;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -383,7 +390,7 @@ public class PoolDataSourceTest extends Common {
         ObjectName name = objectNames.iterator().next();
 
         MBeanInfo info = server.getMBeanInfo(name);
-        assertEquals(4, info.getAttributes().length);
+        assertEquals(8, info.getAttributes().length);
 
         checkJmxInfo(server, name, 1, 1, 0, 0);
 
@@ -409,7 +416,7 @@ public class PoolDataSourceTest extends Common {
         ObjectName name = objectNames.iterator().next();
 
         MBeanInfo info = server.getMBeanInfo(name);
-        assertEquals(4, info.getAttributes().length);
+        assertEquals(8, info.getAttributes().length);
 
         // wait to ensure pool has time to create 5 connections
         try {
@@ -455,6 +462,181 @@ public class PoolDataSourceTest extends Common {
     }
   }
 
+  @Test
+  public void testParallelWarmUp() throws Throwable {
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    ObjectName filter = new ObjectName("com.singlestore.jdbc.pool:type=testParallelWarmUp-*");
+    try (SingleStorePoolDataSource pool =
+        new SingleStorePoolDataSource(
+            mDefUrl
+                + "&maxPoolSize=10&minPoolSize=6&poolCreateConcurrency=4&poolName=testParallelWarmUp")) {
+      // minimal connections are created when pool starts
+      Set<ObjectName> objectNames = server.queryNames(filter, null);
+      ObjectName name = objectNames.iterator().next();
+      checkJmxInfo(server, name, 0, 6, 6, 0);
+
+      try (Connection connection = pool.getConnection()) {
+        connection.isValid(1);
+        checkJmxInfo(server, name, 1, 6, 5, 0);
+      }
+    }
+  }
+
+  @Test
+  public void testConcurrentCreators() throws Throwable {
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    ObjectName filter = new ObjectName("com.singlestore.jdbc.pool:type=testConcurrentCreators-*");
+    try (SingleStorePoolDataSource pool =
+        new SingleStorePoolDataSource(
+            mDefUrl
+                + "&maxPoolSize=4&minPoolSize=1&poolCreateConcurrency=8&poolName=testConcurrentCreators")) {
+      ObjectName name = server.queryNames(filter, null).iterator().next();
+
+      // 16 threads borrowing at the same time: creators race for the 3 remaining slots
+      ExecutorService exec = Executors.newFixedThreadPool(16);
+      List<Future<?>> futures = new ArrayList<>();
+      for (int i = 0; i < 64; i++) {
+        futures.add(
+            exec.submit(
+                () -> {
+                  try (Connection connection = pool.getConnection()) {
+                    connection.isValid(1);
+                    Thread.sleep(20);
+                  }
+                  return null;
+                }));
+      }
+      for (Future<?> future : futures) future.get(30, TimeUnit.SECONDS);
+      exec.shutdown();
+      Thread.sleep(200);
+
+      long total = (Long) server.getAttribute(name, "TotalConnections");
+      long idle = (Long) server.getAttribute(name, "IdleConnections");
+      long active = (Long) server.getAttribute(name, "ActiveConnections");
+      assertTrue(total <= 4);
+      assertEquals(total, idle + active);
+      assertEquals(0, active);
+
+      // pool capacity is intact: 4 connections can be borrowed at once
+      Connection[] cons = new Connection[4];
+      for (int i = 0; i < 4; i++) cons[i] = pool.getConnection();
+      checkJmxInfo(server, name, 4, 4, 0, 0);
+      for (Connection con : cons) con.close();
+    }
+  }
+
+  @Test
+  public void testAsyncReset() throws Throwable {
+    try (SingleStorePoolDataSource pool =
+        new SingleStorePoolDataSource(
+            mDefUrl + "&maxPoolSize=1&minPoolSize=1&poolAsyncReset&poolName=testAsyncReset")) {
+      long threadId;
+      int networkTimeout;
+      try (Connection connection = pool.getConnection()) {
+        networkTimeout = connection.getNetworkTimeout();
+        threadId = connection.unwrap(com.singlestore.jdbc.Connection.class).getThreadId();
+        connection.setAutoCommit(false);
+        connection.setNetworkTimeout(null, 2_000);
+        connection.createStatement().execute("SELECT 1");
+      }
+      // same connection, borrowed once reset is done
+      try (Connection connection = pool.getConnection()) {
+        assertEquals(
+            threadId, connection.unwrap(com.singlestore.jdbc.Connection.class).getThreadId());
+        assertTrue(connection.getAutoCommit());
+        assertEquals(networkTimeout, connection.getNetworkTimeout());
+      }
+    }
+  }
+
+  @Test
+  public void testAdaptiveSizing() throws Throwable {
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    ObjectName filter = new ObjectName("com.singlestore.jdbc.pool:type=testAdaptiveSizing-*");
+    try (SingleStorePoolDataSource pool =
+        new SingleStorePoolDataSource(
+            mDefUrl
+                + "&maxPoolSize=10&minPoolSize=2&poolAdaptiveSizing&poolName=testAdaptiveSizing")) {
+      ObjectName name = server.queryNames(filter, null).iterator().next();
+      assertEquals(2L, server.getAttribute(name, "TargetConnections"));
+
+      // all connections borrowed: pool grows before new requests have to wait
+      try (Connection con1 = pool.getConnection();
+          Connection con2 = pool.getConnection()) {
+        con1.isValid(1);
+        con2.isValid(1);
+        Thread.sleep(2_500);
+        assertTrue((Long) server.getAttribute(name, "TargetConnections") > 2);
+        assertTrue((Long) server.getAttribute(name, "TotalConnections") > 2);
+        assertTrue((Long) server.getAttribute(name, "Utilization") > 0);
+      }
+    }
+  }
+
+  @Test
+  public void testAdaptiveSizingSlowCreation() throws Throwable {
+    Configuration conf = Configuration.parse(mDefUrl);
+    HostAddress hostAddress = conf.addresses().get(0);
+    TcpProxy proxy = new TcpProxy(hostAddress.host, hostAddress.port);
+    String url = mDefUrl.replaceAll("//([^/]*)/", "//localhost:" + proxy.getLocalPort() + "/");
+    MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+    ObjectName filter = new ObjectName("com.singlestore.jdbc.pool:type=testSlowCreation-*");
+    try (SingleStorePoolDataSource pool =
+        new SingleStorePoolDataSource(
+            url
+                + "&maxPoolSize=20&minPoolSize=1&connectTimeout=30000"
+                + "&poolAdaptiveSizing&poolName=testSlowCreation")) {
+      ObjectName name = server.queryNames(filter, null).iterator().next();
+      try (Connection con = pool.getConnection()) {
+        con.isValid(1);
+        // pool is saturated, but connection creation takes seconds
+        proxy.setDelay(2000);
+        Thread.sleep(4_500);
+        // target is not raised again while previous growth is still being created
+        assertEquals(2L, server.getAttribute(name, "TargetConnections"));
+        proxy.removeDelay();
+      }
+    } finally {
+      proxy.stop();
+    }
+  }
+
+  @Test
+  public void testKeepAliveSkipsBorrowValidation() throws Throwable {
+    Configuration conf = Configuration.parse(mDefUrl);
+    HostAddress hostAddress = conf.addresses().get(0);
+    TcpProxy proxy = new TcpProxy(hostAddress.host, hostAddress.port);
+    String url = mDefUrl.replaceAll("//([^/]*)/", "//localhost:" + proxy.getLocalPort() + "/");
+    try {
+      // without background validation, borrow after poolValidMinDelay pings server
+      assertTrue(borrowMillis(proxy, url + "&maxPoolSize=1&poolValidMinDelay=0") >= 1000);
+      // connection used within keep-alive interval is borrowed without ping
+      assertTrue(
+          borrowMillis(
+                  proxy, url + "&maxPoolSize=1&poolValidMinDelay=0&poolKeepAliveInterval=60000")
+              < 1000);
+    } finally {
+      proxy.stop();
+    }
+  }
+
+  private long borrowMillis(TcpProxy proxy, String url) throws Exception {
+    try (SingleStorePoolDataSource pool = new SingleStorePoolDataSource(url)) {
+      try (Connection con = pool.getConnection()) {
+        con.isValid(1);
+      }
+      Thread.sleep(20);
+      // every packet sent to server is now delayed
+      proxy.setDelay(1000);
+      long start = System.nanoTime();
+      Connection con = pool.getConnection();
+      long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+      proxy.removeDelay();
+      con.close();
+      return elapsed;
+    }
+  }
+
   @Test
   public void testMinConnection() throws Throwable {
     MBeanServer server = ManagementFactory.getPlatformMBeanServer();
@@ -470,7 +652,7 @@ public class PoolDataSourceTest extends Common {
         ObjectName name = objectNames.iterator().next();
 
         MBeanInfo info = server.getMBeanInfo(name);
-        assertEquals(4, info.getAttributes().length);
+        assertEquals(8, info.getAttributes().length);
 
         // to ensure pool has time to create minimal connection number
         Thread.sleep(200);
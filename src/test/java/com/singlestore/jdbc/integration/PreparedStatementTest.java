@@ -7,11 +7,16 @@ package com.singlestore.jdbc.integration;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.singlestore.jdbc.ClientPreparedStatement;
 import com.singlestore.jdbc.Connection;
+import com.singlestore.jdbc.ServerPreparedStatement;
 import com.singlestore.jdbc.Statement;
+import com.singlestore.jdbc.export.Prepare;
 import java.sql.BatchUpdateException;
 import java.sql.ParameterMetaData;
 import java.sql.PreparedStatement;
@@ -1161,6 +1166,140 @@ public class PreparedStatementTest extends Common {
     }
   }
 
+  @Test
+  public void prepareThreshold() throws SQLException {
+    try (Connection con = createCon("&useServerPrepStmts=false&prepareThreshold=2")) {
+      for (int i = 0; i < 2; i++) {
+        try (PreparedStatement prep = con.prepareStatement("SELECT ?")) {
+          assertTrue(prep instanceof ClientPreparedStatement);
+          prep.setInt(1, i);
+          prep.execute();
+        }
+      }
+      for (int i = 0; i < 2; i++) {
+        try (PreparedStatement prep = con.prepareStatement("SELECT ?")) {
+          assertTrue(prep instanceof ServerPreparedStatement);
+          prep.setInt(1, i);
+          ResultSet rs = prep.executeQuery();
+          assertTrue(rs.next());
+          assertEquals(i, rs.getInt(1));
+        }
+      }
+      // other SQL is still client side prepared
+      assertTrue(con.prepareStatement("SELECT 1") instanceof ClientPreparedStatement);
+    }
+  }
+
+  @Test
+  public void prepareThresholdCache() throws SQLException {
+    try (Connection con = createCon("&useServerPrepStmts=false&prepareThreshold=1")) {
+      try (PreparedStatement prep = con.prepareStatement("SELECT ?")) {
+        prep.setInt(1, 0);
+        prep.execute();
+      }
+      // statement is prepared once, then PREPARE result is reused from cache
+      int statementId = -1;
+      for (int i = 0; i < 3; i++) {
+        try (PreparedStatement prep = con.prepareStatement("SELECT ?")) {
+          assertTrue(prep instanceof ServerPreparedStatement);
+          prep.setInt(1, i);
+          prep.execute();
+        }
+        Prepare prepare = con.getContext().getPrepareCache().get("SELECT ?", null);
+        Assertions.assertNotNull(prepare);
+        if (i == 0) statementId = prepare.getStatementId();
+        assertEquals(statementId, prepare.getStatementId());
+      }
+    }
+  }
+
+  @Test
+  public void pipelinePrepare() throws SQLException {
+    try (Connection con = createCon("&useServerPrepStmts&cachePrepStmts=false&pipelinePrepare")) {
+      try (PreparedStatement prep = con.prepareStatement("SELECT ?")) {
+        prep.setInt(1, 5);
+        ResultSet rs = prep.executeQuery();
+        assertTrue(rs.next());
+        assertEquals(5, rs.getInt(1));
+      }
+
+      // prepare error is reported, not the resulting execution error
+      try (PreparedStatement prep = con.prepareStatement("SELECT * FROM wrongTable WHERE a = ?")) {
+        prep.setInt(1, 5);
+        Common.assertThrowsContains(
+            SQLSyntaxErrorException.class, prep::executeQuery, "wrongTable");
+      }
+
+      try (PreparedStatement prep = con.prepareStatement("SELECT ?")) {
+        for (int i = 0; i < 3; i++) {
+          prep.setInt(1, i);
+          prep.addBatch();
+        }
+        assertEquals(3, prep.executeBatch().length);
+      }
+    }
+  }
+
+  @Test
+  public void statementCache() throws SQLException {
+    statementCache("&statementCacheSize=2&useServerPrepStmts=false");
+    statementCache("&statementCacheSize=2&useServerPrepStmts=true");
+  }
+
+  private void statementCache(String connString) throws SQLException {
+    try (Connection con = createCon(connString)) {
+      PreparedStatement prep = con.prepareStatement("SELECT ?");
+      assertTrue(prep.isPoolable());
+      prep.setInt(1, 5);
+      prep.setMaxRows(1);
+      ResultSet rs = prep.executeQuery();
+      prep.close();
+      assertTrue(rs.isClosed());
+      assertThrows(SQLException.class, () -> prep.setInt(1, 1));
+
+      // new statement reusing closed one, with reset settings
+      PreparedStatement prep2 = con.prepareStatement("SELECT ?");
+      assertNotSame(prep, prep2);
+      assertEquals(prep.getClass(), prep2.getClass());
+      assertEquals(0, prep2.getMaxRows());
+      assertThrows(SQLException.class, prep2::executeQuery);
+      prep2.setInt(1, 6);
+      rs = prep2.executeQuery();
+      assertTrue(rs.next());
+      assertEquals(6, rs.getInt(1));
+
+      // closed handle stays closed
+      assertTrue(prep.isClosed());
+      assertFalse(prep2.isClosed());
+      assertThrows(SQLException.class, () -> prep.setInt(1, 1));
+      assertThrows(SQLException.class, prep::executeQuery);
+      assertSame(prep2, rs.getStatement());
+
+      // open statement is not shared, other options use other statement
+      PreparedStatement prep3 = con.prepareStatement("SELECT ?");
+      assertNotSame(prep2, prep3);
+      prep3.close();
+      PreparedStatement prep4 = con.prepareStatement("SELECT ?", Statement.RETURN_GENERATED_KEYS);
+      assertNotSame(prep3, prep4);
+      prep4.close();
+      prep2.close();
+
+      // not poolable statement is really closed
+      PreparedStatement prep5 = con.prepareStatement("SELECT 1");
+      prep5.setPoolable(false);
+      prep5.close();
+      assertNotSame(prep5, con.prepareStatement("SELECT 1"));
+
+      // evicted statement is released
+      for (int i = 0; i < 10; i++) {
+        try (PreparedStatement p = con.prepareStatement("SELECT " + i)) {
+          p.execute();
+        }
+      }
+      assertNotSame(prep, con.prepareStatement("SELECT ?"));
+    }
+  }
+
   @Test
   public void prepareStatementConcur() throws SQLException {
     try (Connection con = createCon("&useServerPrepStmts=false")) {
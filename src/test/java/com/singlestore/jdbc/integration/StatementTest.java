@@ -528,7 +528,7 @@ public class StatementTest extends Common {
     Statement stmt = sharedConn.createStatement();
     assertFalse(stmt.isPoolable());
     stmt.setPoolable(true);
-    assertFalse(stmt.isPoolable());
+    assertTrue(stmt.isPoolable());
     assertFalse(stmt.isWrapperFor(String.class));
     assertFalse(stmt.isWrapperFor(null));
     assertTrue(stmt.isWrapperFor(Statement.class));
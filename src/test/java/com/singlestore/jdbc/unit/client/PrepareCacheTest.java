@@ -5,10 +5,14 @@
 
 package com.singlestore.jdbc.unit.client;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
+import com.singlestore.jdbc.client.impl.FrequencySketch;
 import com.singlestore.jdbc.client.impl.PrepareCache;
+import com.singlestore.jdbc.client.impl.PrepareCacheStats;
 import com.singlestore.jdbc.message.server.PrepareResultPacket;
 import org.junit.jupiter.api.Test;
 
@@ -30,4 +34,29 @@ public class PrepareCacheTest {
       assertTrue(s.getMessage().contains("not available method"));
     }
   }
+
+  @Test
+  public void frequencySketch() {
+    FrequencySketch sketch = new FrequencySketch(64);
+    int hot = "SELECT * FROM hot WHERE id = ?".hashCode();
+    for (int i = 0; i < 10; i++) sketch.increment(hot);
+    for (int i = 0; i < 200; i++) sketch.increment(("SELECT " + i).hashCode());
+    assertTrue(sketch.frequency(hot) >= 10);
+    assertTrue(sketch.frequency("SELECT 1000".hashCode()) < sketch.frequency(hot));
+
+    // counters are saturated to 15, and halved periodically
+    for (int i = 0; i < 100; i++) sketch.increment(hot);
+    assertEquals(15, sketch.frequency(hot));
+    for (int i = 0; i < 2000; i++) sketch.increment(("UPDATE " + i).hashCode());
+    assertTrue(sketch.frequency(hot) < 15);
+  }
+
+  @Test
+  public void stats() {
+    PrepareCache cache = new PrepareCache(20, true, null);
+    long misses = PrepareCacheStats.INSTANCE.getMisses();
+    assertNull(cache.get("SELECT 1", null));
+    assertNull(cache.get("SELECT 1", null));
+    assertEquals(misses + 2, PrepareCacheStats.INSTANCE.getMisses());
+  }
 }
@@ -0,0 +1,101 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2021-2023 SingleStore, Inc.
+
+package com.singlestore.jdbc.unit.client;
+
+import com.singlestore.jdbc.client.impl.StandardReadableByteBuf;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ReadableByteBufTest {
+
+  private static final String[] VALUES = {
+    "0",
+    "-0",
+    "1",
+    "-1",
+    "+12",
+    "0.1",
+    "-0.1",
+    "1.",
+    ".5",
+    "3.14159",
+    "-123.456",
+    "255.99",
+    "123456789012345678",
+    "-123456789012345678",
+    "1234567890123456789",
+    "9223372036854775807",
+    "-9223372036854775808",
+    "99999999999999999999.5",
+    "9007199254740993",
+    "0.000000000000000000001",
+    "1e10",
+    "1.5E-7",
+    "-2.5e+3",
+    "1e300",
+    "4.9e-324",
+    "16777217",
+    "0.30000000000000004"
+  };
+
+  private static StandardReadableByteBuf buf(String value) {
+    // value surrounded by other data
+    byte[] arr = ("x" + value + "x").getBytes(StandardCharsets.US_ASCII);
+    StandardReadableByteBuf buf = new StandardReadableByteBuf(arr, arr.length);
+    buf.pos(1);
+    return buf;
+  }
+
+  @Test
+  public void parseFloatingPoint() {
+    for (String value : VALUES) {
+      StandardReadableByteBuf buf = buf(value);
+      Assertions.assertEquals(Double.parseDouble(value), buf.atod(value.length()), value);
+      Assertions.assertEquals(value.length() + 1, buf.pos());
+
+      buf = buf(value);
+      Assertions.assertEquals(Float.parseFloat(value), buf.atof(value.length()), value);
+      Assertions.assertEquals(value.length() + 1, buf.pos());
+    }
+  }
+
+  @Test
+  public void parseDecimal() {
+    for (String value : VALUES) {
+      StandardReadableByteBuf buf = buf(value);
+      Assertions.assertEquals(new BigDecimal(value), buf.readDecimal(value.length()), value);
+      Assertions.assertEquals(value.length() + 1, buf.pos());
+    }
+  }
+
+  @Test
+  public void parseTruncatedLong() {
+    for (String value : VALUES) {
+      StandardReadableByteBuf buf = buf(value);
+      long expected;
+      try {
+        expected = new BigDecimal(value).setScale(0, RoundingMode.DOWN).longValueExact();
+      } catch (ArithmeticException e) {
+        Assertions.assertThrows(
+            ArithmeticException.class, () -> buf.atollTruncated(value.length()), value);
+        continue;
+      }
+      Assertions.assertEquals(expected, buf.atollTruncated(value.length()), value);
+      Assertions.assertEquals(value.length() + 1, buf.pos());
+    }
+  }
+
+  @Test
+  public void wrongFormat() {
+    for (String value : new String[] {"", "-", ".", "a1", "1a", "1..2", "1e", "1e+", "0x10"}) {
+      Assertions.assertThrows(
+          NumberFormatException.class, () -> buf(value).atollTruncated(value.length()), value);
+      Assertions.assertThrows(
+          NumberFormatException.class, () -> buf(value).readDecimal(value.length()), value);
+    }
+  }
+}
@@ -0,0 +1,138 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2021-2023 SingleStore, Inc.
+
+package com.singlestore.jdbc.unit.client.result;
+
+import static com.singlestore.jdbc.client.result.Result.NULL_LENGTH;
+
+import com.singlestore.jdbc.client.ColumnDecoder;
+import com.singlestore.jdbc.client.DataType;
+import com.singlestore.jdbc.client.impl.StandardReadableByteBuf;
+import com.singlestore.jdbc.client.result.rowdecoder.BinaryRowDecoder;
+import com.singlestore.jdbc.client.result.rowdecoder.DecodePlan;
+import com.singlestore.jdbc.client.result.rowdecoder.TextRowDecoder;
+import com.singlestore.jdbc.client.util.MutableInt;
+import com.singlestore.jdbc.util.constants.ColumnFlags;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class RowDecoderTest {
+
+  @Test
+  public void textOutOfOrderAccess() {
+    // row stored at offset 5 of a shared array: "a", NULL, "bcd"
+    byte[] arr = {9, 9, 9, 9, 9, 1, 'a', (byte) 251, 3, 'b', 'c', 'd', 9};
+    ColumnDecoder[] columns = {
+      ColumnDecoder.create("c1", DataType.VARCHAR, 0),
+      ColumnDecoder.create("c2", DataType.VARCHAR, 0),
+      ColumnDecoder.create("c3", DataType.VARCHAR, 0)
+    };
+    StandardReadableByteBuf rowBuf = new StandardReadableByteBuf(null, 0);
+    rowBuf.slice(arr, 5, 12);
+    MutableInt fieldIndex = new MutableInt();
+    int[] offsets = new int[4];
+    TextRowDecoder decoder = new TextRowDecoder();
+
+    Assertions.assertEquals(
+        3, decoder.setPosition(2, fieldIndex, 3, rowBuf, null, columns, offsets));
+    Assertions.assertEquals('b', rowBuf.readByte());
+    Assertions.assertEquals(0, offsets[3]);
+
+    // going back computes all offsets
+    Assertions.assertEquals(
+        1, decoder.setPosition(0, fieldIndex, 3, rowBuf, null, columns, offsets));
+    Assertions.assertEquals('a', rowBuf.readByte());
+    Assertions.assertEquals(1, offsets[3]);
+    Assertions.assertEquals(
+        NULL_LENGTH, decoder.setPosition(1, fieldIndex, 3, rowBuf, null, columns, offsets));
+    Assertions.assertEquals(
+        3, decoder.setPosition(2, fieldIndex, 3, rowBuf, null, columns, offsets));
+    Assertions.assertEquals('b', rowBuf.readByte());
+    Assertions.assertEquals(2, fieldIndex.get());
+  }
+
+  @Test
+  public void binaryOutOfOrderAccess() {
+    // row stored at offset 2: header, null-bitmap, INT 7, NULL BIGINT, VARCHAR "xy"
+    byte[] arr = {9, 9, 0, 0x08, 7, 0, 0, 0, 2, 'x', 'y'};
+    ColumnDecoder[] columns = {
+      ColumnDecoder.create("c1", DataType.INT, 0),
+      ColumnDecoder.create("c2", DataType.BIGINT, 0),
+      ColumnDecoder.create("c3", DataType.VARCHAR, 0)
+    };
+    StandardReadableByteBuf rowBuf = new StandardReadableByteBuf(null, 0);
+    rowBuf.slice(arr, 2, arr.length);
+    MutableInt fieldIndex = new MutableInt();
+    byte[] nullBitmap = new byte[1];
+    int[] offsets = new int[4];
+    BinaryRowDecoder decoder = new BinaryRowDecoder();
+
+    Assertions.assertEquals(
+        2, decoder.setPosition(2, fieldIndex, 3, rowBuf, nullBitmap, columns, offsets));
+    Assertions.assertEquals('x', rowBuf.readByte());
+    Assertions.assertEquals(
+        4, decoder.setPosition(0, fieldIndex, 3, rowBuf, nullBitmap, columns, offsets));
+    Assertions.assertEquals(7, rowBuf.readInt());
+    Assertions.assertEquals(
+        NULL_LENGTH, decoder.setPosition(1, fieldIndex, 3, rowBuf, nullBitmap, columns, offsets));
+    Assertions.assertEquals(
+        2, decoder.setPosition(2, fieldIndex, 3, rowBuf, nullBitmap, columns, offsets));
+    Assertions.assertEquals('x', rowBuf.readByte());
+  }
+
+  @Test
+  public void decodePlanLikeColumnDecoder() throws SQLException {
+    ColumnDecoder[] columns = {
+      ColumnDecoder.create("c1", DataType.TINYINT, 0),
+      ColumnDecoder.create("c2", DataType.INT, ColumnFlags.UNSIGNED),
+      ColumnDecoder.create("c3", DataType.BIGINT, 0),
+      ColumnDecoder.create("c4", DataType.DOUBLE, 0),
+      ColumnDecoder.create("c5", DataType.DECIMAL, 0),
+      ColumnDecoder.create("c6", DataType.VARCHAR, 0),
+      ColumnDecoder.create("c7", DataType.YEAR, 0),
+      ColumnDecoder.create("c8", DataType.BLOB, 0)
+    };
+    String[] values = {"-12", "4294967295", "-9000000000", "3.5", "12.75", "42", "2023", "7"};
+    DecodePlan plan = new DecodePlan(columns, false);
+    MutableInt length = new MutableInt();
+    for (int i = 0; i < columns.length; i++) {
+      byte[] arr = values[i].getBytes(StandardCharsets.US_ASCII);
+      length.set(arr.length);
+      StandardReadableByteBuf buf = new StandardReadableByteBuf(arr, arr.length);
+      StandardReadableByteBuf expected = new StandardReadableByteBuf(arr, arr.length);
+      Assertions.assertEquals(
+          columns[i].decodeStringText(expected, length, null), plan.decodeString(i, buf, length));
+      buf.pos(0);
+      expected.pos(0);
+      Assertions.assertEquals(
+          columns[i].decodeLongText(expected, length), plan.decodeLong(i, buf, length));
+      buf.pos(0);
+      expected.pos(0);
+      Assertions.assertEquals(
+          columns[i].decodeDoubleText(expected, length), plan.decodeDouble(i, buf, length));
+      buf.pos(0);
+      expected.pos(0);
+      Assertions.assertEquals(
+          columns[i].decodeFloatText(expected, length), plan.decodeFloat(i, buf, length));
+      Assertions.assertEquals(expected.pos(), buf.pos());
+    }
+
+    // value out of int range fails the same way
+    byte[] arr = values[2].getBytes(StandardCharsets.US_ASCII);
+    length.set(arr.length);
+    Assertions.assertThrows(
+        SQLException.class,
+        () -> plan.decodeInt(2, new StandardReadableByteBuf(arr, arr.length), length));
+
+    // binary rows
+    DecodePlan binaryPlan = new DecodePlan(columns, true);
+    byte[] intValue = {(byte) 0xff, (byte) 0xff, (byte) 0xff, (byte) 0xff};
+    length.set(4);
+    Assertions.assertEquals(
+        4294967295L, binaryPlan.decodeLong(1, new StandardReadableByteBuf(intValue, 4), length));
+    Assertions.assertEquals(
+        "4294967295", binaryPlan.decodeString(1, new StandardReadableByteBuf(intValue, 4), length));
+  }
+}
@@ -0,0 +1,90 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2021-2023 SingleStore, Inc.
+
+package com.singlestore.jdbc.unit.client.socket;
+
+import com.singlestore.jdbc.client.socket.impl.ChannelInputStream;
+import com.singlestore.jdbc.client.socket.impl.ChannelOutputStream;
+import com.singlestore.jdbc.client.socket.impl.ChannelSelector;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketTimeoutException;
+import java.nio.channels.SocketChannel;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class ChannelStreamTest {
+
+  @Test
+  public void exchange() throws IOException {
+    try (ServerSocket server = new ServerSocket(0, 1, InetAddress.getLoopbackAddress())) {
+      SocketChannel channel =
+          SocketChannel.open(
+              new InetSocketAddress(InetAddress.getLoopbackAddress(), server.getLocalPort()));
+      // peer is closed during test, to check end of stream
+      Socket peer = server.accept();
+      try {
+        ChannelSelector selector = new ChannelSelector(channel);
+        OutputStream out = new ChannelOutputStream(selector);
+        InputStream in = new ChannelInputStream(selector);
+
+        // small write stays buffered until flush, big write is sent with buffered data
+        byte[] big = new byte[100_000];
+        for (int i = 0; i < big.length; i++) big[i] = (byte) i;
+        out.write(new byte[] {1, 2, 3}, 0, 3);
+        out.write(big, 0, big.length);
+        out.write(4);
+        out.flush();
+
+        byte[] received = new byte[big.length + 4];
+        readFully(peer.getInputStream(), received);
+        Assertions.assertEquals(1, received[0]);
+        Assertions.assertEquals(3, received[2]);
+        for (int i = 0; i < big.length; i++) {
+          Assertions.assertEquals(big[i], received[i + 3]);
+        }
+        Assertions.assertEquals(4, received[received.length - 1]);
+
+        // echo back, reading small and big chunks
+        peer.getOutputStream().write(received);
+        byte[] small = new byte[3];
+        readFully(in, small);
+        Assertions.assertArrayEquals(new byte[] {1, 2, 3}, small);
+        Assertions.assertEquals(10, in.skip(10));
+        byte[] remaining = new byte[big.length - 10];
+        readFully(in, remaining);
+        for (int i = 0; i < remaining.length; i++) {
+          Assertions.assertEquals(big[i + 10], remaining[i]);
+        }
+        Assertions.assertEquals(4, in.read());
+
+        // socket timeout is respected
+        channel.socket().setSoTimeout(50);
+        Assertions.assertThrows(SocketTimeoutException.class, () -> in.read(small, 0, 3));
+
+        // end of stream
+        peer.close();
+        channel.socket().setSoTimeout(0);
+        Assertions.assertEquals(-1, in.read(small, 0, 3));
+        in.close();
+        Assertions.assertFalse(channel.isOpen());
+      } finally {
+        peer.close();
+      }
+    }
+  }
+
+  private static void readFully(InputStream in, byte[] arr) throws IOException {
+    int off = 0;
+    while (off < arr.length) {
+      int read = in.read(arr, off, arr.length - off);
+      if (read < 0) throw new IOException("unexpected end of stream");
+      off += read;
+    }
+  }
+}
@@ -0,0 +1,99 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2021-2023 SingleStore, Inc.
+
+package com.singlestore.jdbc.unit.client.socket;
+
+import com.singlestore.jdbc.Configuration;
+import com.singlestore.jdbc.client.socket.impl.PacketReader;
+import com.singlestore.jdbc.client.util.MutableByte;
+import com.singlestore.jdbc.client.util.RowSlab;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.sql.SQLException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class PacketReaderTest {
+
+  @Test
+  public void readIntoSlab() throws IOException, SQLException {
+    int[] lengths = {1, 10, 200, 300, 5000, 20, 2_000_000, 7};
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    for (int i = 0; i < lengths.length; i++) {
+      writePacket(out, lengths[i], i);
+    }
+
+    PacketReader reader =
+        new PacketReader(
+            new ByteArrayInputStream(out.toByteArray()),
+            Configuration.parse("jdbc:singlestore://localhost/"),
+            new MutableByte());
+    RowSlab slab = new RowSlab();
+    long[] positions = new long[lengths.length];
+    for (int i = 0; i < lengths.length; i++) {
+      Assertions.assertEquals(lengths[i], reader.readPacket(slab, false));
+      Assertions.assertEquals(lengths[i], slab.rowLength());
+      positions[i] = slab.endRow();
+    }
+
+    // rows stay valid when following rows need a new chunk
+    for (int i = 0; i < lengths.length; i++) {
+      byte[] row = slab.copy(positions[i], lengths[i]);
+      for (int j = 0; j < row.length; j++) {
+        Assertions.assertEquals((byte) (i + j), row[j]);
+      }
+    }
+
+    long pos = slab.append(new byte[] {1, 2, 3});
+    Assertions.assertArrayEquals(new byte[] {1, 2, 3}, slab.copy(pos, 3));
+  }
+
+  @Test
+  public void recycleSlab() throws IOException, SQLException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    for (int i = 0; i < 200; i++) {
+      writePacket(out, 50, i);
+    }
+    PacketReader reader =
+        new PacketReader(
+            new ByteArrayInputStream(out.toByteArray()),
+            Configuration.parse("jdbc:singlestore://localhost/"),
+            new MutableByte());
+    RowSlab slab = new RowSlab();
+    for (int i = 0; i < 100; i++) {
+      reader.readPacket(slab, false);
+      slab.endRow();
+    }
+    byte[] firstChunk = slab.chunk(0);
+
+    // second window is written over first one, without new chunk
+    slab.recycle();
+    long[] positions = new long[100];
+    for (int i = 0; i < 100; i++) {
+      reader.readPacket(slab, false);
+      positions[i] = slab.endRow();
+    }
+    Assertions.assertSame(firstChunk, slab.chunk(0));
+    for (int i = 0; i < 100; i++) {
+      byte[] row = slab.copy(positions[i], 50);
+      for (int j = 0; j < row.length; j++) {
+        Assertions.assertEquals((byte) (100 + i + j), row[j]);
+      }
+    }
+
+    slab.reset();
+    slab.append(new byte[] {1});
+    Assertions.assertNotSame(firstChunk, slab.chunk(0));
+  }
+
+  private static void writePacket(ByteArrayOutputStream out, int length, int seed) {
+    out.write(length);
+    out.write(length >>> 8);
+    out.write(length >>> 16);
+    out.write(0);
+    for (int j = 0; j < length; j++) {
+      out.write(seed + j);
+    }
+  }
+}
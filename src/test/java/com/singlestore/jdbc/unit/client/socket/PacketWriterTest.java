@@ -6,7 +6,28 @@
 package com.singlestore.jdbc.unit.client.socket;
 
 import com.singlestore.jdbc.client.socket.impl.PacketWriter;
+import com.singlestore.jdbc.client.util.MutableByte;
+import com.singlestore.jdbc.client.util.Parameter;
+import com.singlestore.jdbc.codec.BooleanParameter;
+import com.singlestore.jdbc.codec.ByteParameter;
+import com.singlestore.jdbc.codec.DoubleParameter;
+import com.singlestore.jdbc.codec.FloatParameter;
+import com.singlestore.jdbc.codec.IntParameter;
+import com.singlestore.jdbc.codec.LongParameter;
+import com.singlestore.jdbc.codec.NonNullParameter;
+import com.singlestore.jdbc.codec.ShortParameter;
+import com.singlestore.jdbc.message.client.ClosePreparePacket;
+import com.singlestore.jdbc.plugin.codec.BooleanCodec;
+import com.singlestore.jdbc.plugin.codec.ByteCodec;
+import com.singlestore.jdbc.plugin.codec.DoubleCodec;
+import com.singlestore.jdbc.plugin.codec.FloatCodec;
+import com.singlestore.jdbc.plugin.codec.IntCodec;
+import com.singlestore.jdbc.plugin.codec.LongCodec;
+import com.singlestore.jdbc.plugin.codec.ShortCodec;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.sql.SQLException;
+import java.util.Arrays;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -27,4 +48,126 @@ public class PacketWriterTest {
       Assertions.assertEquals('a' + i, pw.buf()[i + 8194]);
     }
   }
+
+  @Test
+  public void pipelineFlush() throws IOException {
+    int[] flushes = new int[1];
+    ByteArrayOutputStream out =
+        new ByteArrayOutputStream() {
+          @Override
+          public void flush() {
+            flushes[0]++;
+          }
+        };
+    MutableByte sequence = new MutableByte();
+    PacketWriter pw = new PacketWriter(out, 0, 0xffffff, sequence, new MutableByte());
+
+    pw.startPipeline();
+    for (int i = 0; i < 3; i++) {
+      pw.initPacket();
+      pw.writeByte(0x03);
+      pw.writeAscii("DO 1");
+      pw.flush();
+    }
+    Assertions.assertEquals(0, flushes[0]);
+    Assertions.assertEquals(3 * 9, out.size());
+    Assertions.assertEquals(3 * 9, pw.getWrittenLength());
+
+    pw.endPipeline();
+    Assertions.assertEquals(1, flushes[0]);
+
+    pw.initPacket();
+    pw.writeByte(0x0e);
+    pw.flush();
+    Assertions.assertEquals(2, flushes[0]);
+    Assertions.assertEquals(3 * 9 + 5, out.size());
+    Assertions.assertEquals(3 * 9 + 5, pw.getWrittenLength());
+  }
+
+  @Test
+  public void deferredClosePrepare() throws IOException {
+    int[] flushes = new int[1];
+    ByteArrayOutputStream out =
+        new ByteArrayOutputStream() {
+          @Override
+          public void flush() {
+            flushes[0]++;
+          }
+        };
+    PacketWriter pw = new PacketWriter(out, 0, 0xffffff, new MutableByte(), new MutableByte());
+
+    ClosePreparePacket.encodeDeferred(pw, 1);
+    ClosePreparePacket.encodeDeferred(pw, 2);
+    Assertions.assertEquals(0, flushes[0]);
+    Assertions.assertEquals(2 * 9, out.size());
+
+    // sent with next command
+    pw.initPacket();
+    pw.writeByte(0x0e);
+    pw.flush();
+    Assertions.assertEquals(1, flushes[0]);
+    byte[] sent = out.toByteArray();
+    Assertions.assertEquals(2 * 9 + 5, sent.length);
+    Assertions.assertArrayEquals(
+        new byte[] {5, 0, 0, 0, 0x19, 2, 0, 0, 0}, Arrays.copyOfRange(sent, 9, 18));
+  }
+
+  @Test
+  public void writeAsciiLong() throws IOException {
+    long[] values = {0, 7, -7, 10, 99, -100, Integer.MAX_VALUE, Long.MAX_VALUE, Long.MIN_VALUE};
+    for (long value : values) {
+      PacketWriter pw = new PacketWriter(null, 0, 0xffffff, null, null);
+      pw.writeAscii(value);
+      Assertions.assertEquals(
+          Long.toString(value), new String(pw.buf(), 4, pw.pos() - 4), Long.toString(value));
+    }
+  }
+
+  @Test
+  public void primitiveParameters() throws IOException, SQLException {
+    Parameter[][] params = {
+      {BooleanParameter.TRUE, new NonNullParameter<>(BooleanCodec.INSTANCE, true)},
+      {BooleanParameter.FALSE, new NonNullParameter<>(BooleanCodec.INSTANCE, false)},
+      {new ByteParameter((byte) -128), new NonNullParameter<>(ByteCodec.INSTANCE, (byte) -128)},
+      {new ShortParameter((short) 1234), new NonNullParameter<>(ShortCodec.INSTANCE, (short) 1234)},
+      {new IntParameter(-56789), new NonNullParameter<>(IntCodec.INSTANCE, -56789)},
+      {
+        new LongParameter(Long.MIN_VALUE),
+        new NonNullParameter<>(LongCodec.INSTANCE, Long.MIN_VALUE)
+      },
+      {new IntParameter(0), new NonNullParameter<>(IntCodec.INSTANCE, 0)},
+      {
+        new LongParameter(Long.MAX_VALUE),
+        new NonNullParameter<>(LongCodec.INSTANCE, Long.MAX_VALUE)
+      },
+      {
+        new FloatParameter(-1.17549435E-38f),
+        new NonNullParameter<>(FloatCodec.INSTANCE, -1.17549435E-38f)
+      },
+      {new DoubleParameter(1.5e-7), new NonNullParameter<>(DoubleCodec.INSTANCE, 1.5e-7)},
+      {
+        new DoubleParameter(-Double.MIN_NORMAL),
+        new NonNullParameter<>(DoubleCodec.INSTANCE, -Double.MIN_NORMAL)
+      }
+    };
+    for (Parameter[] pair : params) {
+      PacketWriter expected = new PacketWriter(null, 0, 0xffffff, null, null);
+      PacketWriter pw = new PacketWriter(null, 0, 0xffffff, null, null);
+      pair[1].encodeText(expected, null);
+      pair[0].encodeText(pw, null);
+      // used to split rewritten batches under max_allowed_packet: must not be under text length
+      int textLength = pw.pos() - 4;
+      Assertions.assertTrue(pair[0].getApproximateTextProtocolLength() >= textLength);
+      if (!(pair[0] instanceof DoubleParameter || pair[0] instanceof FloatParameter)) {
+        Assertions.assertEquals(textLength, pair[0].getApproximateTextProtocolLength());
+      }
+      pair[1].encodeBinary(expected);
+      pair[0].encodeBinary(pw);
+      Assertions.assertArrayEquals(
+          Arrays.copyOf(expected.buf(), expected.pos()), Arrays.copyOf(pw.buf(), pw.pos()));
+      Assertions.assertEquals(pair[1].getBinaryEncodeType(), pair[0].getBinaryEncodeType());
+      Assertions.assertEquals(
+          pair[1].bestEffortStringValue(null), pair[0].bestEffortStringValue(null));
+    }
+  }
 }
@@ -0,0 +1,74 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2021-2023 SingleStore, Inc.
+
+package com.singlestore.jdbc.unit.client.util;
+
+import com.singlestore.jdbc.Configuration;
+import com.singlestore.jdbc.client.ColumnDecoder;
+import com.singlestore.jdbc.client.DataType;
+import com.singlestore.jdbc.client.util.CodecDispatcher;
+import com.singlestore.jdbc.plugin.Codec;
+import com.singlestore.jdbc.util.constants.ColumnFlags;
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class CodecDispatcherTest {
+
+  private static Codec<?> scanDecoder(Codec<?>[] codecs, ColumnDecoder column, Class<?> type) {
+    for (Codec<?> codec : codecs) {
+      if (codec.canDecode(column, type)) return codec;
+    }
+    return null;
+  }
+
+  private static Codec<?> scanEncoder(Codec<?>[] codecs, Object value) {
+    for (Codec<?> codec : codecs) {
+      if (codec.canEncode(value)) return codec;
+    }
+    return null;
+  }
+
+  @Test
+  public void sameCodecAsScan() throws SQLException {
+    Codec<?>[] codecs = Configuration.parse("jdbc:singlestore://localhost/").codecs();
+    CodecDispatcher dispatcher = new CodecDispatcher(codecs);
+    ColumnDecoder[] columns = {
+      ColumnDecoder.create("c1", DataType.INT, 0),
+      ColumnDecoder.create("c2", DataType.INT, ColumnFlags.UNSIGNED),
+      ColumnDecoder.create("c3", DataType.VARCHAR, 0),
+      ColumnDecoder.create("c4", DataType.DATETIME, 0),
+      ColumnDecoder.create("c5", DataType.BLOB, 0)
+    };
+    Class<?>[] types = {
+      int.class,
+      Long.class,
+      String.class,
+      BigDecimal.class,
+      Timestamp.class,
+      LocalDateTime.class,
+      byte[].class,
+      Number.class,
+      Thread.class
+    };
+    // second round is served from cache
+    for (int round = 0; round < 2; round++) {
+      for (ColumnDecoder column : columns) {
+        for (Class<?> type : types) {
+          Assertions.assertSame(
+              scanDecoder(codecs, column, type), dispatcher.decoder(column, type), type.getName());
+        }
+      }
+      for (Object value :
+          new Object[] {1, 2L, "a", BigDecimal.ONE, new Date(0), new java.util.Date(0), this}) {
+        Assertions.assertSame(scanEncoder(codecs, value), dispatcher.encoder(value));
+      }
+    }
+    Assertions.assertNull(dispatcher.decoder(columns[0], Thread.class));
+    Assertions.assertNull(dispatcher.encoder(this));
+  }
+}
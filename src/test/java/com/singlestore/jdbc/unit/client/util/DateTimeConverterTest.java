@@ -0,0 +1,74 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2021-2023 SingleStore, Inc.
+
+package com.singlestore.jdbc.unit.client.util;
+
+import com.singlestore.jdbc.client.util.DateTimeConverter;
+import java.time.LocalDate;
+import java.util.Calendar;
+import java.util.GregorianCalendar;
+import java.util.TimeZone;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class DateTimeConverterTest {
+
+  @Test
+  public void civilDate() {
+    for (long epochDay = LocalDate.of(1, 1, 1).toEpochDay();
+        epochDay < LocalDate.of(9999, 12, 31).toEpochDay();
+        epochDay += 17) {
+      LocalDate date = LocalDate.ofEpochDay(epochDay);
+      Assertions.assertEquals(
+          epochDay,
+          DateTimeConverter.epochDay(date.getYear(), date.getMonthValue(), date.getDayOfMonth()));
+      Assertions.assertEquals(
+          date.getYear() * 10000 + date.getMonthValue() * 100 + date.getDayOfMonth(),
+          DateTimeConverter.civilDate(epochDay));
+    }
+  }
+
+  @Test
+  public void epochMillisLikeCalendar() {
+    for (String zone :
+        new String[] {"UTC", "Europe/Paris", "America/New_York", "Australia/Lord_Howe", "GMT+5"}) {
+      Calendar cal = new GregorianCalendar(TimeZone.getTimeZone(zone));
+      Calendar reference = new GregorianCalendar(TimeZone.getTimeZone(zone));
+      // every 37 minutes from 1960 to 2040, including DST transitions
+      for (long millis = -315_619_200_000L; millis < 2_208_988_800_000L; millis += 2_220_000L) {
+        long local = DateTimeConverter.localMillis(cal, millis);
+        int date = DateTimeConverter.localDate(local);
+        int secondOfDay = DateTimeConverter.localSecondOfDay(local);
+        int year = date / 10000;
+        int month = date / 100 % 100;
+        int day = date % 100;
+        int hour = secondOfDay / 3600;
+        int minute = secondOfDay / 60 % 60;
+        int second = secondOfDay % 60;
+
+        reference.setTimeInMillis(millis);
+        Assertions.assertEquals(reference.get(Calendar.YEAR), year);
+        Assertions.assertEquals(reference.get(Calendar.MONTH) + 1, month);
+        Assertions.assertEquals(reference.get(Calendar.DAY_OF_MONTH), day);
+        Assertions.assertEquals(reference.get(Calendar.HOUR_OF_DAY), hour);
+
+        reference.clear();
+        reference.set(year, month - 1, day, hour, minute, second);
+        Assertions.assertEquals(
+            reference.getTimeInMillis(),
+            DateTimeConverter.epochMillis(cal, year, month, day, hour, minute, second),
+            zone + " " + date + " " + secondOfDay);
+      }
+
+      // DST gap and out of range values are resolved like Calendar
+      int[][] values = {{2021, 3, 28, 2, 30, 0}, {2021, 3, 14, 2, 30, 0}, {1500, 2, 29, 0, 0, 0}};
+      for (int[] v : values) {
+        reference.clear();
+        reference.set(v[0], v[1] - 1, v[2], v[3], v[4], v[5]);
+        Assertions.assertEquals(
+            reference.getTimeInMillis(),
+            DateTimeConverter.epochMillis(cal, v[0], v[1], v[2], v[3], v[4], v[5]));
+      }
+    }
+  }
+}
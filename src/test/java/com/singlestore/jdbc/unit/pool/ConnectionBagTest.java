@@ -0,0 +1,100 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2021-2023 SingleStore, Inc.
+
+package com.singlestore.jdbc.unit.pool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.singlestore.jdbc.pool.ConnectionBag;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+public class ConnectionBagTest {
+
+  @Test
+  public void borrowAndReturn() throws Exception {
+    ConnectionBag<Item> bag = new ConnectionBag<>();
+    Item a = new Item();
+    Item b = new Item();
+    bag.add(a);
+    bag.add(b);
+    assertEquals(2, bag.getCount(ConnectionBag.NOT_IN_USE));
+
+    Item first = bag.borrow(0, TimeUnit.SECONDS);
+    Item second = bag.borrow(0, TimeUnit.SECONDS);
+    assertTrue(first != second);
+    assertNull(bag.borrow(0, TimeUnit.SECONDS));
+    assertEquals(2, bag.getCount(ConnectionBag.IN_USE));
+
+    // last returned by this thread is borrowed first
+    bag.requite(first);
+    bag.requite(second);
+    assertSame(second, bag.borrow(0, TimeUnit.SECONDS));
+
+    // reserved entry cannot be borrowed
+    assertTrue(bag.reserve(first));
+    assertNull(bag.borrow(0, TimeUnit.SECONDS));
+    bag.unreserve(first);
+    assertSame(first, bag.borrow(0, TimeUnit.SECONDS));
+    bag.requite(first);
+    assertTrue(bag.reserve(first));
+    assertTrue(bag.remove(first));
+    assertFalse(bag.remove(first));
+    assertEquals(1, bag.values(ConnectionBag.IN_USE).size());
+    assertEquals(0, bag.values(ConnectionBag.NOT_IN_USE).size());
+  }
+
+  @Test
+  public void handoff() throws Exception {
+    ConnectionBag<Item> bag = new ConnectionBag<>();
+    Item item = new Item();
+    bag.add(item);
+    assertSame(item, bag.borrow(0, TimeUnit.SECONDS));
+
+    ExecutorService executor = Executors.newSingleThreadExecutor();
+    try {
+      CountDownLatch started = new CountDownLatch(1);
+      Future<Item> waiting =
+          executor.submit(
+              () -> {
+                started.countDown();
+                return bag.borrow(10, TimeUnit.SECONDS);
+              });
+      started.await();
+      while (bag.getWaiters() == 0) Thread.sleep(1);
+      bag.requite(item);
+      assertSame(item, waiting.get(10, TimeUnit.SECONDS));
+      assertEquals(ConnectionBag.IN_USE, item.getState());
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  private static final class Item implements ConnectionBag.Entry {
+    private final AtomicInteger state = new AtomicInteger();
+
+    @Override
+    public int getState() {
+      return state.get();
+    }
+
+    @Override
+    public void setState(int state) {
+      this.state.set(state);
+    }
+
+    @Override
+    public boolean compareAndSetState(int expect, int update) {
+      return state.compareAndSet(expect, update);
+    }
+  }
+}
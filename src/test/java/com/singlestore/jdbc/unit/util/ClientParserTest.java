@@ -8,6 +8,8 @@ package com.singlestore.jdbc.unit.util;
 import static org.junit.jupiter.api.Assertions.*;
 
 import com.singlestore.jdbc.util.ClientParser;
+import com.singlestore.jdbc.util.NativeSql;
+import com.singlestore.jdbc.util.ParseCache;
 import com.singlestore.jdbc.util.RewriteClientParser;
 import java.nio.charset.StandardCharsets;
 import org.junit.jupiter.api.Test;
@@ -181,4 +183,44 @@ public class ClientParserTest {
                 "REPLACE INTO TEST(t0, t1) VALUES (LAST_INSERT_ID(), ?)")
             .isQueryMultiValuesRewritable());
   }
+
+  @Test
+  public void multiRowSql() {
+    RewriteClientParser parser =
+        RewriteClientParser.rewritableParts(
+            "INSERT INTO t(a, b) VALUES (?, 5, ?) ON DUPLICATE KEY UPDATE b = 1");
+    assertEquals(
+        "INSERT INTO t(a, b) VALUES (?, 5, ?) ON DUPLICATE KEY UPDATE b = 1",
+        parser.multiRowSql(1));
+    assertEquals(
+        "INSERT INTO t(a, b) VALUES (?, 5, ?), (?, 5, ?), (?, 5, ?) ON DUPLICATE KEY UPDATE b = 1",
+        parser.multiRowSql(3));
+  }
+
+  @Test
+  public void parseCache() throws Exception {
+    String sql = "SELECT * FROM cached_parse_test WHERE a = ? AND b = ?";
+    long misses = ParseCache.CLIENT_PARSER.getMissCount();
+    long hits = ParseCache.CLIENT_PARSER.getHitCount();
+    ClientParser parser = ClientParser.parameterParts(sql);
+    assertSame(parser, ClientParser.parameterParts(sql));
+    assertEquals(misses + 1, ParseCache.CLIENT_PARSER.getMissCount());
+    assertEquals(hits + 1, ParseCache.CLIENT_PARSER.getHitCount());
+    assertEquals(2, parser.getParamCount());
+    assertThrows(UnsupportedOperationException.class, () -> parser.getParamPositions().add(0));
+
+    String insert = "INSERT INTO cached_parse_test(a) VALUES (?)";
+    assertSame(
+        RewriteClientParser.rewritableParts(insert), RewriteClientParser.rewritableParts(insert));
+
+    String escaped = "SELECT {fn cached_parse_test()}";
+    assertEquals(NativeSql.parse(escaped, null), NativeSql.parse(escaped, null));
+    assertTrue(ParseCache.NATIVE_SQL.getHitCount() > 0);
+
+    // long queries are not cached
+    StringBuilder sb = new StringBuilder("SELECT ?");
+    while (sb.length() <= ParseCache.MAX_SQL_LENGTH) sb.append(" ");
+    String longSql = sb.toString();
+    assertNotSame(ClientParser.parameterParts(longSql), ClientParser.parameterParts(longSql));
+  }
 }
@@ -0,0 +1,94 @@
+// SPDX-License-Identifier: LGPL-2.1-or-later
+// Copyright (c) 2021-2023 SingleStore, Inc.
+
+package com.singlestore.jdbc.unit.util;
+
+import com.singlestore.jdbc.client.socket.impl.PacketWriter;
+import com.singlestore.jdbc.client.util.Parameter;
+import com.singlestore.jdbc.client.util.Parameters;
+import com.singlestore.jdbc.codec.IntParameter;
+import com.singlestore.jdbc.codec.LongParameter;
+import com.singlestore.jdbc.plugin.codec.ByteArrayCodec;
+import com.singlestore.jdbc.plugin.codec.StreamCodec;
+import com.singlestore.jdbc.plugin.codec.StringCodec;
+import com.singlestore.jdbc.util.EncodedBatchParameters;
+import com.singlestore.jdbc.util.ParameterList;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class EncodedBatchParametersTest {
+
+  private static ParameterList row(int i) {
+    ParameterList params = new ParameterList();
+    params.set(0, new IntParameter(i));
+    params.set(1, new LongParameter(-i * 1_000_000_007L));
+    params.set(
+        2,
+        i % 3 == 0
+            ? com.singlestore.jdbc.codec.Parameter.NULL_PARAMETER
+            : new com.singlestore.jdbc.codec.Parameter<>(StringCodec.INSTANCE, "it's " + i));
+    char[] big = new char[i % 200];
+    Arrays.fill(big, 'x');
+    params.set(
+        3, new com.singlestore.jdbc.codec.Parameter<>(StringCodec.INSTANCE, new String(big)));
+    params.set(
+        4, new com.singlestore.jdbc.codec.Parameter<>(ByteArrayCodec.INSTANCE, new byte[] {0, 1}));
+    return params;
+  }
+
+  private static byte[] encode(Parameters params, boolean binary) throws IOException, SQLException {
+    PacketWriter writer = new PacketWriter(null, 0, 0xffffff, null, null);
+    for (int i = 0; i < params.size(); i++) {
+      Parameter p = params.get(i);
+      writer.writeByte(p.getBinaryEncodeType());
+      writer.writeByte(p.isNull() ? 1 : 0);
+      if (binary) {
+        if (!p.isNull()) p.encodeBinary(writer);
+      } else {
+        p.encodeText(writer, null);
+      }
+    }
+    return Arrays.copyOf(writer.buf(), writer.pos());
+  }
+
+  @Test
+  public void sameEncoding() throws IOException, SQLException {
+    for (boolean binary : new boolean[] {false, true}) {
+      EncodedBatchParameters batch = new EncodedBatchParameters(null, binary);
+      List<Parameters> expected = new ArrayList<>();
+      for (int i = 0; i < 5000; i++) {
+        ParameterList params = row(i);
+        batch.add(params);
+        expected.add(params);
+      }
+      Assertions.assertEquals(expected.size(), batch.size());
+      for (int i = 0; i < expected.size(); i++) {
+        Assertions.assertEquals(expected.get(i).size(), batch.get(i).size());
+        Assertions.assertArrayEquals(
+            encode(expected.get(i), binary), encode(batch.get(i), binary), "row " + i);
+      }
+      batch.clear();
+      Assertions.assertEquals(0, batch.size());
+    }
+  }
+
+  @Test
+  public void streamKeptAsParameters() {
+    EncodedBatchParameters batch = new EncodedBatchParameters(null, true);
+    batch.add(row(1));
+    ParameterList params = row(2);
+    InputStream stream = new ByteArrayInputStream(new byte[] {1, 2, 3});
+    params.set(5, new com.singlestore.jdbc.codec.Parameter<>(StreamCodec.INSTANCE, stream));
+    batch.add(params);
+    batch.add(row(3));
+    Assertions.assertSame(params, batch.get(1));
+    Assertions.assertEquals(5, batch.get(2).size());
+  }
+}